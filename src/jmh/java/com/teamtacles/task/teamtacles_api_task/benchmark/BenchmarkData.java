@@ -0,0 +1,172 @@
+package com.teamtacles.task.teamtacles_api_task.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.service.ProjectServiceClient;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskJsonFragmentCache;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskSearchCache;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskService;
+import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.PagedResponseMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fixtures shared by the benchmarks: realistic task pages and a TaskService wired
+ * to in-process stubs instead of the database and the user/project services.
+ */
+final class BenchmarkData {
+
+    static final long PROJECT_ID = 10L;
+    static final int USER_POOL = 50;
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private BenchmarkData() {
+    }
+
+    static List<TaskEntity> tasks(int count, int responsibles) {
+        Status[] statuses = Status.values();
+        LocalDateTime baseDueDate = LocalDateTime.now().plusDays(30);
+        List<TaskEntity> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Long> responsibleIds = new ArrayList<>(responsibles);
+            for (int k = 0; k < responsibles; k++) {
+                responsibleIds.add((long) ((i + k) % USER_POOL) + 1);
+            }
+            TaskEntity task = new TaskEntity();
+            task.setId((long) i + 1);
+            task.setTitle("Task number " + i);
+            task.setDescription("Description of the task number " + i + ", long enough to look like a real one.");
+            task.setDueDate(baseDueDate.plusHours(i));
+            task.setStatus(statuses[i % statuses.length]);
+            task.setOwnerUserId(responsibleIds.get(0));
+            task.setResponsibleUserIds(responsibleIds);
+            task.setProjectId(PROJECT_ID);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static Map<Long, UserResponseDTO> users() {
+        Map<Long, UserResponseDTO> users = new HashMap<>();
+        for (long id = 1; id <= USER_POOL; id++) {
+            UserResponseDTO user = new UserResponseDTO();
+            user.setUserId(id);
+            user.setUserName("user" + id);
+            user.setEmail("user" + id + "@teamtacles.com");
+            users.put(id, user);
+        }
+        return users;
+    }
+
+    static ProjectResponseDTO project(Map<Long, UserResponseDTO> users) {
+        ProjectResponseDTO project = new ProjectResponseDTO();
+        project.setId(PROJECT_ID);
+        project.setTitle("Benchmark project");
+        project.setDescription("Project used by the benchmarks");
+        project.setCreator(users.get(1L));
+        project.setTeam(new ArrayList<>(users.values()));
+        return project;
+    }
+
+    static Page<TaskEntity> page(List<TaskEntity> tasks) {
+        return new PageImpl<>(tasks, PageRequest.of(0, tasks.size()), tasks.size() * 10L);
+    }
+
+    // Only the read paths are benchmarked: events are dropped, the counter, board and export collaborators are not needed,
+    // transactions are no-ops and the search cache expires its entries at once so every iteration runs the conversion.
+    static TaskService taskService(Page<TaskEntity> page, Map<Long, UserResponseDTO> users) {
+        ProjectResponseDTO project = project(users);
+        return new TaskService(repository(page), new StubUserServiceClient(users), new StubProjectServiceClient(project), new PagedResponseMapper(),
+                event -> { }, null, null, null, null, null, null,
+                new TaskSearchCache(1, Duration.ofNanos(1), Duration.ZERO, new SimpleMeterRegistry()),
+                new TaskJsonFragmentCache(OBJECT_MAPPER, DataSize.ofMegabytes(64), Duration.ofMinutes(10), new SimpleMeterRegistry()), null, null, null, null, null,
+                new NoTransactionManager());
+    }
+
+    /**
+     * Repository stub answering the read queries with the given page; any other call fails loudly.
+     */
+    static TaskRepository repository(Page<TaskEntity> page) {
+        Map<Long, TaskEntity> byId = new HashMap<>();
+        page.getContent().forEach(task -> byId.put(task.getId(), task));
+
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(), new Class<?>[] { TaskRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+                    case "findByProjectIdAndResponsibleUser", "findTasksFiltered", "findTasksFilteredByUser" -> page;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkTaskRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static final class NoTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    static final class StubUserServiceClient extends UserServiceClient {
+        private final Map<Long, UserResponseDTO> users;
+
+        StubUserServiceClient(Map<Long, UserResponseDTO> users) {
+            super(new RestTemplate());
+            this.users = users;
+        }
+
+        @Override
+        public UserResponseDTO getUserById(Long userId, String token) {
+            return users.get(userId);
+        }
+    }
+
+    static final class StubProjectServiceClient extends ProjectServiceClient {
+        private final ProjectResponseDTO project;
+
+        StubProjectServiceClient(ProjectResponseDTO project) {
+            super(new RestTemplate());
+            this.project = project;
+        }
+
+        @Override
+        public ProjectResponseDTO getProjectById(Long projectId, String token) {
+            return project;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.teamtacles.task.teamtacles_api_task.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskDtoMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Per-object cost of the DTO conversions: the reflective ModelMapper previously used on the
+ * request paths ("modelMapper*") against the explicit TaskDtoMapper ("handwritten*").
+ * Run with the gc profiler (default in the jmh profile) to compare gc.alloc.rate.norm per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private TaskEntity entity;
+    private ProjectResponseDTO project;
+    private TaskRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+
+        entity = new TaskEntity();
+        entity.setId(42L);
+        entity.setTitle("Implement User Authentication");
+        entity.setDescription("Develop and integrate the JWT-based authentication system.");
+        entity.setDueDate(LocalDateTime.now().plusDays(7));
+        entity.setStatus(Status.INPROGRESS);
+        entity.setOwnerUserId(1L);
+        entity.setResponsibleUserIds(List.of(1L, 2L, 3L));
+        entity.setProjectId(10L);
+
+        project = new ProjectResponseDTO();
+        project.setId(10L);
+        project.setTitle("New Feature Development");
+        project.setDescription("Developing and integrating the user authentication module.");
+
+        request = new TaskRequestDTO("Complete API Documentation", "Document all endpoints.", LocalDateTime.now().plusDays(3), List.of(2L, 3L));
+
+        // ModelMapper builds its type maps lazily on the first call; keep that out of the measurement
+        modelMapper.map(entity, TaskResponseDTO.class);
+        modelMapper.map(entity, TaskResponseFilteredDTO.class);
+        modelMapper.map(project, ProjectResponseFilteredDTO.class);
+        modelMapper.map(request, TaskEntity.class);
+    }
+
+    @Benchmark
+    public TaskResponseDTO modelMapperTaskResponse() {
+        return modelMapper.map(entity, TaskResponseDTO.class);
+    }
+
+    @Benchmark
+    public TaskResponseDTO handwrittenTaskResponse() {
+        return TaskDtoMapper.toResponseDto(entity);
+    }
+
+    @Benchmark
+    public TaskResponseFilteredDTO modelMapperTaskFiltered() {
+        return modelMapper.map(entity, TaskResponseFilteredDTO.class);
+    }
+
+    @Benchmark
+    public TaskResponseFilteredDTO handwrittenTaskFiltered() {
+        return TaskDtoMapper.toFilteredDto(entity);
+    }
+
+    @Benchmark
+    public ProjectResponseFilteredDTO modelMapperProjectFiltered() {
+        return modelMapper.map(project, ProjectResponseFilteredDTO.class);
+    }
+
+    @Benchmark
+    public ProjectResponseFilteredDTO handwrittenProjectFiltered() {
+        return TaskDtoMapper.toProjectFilteredDto(project);
+    }
+
+    @Benchmark
+    public TaskEntity modelMapperRequestToEntity() {
+        return modelMapper.map(request, TaskEntity.class);
+    }
+
+    @Benchmark
+    public TaskEntity handwrittenRequestToEntity() {
+        return TaskDtoMapper.toEntity(request);
+    }
+}
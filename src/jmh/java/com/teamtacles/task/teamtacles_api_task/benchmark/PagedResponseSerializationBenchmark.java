@@ -0,0 +1,73 @@
+package com.teamtacles.task.teamtacles_api_task.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.PagedResponse;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskDtoMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Jackson serialization of an enriched PagedResponse of TaskResponseDTO, as written by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagedResponseSerializationBenchmark {
+
+    @Param({ "20", "100", "500" })
+    public int tasks;
+
+    @Param({ "1", "5", "10" })
+    public int responsibles;
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<TaskResponseDTO> response;
+
+    @Setup
+    public void setUp() {
+        // same defaults as the ObjectMapper auto-configured by Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Map<Long, UserResponseDTO> users = BenchmarkData.users();
+        List<TaskResponseDTO> content = new ArrayList<>(tasks);
+        for (TaskEntity entity : BenchmarkData.tasks(tasks, responsibles)) {
+            TaskResponseDTO dto = TaskDtoMapper.toResponseDto(entity);
+            dto.setOwner(users.get(entity.getOwnerUserId()));
+            List<UserResponseDTO> responsibleUsers = new ArrayList<>();
+            for (Long id : entity.getResponsibleUserIds()) {
+                responsibleUsers.add(users.get(id));
+            }
+            dto.setUsersResponsability(responsibleUsers);
+            content.add(dto);
+        }
+        response = new PagedResponse<>(content, 0, tasks, tasks * 10L, 10, false);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamtacles.task.teamtacles_api_task.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.Task;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Entity/domain conversions of a whole page through TaskMapper, and the cost of holding and checking the
+ * responsibles of a page (the exec:exec run adds -prof gc, whose gc.alloc.rate.norm is the allocation per page):
+ * - responsiblesBoxed: the previous representation, a validated List.copyOf of the boxed IDs, checked with List.contains;
+ * - responsiblesPrimitive: ResponsibleUserIds, a sorted long[], checked with a binary search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({ "20", "100", "500", "2000" })
+    public int tasks;
+
+    @Param({ "1", "5", "10" })
+    public int responsibles;
+
+    private List<TaskEntity> entities;
+    private List<Task> domainTasks;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkData.tasks(tasks, responsibles);
+        domainTasks = new ArrayList<>(entities.size());
+        for (TaskEntity entity : entities) {
+            domainTasks.add(TaskMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (TaskEntity entity : entities) {
+            blackhole.consume(TaskMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (Task task : domainTasks) {
+            blackhole.consume(TaskMapper.toEntity(task));
+        }
+    }
+
+    @Benchmark
+    public void responsiblesBoxed(Blackhole blackhole) {
+        for (TaskEntity entity : entities) {
+            List<Long> ids = entity.getResponsibleUserIds();
+            if (ids.stream().anyMatch(id -> id == null || id <= 0)) {
+                throw new IllegalArgumentException("Invalid IDs");
+            }
+            List<Long> responsibles = List.copyOf(ids);
+            blackhole.consume(responsibles.contains(entity.getOwnerUserId()));
+            blackhole.consume(responsibles.contains((long) BenchmarkData.USER_POOL));
+        }
+    }
+
+    @Benchmark
+    public void responsiblesPrimitive(Blackhole blackhole) {
+        for (TaskEntity entity : entities) {
+            ResponsibleUserIds responsibles = ResponsibleUserIds.of(entity.getResponsibleUserIds());
+            blackhole.consume(responsibles.contains(entity.getOwnerUserId()));
+            blackhole.consume(responsibles.contains(BenchmarkData.USER_POOL));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamtacles.task.teamtacles_api_task.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.PagedResponse;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskService;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.PagedResponseMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskDtoMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Read path of the task listings with the database and the remote services stubbed in-process:
+ * - listTasksOfUser: TaskService.getAllTasksFromUserInProject, i.e. convertToDto (with enrichment) for the whole page;
+ * - listTasksOfUserSerialized / listTasksOfUserFromFragments: the same listing written to JSON bytes, built from DTOs
+ *   or assembled from the cached JSON fragments (all hits after the first invocation);
+ * - getTaskById: a single convertToDto;
+ * - pagedResponse: PagedResponseMapper.toPagedResponse with the plain DTO mapping only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadPathBenchmark {
+
+    private static final List<String> ADMIN_ROLES = List.of("ROLE_ADMIN");
+    private static final String TOKEN = "benchmark-token";
+
+    @Param({ "20", "100", "500" })
+    public int tasks;
+
+    @Param({ "1", "5", "10" })
+    public int responsibles;
+
+    private TaskService taskService;
+    private PagedResponseMapper pagedResponseMapper;
+    private Page<TaskEntity> page;
+
+    @Setup
+    public void setUp() {
+        Map<Long, UserResponseDTO> users = BenchmarkData.users();
+        page = BenchmarkData.page(BenchmarkData.tasks(tasks, responsibles));
+        taskService = BenchmarkData.taskService(page, users);
+        pagedResponseMapper = new PagedResponseMapper();
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponseDTO> listTasksOfUser() {
+        return taskService.getAllTasksFromUserInProject(Pageable.ofSize(tasks), BenchmarkData.PROJECT_ID, 1L, 1L, ADMIN_ROLES, TOKEN);
+    }
+
+    @Benchmark
+    public byte[] listTasksOfUserSerialized() throws JsonProcessingException {
+        return BenchmarkData.OBJECT_MAPPER.writeValueAsBytes(listTasksOfUser());
+    }
+
+    @Benchmark
+    public byte[] listTasksOfUserFromFragments() throws JsonProcessingException {
+        return BenchmarkData.OBJECT_MAPPER.writeValueAsBytes(
+                taskService.getAllTasksFromUserInProjectAsJson(Pageable.ofSize(tasks), BenchmarkData.PROJECT_ID, 1L, 1L, ADMIN_ROLES, TOKEN));
+    }
+
+    @Benchmark
+    public TaskResponseDTO getTaskById() {
+        return taskService.getTasksById(BenchmarkData.PROJECT_ID, 1L, 1L, ADMIN_ROLES, TOKEN);
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponseDTO> pagedResponse() {
+        return pagedResponseMapper.toPagedResponse(page, TaskDtoMapper::toResponseDto);
+    }
+}
@@ -0,0 +1,121 @@
+package com.teamtacles.task.teamtacles_api_task.application.archive;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.TaskArchiveProperties;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskArchiveRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Moves the DONE tasks whose latest change is older than task-archive.retention to the archive tables, so the
+ * hot tasks table, its indexes and the searches over it only carry the tasks still in use.
+ *
+ * Each batch of task-archive.batch-size tasks is moved in its own short transaction, which also publishes an
+ * ARCHIVED change per task: the change feed and the outbox record it, and the caches and in-memory indexes drop
+ * the tasks as they would deleted ones. The status counters keep counting archived tasks. Archived tasks stay
+ * readable by ID and in the searches that include the archive, but can no longer be changed.
+ *
+ * Off by default. Safe to run on several instances at once: the tasks of a batch are locked and re-checked
+ * before they are moved, so a task is never moved twice nor moved after being reopened.
+ *
+ * Metrics: task.archive.tasks.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskArchiveProperties properties;
+    private final TaskArchiveRepository archiveRepository;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Counter archivedTasks;
+    private final Clock clock;
+
+    @Autowired
+    public TaskArchiver(TaskArchiveProperties properties, TaskArchiveRepository archiveRepository, PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher, EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this(properties, archiveRepository, transactionManager, eventPublisher, entityManagerFactory, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    TaskArchiver(TaskArchiveProperties properties, TaskArchiveRepository archiveRepository, PlatformTransactionManager transactionManager,
+                 ApplicationEventPublisher eventPublisher, EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.archiveRepository = archiveRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.archivedTasks = Counter.builder("task.archive.tasks")
+                .description("DONE tasks moved to the archive tables")
+                .register(meterRegistry);
+        this.clock = clock;
+    }
+
+    /**
+     * Archives the eligible tasks in batches, until none is left or the batch limit is reached.
+     *
+     * @return The number of tasks archived.
+     */
+    @Scheduled(cron = "${task-archive.cron:0 15 4 * * *}")
+    public int archive() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(properties.getRetention());
+        long afterId = 0;
+        int archived = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> candidates = archiveRepository.findArchivable(cutoff, afterId, properties.getBatchSize());
+            if (candidates.isEmpty()) {
+                break;
+            }
+            List<TaskEntity> moved = batchTransaction.execute(status -> moveBatch(candidates, now));
+            // as linhas saíram por JDBC: o cache de segundo nível não pode continuar a devolvê-las
+            moved.forEach(task -> entityManagerFactory.getCache().evict(TaskEntity.class, task.getId()));
+            archived += moved.size();
+            afterId = candidates.get(candidates.size() - 1);
+            if (candidates.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            archivedTasks.increment(archived);
+            logger.info("Archived {} DONE tasks last changed before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private List<TaskEntity> moveBatch(List<Long> candidates, LocalDateTime now) {
+        List<TaskEntity> moved = archiveRepository.move(candidates, now);
+        if (!moved.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(moved.stream()
+                    .map(task -> TaskChange.archived(TaskSnapshot.of(task)))
+                    .toList()));
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,28 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkStatusRequestDTO {
+    @Schema(description = "The IDs of the tasks to change, all from the project of the request. Repeated IDs are handled once.", example = "[12, 15, 21]", type = "array", required = true)
+    @NotEmpty(message = "At least one task ID must be given")
+    @Size(max = 1000, message = "At most 1000 tasks can be changed at once")
+    private List<@NotNull(message = "Task IDs must not be null") Long> taskIds = new ArrayList<>();
+
+    @Schema(description = "The status to set on the tasks. Allowed values are based on the Task Status enum.", example = "DONE", required = true)
+    @NotNull(message = "The status must not be null")
+    private Status status;
+}
@@ -0,0 +1,24 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.util.List;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBoardColumnDTO {
+    @Schema(description = "The status of the tasks in this column.", example = "TODO")
+    private Status status;
+
+    @Schema(description = "Total number of tasks with this status, including the ones not returned.", example = "42")
+    private long total;
+
+    @Schema(description = "The first tasks of the column, ordered by due date.", type = "array")
+    private List<TaskResponseDTO> tasks;
+}
@@ -0,0 +1,19 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBoardDTO {
+    @Schema(description = "The project of the board.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "One column per task status, in workflow order.", type = "array")
+    private List<TaskBoardColumnDTO> columns;
+}
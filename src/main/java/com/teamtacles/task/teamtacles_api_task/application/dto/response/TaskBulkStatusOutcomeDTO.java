@@ -0,0 +1,20 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkStatusOutcomeDTO {
+    @Schema(description = "The ID of the task.", example = "12")
+    private Long taskId;
+
+    @Schema(description = "What happened to the task: UPDATED, UNCHANGED (it already had the status), NOT_FOUND (not in the project) or FORBIDDEN.", example = "UPDATED")
+    private String outcome;
+
+    @Schema(description = "The version of the task after the request; absent when the task was not found or is forbidden.", example = "4")
+    private Long version;
+}
@@ -0,0 +1,24 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.util.List;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkStatusResultDTO {
+    @Schema(description = "The status that was requested.", example = "DONE")
+    private Status status;
+
+    @Schema(description = "Number of tasks whose status was changed.", example = "2")
+    private int updated;
+
+    @Schema(description = "The outcome of every requested task, in the order of the request.", type = "array")
+    private List<TaskBulkStatusOutcomeDTO> outcomes;
+}
@@ -0,0 +1,31 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskChangeDTO {
+    @Schema(description = "ID of the changed task.", example = "15")
+    private Long taskId;
+
+    @Schema(description = "Sequence number of the change within the project.", example = "1042")
+    private long changeSeq;
+
+    @Schema(description = "The latest kind of change of the task.", example = "UPDATED")
+    private String changeType;
+
+    @Schema(description = "When the change was recorded.", example = "2026-10-19T14:30:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "True when the task was deleted or archived, or is no longer visible to the user; the client should remove it.", example = "false")
+    private boolean deleted;
+
+    @Schema(description = "The current state of the task; null for deleted tasks.")
+    private TaskResponseDTO task;
+}
@@ -0,0 +1,25 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskChangesDTO {
+    @Schema(description = "ID of the project.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Cursor to send as 'since' in the next request.", example = "1042")
+    private long cursor;
+
+    @Schema(description = "True when more changes are available after the cursor.", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "The changes after the requested cursor, in sequence order.", type = "array")
+    private List<TaskChangeDTO> changes;
+}
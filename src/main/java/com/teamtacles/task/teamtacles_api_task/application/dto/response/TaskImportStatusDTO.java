@@ -0,0 +1,44 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportStatusDTO {
+    @Schema(description = "The identifier of the import, used to poll its progress.", example = "5f0c6a7e-2b1d-4c1e-9a53-0d1e2f3a4b5c")
+    private String importId;
+
+    @Schema(description = "The project the tasks are imported into.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "The state of the import: QUEUED, RUNNING, COMPLETED or FAILED.", example = "RUNNING")
+    private String state;
+
+    @Schema(description = "Number of records read from the file so far.", example = "25000")
+    private long rowsRead;
+
+    @Schema(description = "Number of tasks created so far.", example = "24990")
+    private long imported;
+
+    @Schema(description = "Number of records rejected so far.", example = "10")
+    private long failed;
+
+    @Schema(description = "The first row errors, with their line numbers.", type = "array")
+    private List<String> errors;
+
+    @Schema(description = "The reason the import stopped, when the state is FAILED. The tasks counted in imported before it stopped stay imported.")
+    private String failure;
+
+    @Schema(description = "When the import was received.")
+    private Instant createdAt;
+
+    @Schema(description = "When the import finished, if it has.")
+    private Instant finishedAt;
+}
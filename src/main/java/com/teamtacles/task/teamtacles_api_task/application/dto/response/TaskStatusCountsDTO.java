@@ -0,0 +1,27 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.util.Map;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatusCountsDTO {
+    @Schema(description = "The project the counts refer to.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "The responsible user the counts are restricted to, or null for the whole project.", example = "42")
+    private Long userId;
+
+    @Schema(description = "Number of tasks per status. Every status is present, with 0 when there are no tasks.")
+    private Map<Status, Long> counts;
+
+    @Schema(description = "Total number of tasks.", example = "17")
+    private long total;
+}
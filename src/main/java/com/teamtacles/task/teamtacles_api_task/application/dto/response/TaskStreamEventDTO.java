@@ -0,0 +1,43 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStreamEventDTO {
+    @Schema(description = "The kind of change: CREATED, UPDATED, STATUS_CHANGED, DELETED or ARCHIVED, or a due date event: DUE_SOON or OVERDUE.", example = "STATUS_CHANGED")
+    private String type;
+
+    @Schema(description = "ID of the changed task.", example = "101")
+    private Long taskId;
+
+    @Schema(description = "ID of the project of the task.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "The title of the task; null for deleted tasks.", example = "Implement User Authentication")
+    private String title;
+
+    @Schema(description = "The description of the task; null for deleted tasks.")
+    private String description;
+
+    @Schema(description = "The due date of the task; null for deleted tasks.", example = "2024-12-31T23:59:59", type = "string", format = "date-time")
+    private LocalDateTime dueDate;
+
+    @Schema(description = "The status of the task; null for deleted tasks.", example = "DONE")
+    private Status status;
+
+    @Schema(description = "ID of the owner of the task; null for deleted tasks.", example = "2")
+    private Long ownerUserId;
+
+    @Schema(description = "IDs of the responsible users; null for deleted tasks.", type = "array")
+    private List<Long> responsibleUserIds;
+}
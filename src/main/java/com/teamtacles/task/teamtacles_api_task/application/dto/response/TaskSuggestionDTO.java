@@ -0,0 +1,17 @@
+package com.teamtacles.task.teamtacles_api_task.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSuggestionDTO {
+    @Schema(description = "The ID of the suggested task.", example = "1")
+    private Long id;
+
+    @Schema(description = "The title of the suggested task.", example = "Quarterly report")
+    private String title;
+}
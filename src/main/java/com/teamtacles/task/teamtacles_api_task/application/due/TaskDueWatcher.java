@@ -0,0 +1,252 @@
+package com.teamtacles.task.teamtacles_api_task.application.due;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskDueEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.TaskDueProperties;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publishes a TaskDueEvent when an open task is about to be due (DUE_SOON, task-due.due-soon-lead before its
+ * due date) and when it becomes overdue (OVERDUE), without scanning the tasks table on every check.
+ *
+ * The open tasks due within task-due.horizon are loaded into a hierarchical TimingWheel; the window is extended
+ * with an indexed range query once half of it has passed. Committed task changes reschedule, or drop, the
+ * tasks they touch. Every tick then only empties the current slot of the wheel. Deadlines are never removed
+ * from the wheel: each one carries the generation of its task's schedule and is ignored when it fires if the
+ * task was completed, deleted or rescheduled since.
+ *
+ * Only deadlines reached while the watcher runs are published: after a restart, tasks that became overdue
+ * while it was down are not announced (they are listed by /tasks/overdue). It is per instance and off by
+ * default; enable it on a single instance. The events are written to the outbox and pushed to the task streams.
+ *
+ * Metrics: task.due.events (type=DUE_SOON|OVERDUE) and task.due.tracked.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskDueWatcher {
+
+    private record Deadline(Long taskId, TaskDueEvent.Type type, long generation) {
+    }
+
+    private record Tracked(TaskSnapshot task, long generation) {
+    }
+
+    private final TaskDueProperties properties;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long tickMillis;
+    private final Map<TaskDueEvent.Type, Counter> published = new EnumMap<>(TaskDueEvent.Type.class);
+
+    // estado guardado pelo monitor deste objeto
+    private final Map<Long, Tracked> tracked = new HashMap<>();
+    private TimingWheel<Deadline> wheel;
+    private LocalDateTime loadedUntil;
+    // não nulo durante um carregamento: tarefas alteradas nesse meio tempo, cujo estado lido pode estar velho
+    private Set<Long> changedDuringLoad;
+    private long generations;
+
+    @Autowired
+    public TaskDueWatcher(TaskDueProperties properties, TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this(properties, taskRepository, transactionManager, eventPublisher, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    TaskDueWatcher(TaskDueProperties properties, TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                   ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.taskRepository = taskRepository;
+        // transação de escrita: com réplica, a janela é lida do primário e não perde mudanças já publicadas
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.tickMillis = properties.getTick().toMillis();
+        for (TaskDueEvent.Type type : TaskDueEvent.Type.values()) {
+            published.put(type, Counter.builder("task.due.events")
+                    .tag("type", type.name())
+                    .description("Due date events published by the due date watcher")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("task.due.tracked", this, TaskDueWatcher::trackedCount).register(meterRegistry);
+    }
+
+    /**
+     * Advances the wheel to the current time and publishes the events of the deadlines reached, extending the
+     * window of loaded tasks first when half of it has passed.
+     */
+    @Scheduled(fixedRateString = "${task-due.tick:1s}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (loadedUntil == null || !now.plus(properties.getHorizon().dividedBy(2)).isBefore(loadedUntil)) {
+            extendWindow(now);
+        }
+
+        List<TaskDueEvent> events = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(floorTick(now), deadline -> {
+                TaskDueEvent event = resolve(deadline, now);
+                if (event != null) {
+                    events.add(event);
+                }
+            });
+        }
+        // publica fora do monitor: os listeners escrevem no banco e nos streams
+        for (TaskDueEvent event : events) {
+            eventPublisher.publishEvent(event);
+            published.get(event.type()).increment();
+        }
+    }
+
+    /**
+     * Reschedules or drops the tasks touched by committed changes.
+     *
+     * @param event The committed task changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (wheel == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (TaskChange change : event.changes()) {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(change.taskId());
+            }
+            if (change.after() == null) {
+                tracked.remove(change.taskId());
+            } else if (!isOlder(change.after(), tracked.get(change.taskId()))) {
+                track(change.after(), now, true);
+            }
+        }
+    }
+
+    synchronized int trackedCount() {
+        return tracked.size();
+    }
+
+    private void extendWindow(LocalDateTime now) {
+        LocalDateTime from;
+        LocalDateTime to = now.plus(properties.getHorizon());
+        synchronized (this) {
+            if (wheel == null) {
+                wheel = new TimingWheel<>(floorTick(now));
+            }
+            from = loadedUntil != null ? loadedUntil : now;
+            // a janela vale já para as mudanças que chegarem durante a leitura
+            loadedUntil = to;
+            changedDuringLoad = new HashSet<>();
+        }
+
+        List<TaskSnapshot> tasks;
+        try {
+            tasks = primaryTransaction.execute(status -> taskRepository.findOpenTasksDueBetween(from, to).stream()
+                    .map(TaskSnapshot::of)
+                    .toList());
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                loadedUntil = from;
+                changedDuringLoad = null;
+            }
+            throw ex;
+        }
+
+        synchronized (this) {
+            for (TaskSnapshot task : tasks) {
+                if (!changedDuringLoad.contains(task.id())) {
+                    track(task, now, false);
+                }
+            }
+            changedDuringLoad = null;
+        }
+    }
+
+    /**
+     * Schedules the deadlines of a task, unless they are already scheduled for its due date.
+     *
+     * @param announceLate Whether a DUE_SOON moment already passed is announced at the next tick (for changes)
+     *                     or skipped (for loads, which would otherwise repeat it after every restart).
+     */
+    private void track(TaskSnapshot task, LocalDateTime now, boolean announceLate) {
+        Tracked current = tracked.get(task.id());
+        if (task.status() == Status.DONE || !task.dueDate().isAfter(now) || task.dueDate().isAfter(loadedUntil)) {
+            tracked.remove(task.id());
+            return;
+        }
+        if (current != null && current.task().dueDate().equals(task.dueDate())) {
+            tracked.put(task.id(), new Tracked(task, current.generation()));
+            return;
+        }
+
+        long generation = ++generations;
+        tracked.put(task.id(), new Tracked(task, generation));
+        wheel.schedule(new Deadline(task.id(), TaskDueEvent.Type.OVERDUE, generation), ceilTick(task.dueDate()));
+        long dueSoonTick = ceilTick(task.dueDate().minus(properties.getDueSoonLead()));
+        if (dueSoonTick <= wheel.currentTick() && announceLate) {
+            dueSoonTick = wheel.currentTick() + 1;
+        }
+        wheel.schedule(new Deadline(task.id(), TaskDueEvent.Type.DUE_SOON, generation), dueSoonTick);
+    }
+
+    private TaskDueEvent resolve(Deadline deadline, LocalDateTime now) {
+        Tracked current = tracked.get(deadline.taskId());
+        if (current == null || current.generation() != deadline.generation()) {
+            return null;
+        }
+        if (deadline.type() == TaskDueEvent.Type.OVERDUE) {
+            tracked.remove(deadline.taskId());
+        }
+        return new TaskDueEvent(deadline.type(), current.task(), now);
+    }
+
+    // eventos AFTER_COMMIT de transações concorrentes podem chegar fora de ordem
+    private static boolean isOlder(TaskSnapshot task, Tracked current) {
+        return current != null && current.task().version() != null && task.version() != null
+                && task.version() < current.task().version();
+    }
+
+    private long floorTick(LocalDateTime dateTime) {
+        return Math.floorDiv(epochMillis(dateTime), tickMillis);
+    }
+
+    // arredonda para cima: um prazo nunca dispara antes da hora
+    private long ceilTick(LocalDateTime dateTime) {
+        return -Math.floorDiv(-epochMillis(dateTime), tickMillis);
+    }
+
+    private long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,126 @@
+package com.teamtacles.task.teamtacles_api_task.application.due;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: LEVELS wheels of SLOTS slots, where a slot of level n spans SLOTS^n ticks.
+ *
+ * An item is placed on the lowest level whose current revolution contains its deadline, so scheduling is O(1).
+ * Each tick empties one slot of level 0; when a level completes a revolution, the next slot of the level above
+ * is cascaded down, so every item is moved at most once per level. Items beyond the reach of the top level
+ * wait in an overflow list that is re-placed whenever the top level wraps.
+ *
+ * Not thread-safe; the owner synchronizes access.
+ *
+ * @param <T> The type of the scheduled items.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class TimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+
+    private final List<List<ArrayDeque<Entry<T>>>> levels = new ArrayList<>(LEVELS);
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param startTick The tick the wheel starts at; ticks are any monotonic unit chosen by the owner.
+     */
+    TimingWheel(long startTick) {
+        for (int level = 0; level < LEVELS; level++) {
+            List<ArrayDeque<Entry<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+            levels.add(slots);
+        }
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules an item.
+     *
+     * @param item The item.
+     * @param deadlineTick The tick at which the item expires.
+     * @return false, without scheduling it, if the deadline is not after the current tick.
+     */
+    boolean schedule(T item, long deadlineTick) {
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(deadlineTick, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward, one tick at a time, handing over the items that expire.
+     *
+     * @param toTick The tick to advance to; ticks already passed are ignored.
+     * @param expired Receives each expired item, in tick order.
+     */
+    void advance(long toTick, Consumer<T> expired) {
+        while (currentTick < toTick) {
+            currentTick++;
+            cascade(1);
+            ArrayDeque<Entry<T>> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            while (!slot.isEmpty()) {
+                size--;
+                expired.accept(slot.poll().item());
+            }
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Ao completar uma volta do nível abaixo, desce o próximo slot deste nível (e, em cadeia, dos de cima)
+    private void cascade(int level) {
+        long shift = (long) SLOT_BITS * level;
+        if ((currentTick & ((1L << shift) - 1)) != 0) {
+            return;
+        }
+        if (level == LEVELS) {
+            List<Entry<T>> waiting = new ArrayList<>(overflow);
+            overflow.clear();
+            waiting.forEach(this::place);
+            return;
+        }
+        cascade(level + 1);
+        ArrayDeque<Entry<T>> slot = levels.get(level).get((int) ((currentTick >>> shift) & SLOT_MASK));
+        List<Entry<T>> moved = new ArrayList<>(slot);
+        slot.clear();
+        moved.forEach(this::place);
+    }
+
+    private void place(Entry<T> entry) {
+        long deadline = Math.max(entry.deadlineTick(), currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            long revolution = (long) SLOT_BITS * (level + 1);
+            if ((deadline >>> revolution) == (currentTick >>> revolution)) {
+                levels.get(level).get((int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK)).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.teamtacles.task.teamtacles_api_task.application.event;
+
+/**
+ * Kind of change applied to a task.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    // movida para as tabelas de arquivo: some da tabela quente, mas continua legível
+    ARCHIVED
+}
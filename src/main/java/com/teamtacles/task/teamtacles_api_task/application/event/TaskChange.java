@@ -0,0 +1,46 @@
+package com.teamtacles.task.teamtacles_api_task.application.event;
+
+/**
+ * A single change to a task: its state before and after the change.
+ * before is null for CREATED and after is null for DELETED and ARCHIVED.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TaskChange(ChangeType type, TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChange created(TaskSnapshot after) {
+        return new TaskChange(ChangeType.CREATED, null, after);
+    }
+
+    public static TaskChange updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChange(ChangeType.UPDATED, before, after);
+    }
+
+    public static TaskChange statusChanged(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChange(ChangeType.STATUS_CHANGED, before, after);
+    }
+
+    public static TaskChange deleted(TaskSnapshot before) {
+        return new TaskChange(ChangeType.DELETED, before, null);
+    }
+
+    public static TaskChange archived(TaskSnapshot before) {
+        return new TaskChange(ChangeType.ARCHIVED, before, null);
+    }
+
+    /**
+     * @return The ID of the changed task.
+     */
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    /**
+     * @return The project of the changed task.
+     */
+    public Long projectId() {
+        return after != null ? after.projectId() : before.projectId();
+    }
+}
@@ -0,0 +1,27 @@
+package com.teamtacles.task.teamtacles_api_task.application.event;
+
+import java.util.List;
+
+/**
+ * Published by the TaskService for every write, inside the transaction of the write.
+ *
+ * Listeners that must stay consistent with the tasks table (counters, logs) use @EventListener and run in
+ * that transaction; listeners that only react to committed data use
+ * @TransactionalEventListener(phase = AFTER_COMMIT). Bulk operations publish one event with all their changes.
+ *
+ * @param changes The changes, in the order they were applied.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TaskChangedEvent(List<TaskChange> changes) {
+
+    public TaskChangedEvent {
+        changes = List.copyOf(changes);
+    }
+
+    public static TaskChangedEvent of(TaskChange change) {
+        return new TaskChangedEvent(List.of(change));
+    }
+}
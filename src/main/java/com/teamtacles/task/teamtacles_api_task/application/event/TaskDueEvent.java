@@ -0,0 +1,27 @@
+package com.teamtacles.task.teamtacles_api_task.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the TaskDueWatcher when an open task is about to be due or has become overdue.
+ *
+ * Unlike TaskChangedEvent it is not tied to a write: it is published outside any transaction, and the task is
+ * not changed by it.
+ *
+ * @param type DUE_SOON or OVERDUE.
+ * @param task The task, as last seen by the watcher.
+ * @param occurredAt When the watcher noticed it.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TaskDueEvent(Type type, TaskSnapshot task, LocalDateTime occurredAt) {
+
+    public enum Type {
+        /** The task is due within task-due.due-soon-lead. */
+        DUE_SOON,
+        /** The due date has passed and the task is not DONE. */
+        OVERDUE
+    }
+}
@@ -0,0 +1,51 @@
+package com.teamtacles.task.teamtacles_api_task.application.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Immutable copy of the state of a task at one point in time.
+ * Listeners receive snapshots rather than entities, so later changes to a managed entity do not leak into events.
+ * version is the entity version when the snapshot was taken; it is not serialized, since snapshots taken before
+ * the flush still carry the previous version.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TaskSnapshot(Long id, Long projectId, String title, String description, LocalDateTime dueDate,
+                           Status status, Long ownerUserId, List<Long> responsibleUserIds, @JsonIgnore Long version) {
+
+    public TaskSnapshot(Long id, Long projectId, String title, String description, LocalDateTime dueDate,
+                        Status status, Long ownerUserId, List<Long> responsibleUserIds) {
+        this(id, projectId, title, description, dueDate, status, ownerUserId, responsibleUserIds, null);
+    }
+
+    public static TaskSnapshot of(TaskEntity entity) {
+        List<Long> responsibles = entity.getResponsibleUserIds() != null
+                ? Collections.unmodifiableList(new ArrayList<>(entity.getResponsibleUserIds()))
+                : List.of();
+        return new TaskSnapshot(entity.getId(), entity.getProjectId(), entity.getTitle(), entity.getDescription(),
+                entity.getDueDate(), entity.getStatus(), entity.getOwnerUserId(), responsibles, entity.getVersion());
+    }
+
+    /**
+     * @return A new, detached entity with this state; changes to it do not affect the snapshot.
+     */
+    public TaskEntity toEntity() {
+        return new TaskEntity(id, title, description, dueDate, status, ownerUserId, new ArrayList<>(responsibleUserIds), projectId, version);
+    }
+
+    /**
+     * @return The distinct responsible user IDs, ignoring nulls, in first-seen order.
+     */
+    public List<Long> distinctResponsibleUserIds() {
+        return responsibleUserIds.stream().filter(id -> id != null).distinct().toList();
+    }
+}
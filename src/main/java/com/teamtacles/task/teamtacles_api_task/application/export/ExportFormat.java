@@ -0,0 +1,43 @@
+package com.teamtacles.task.teamtacles_api_task.application.export;
+
+/**
+ * Formats of the task export.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @param value The format name, case-insensitive.
+     * @return The matching format.
+     * @throws IllegalArgumentException if the format is not supported.
+     */
+    public static ExportFormat fromString(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format: " + value + ". Supported formats: ndjson, csv.");
+    }
+}
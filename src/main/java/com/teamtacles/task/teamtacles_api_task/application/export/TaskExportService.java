@@ -0,0 +1,97 @@
+package com.teamtacles.task.teamtacles_api_task.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskDtoMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskExportRepository;
+
+/**
+ * Service writing the export of a project's tasks to an output stream.
+ *
+ * Tasks are streamed from the database, enriched and written one at a time. The owner and responsible users
+ * are resolved through a small per-export cache with a fixed maximum size, so memory stays constant however
+ * many tasks and users the project has. Authorization is checked by the caller before the export starts.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+public class TaskExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private final TaskExportRepository taskExportRepository;
+    private final UserServiceClient userServiceClient;
+    private final ObjectWriter jsonWriter;
+    private final int userCacheSize;
+
+    public TaskExportService(TaskExportRepository taskExportRepository, UserServiceClient userServiceClient, ObjectMapper objectMapper,
+                             @Value("${task-export.user-cache-size:1000}") int userCacheSize) {
+        this.taskExportRepository = taskExportRepository;
+        this.userServiceClient = userServiceClient;
+        this.jsonWriter = objectMapper.writerFor(TaskResponseDTO.class);
+        this.userCacheSize = userCacheSize;
+    }
+
+    /**
+     * Writes the tasks of a project to the output.
+     *
+     * @param projectId The project to export.
+     * @param userId Restricts the export to the user's tasks; null to export all tasks.
+     * @param format The output format.
+     * @param gzip Whether to gzip the output.
+     * @param output The stream to write to; it is not closed.
+     * @param token The JWT token for the user service calls.
+     * @throws IOException if writing to the output fails.
+     */
+    public void export(Long projectId, Long userId, ExportFormat format, boolean gzip, OutputStream output, String token) throws IOException {
+        Cache<Long, UserResponseDTO> users = Caffeine.newBuilder().maximumSize(userCacheSize).build();
+        OutputStream target = gzip ? new GZIPOutputStream(output, 8192) : output;
+
+        TaskExportWriter writer = new TaskExportWriter(format, jsonWriter, target);
+        int[] written = new int[1];
+        taskExportRepository.streamProjectTasks(projectId, userId, task -> {
+            writer.write(toDto(task, users, token));
+            if (++written[0] % FLUSH_EVERY == 0) {
+                flush(writer);
+            }
+        });
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        output.flush();
+    }
+
+    private TaskResponseDTO toDto(TaskEntity task, Cache<Long, UserResponseDTO> users, String token) {
+        TaskResponseDTO dto = TaskDtoMapper.toResponseDto(task);
+        dto.setOwner(users.get(task.getOwnerUserId(), id -> userServiceClient.getUserById(id, token)));
+        dto.setUsersResponsability(task.getResponsibleUserIds().stream()
+                .map(responsibleId -> users.get(responsibleId, id -> userServiceClient.getUserById(id, token)))
+                .toList());
+        return dto;
+    }
+
+    private static void flush(TaskExportWriter writer) {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
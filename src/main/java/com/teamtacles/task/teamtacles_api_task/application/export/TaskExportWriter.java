@@ -0,0 +1,94 @@
+package com.teamtacles.task.teamtacles_api_task.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+
+/**
+ * Writes exported tasks one record at a time, as NDJSON (one TaskResponseDTO per line) or CSV.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TaskExportWriter implements AutoCloseable {
+
+    static final String CSV_HEADER = "id,title,description,dueDate,status,ownerId,ownerUserName,responsibleIds,responsibleUserNames";
+
+    private final ExportFormat format;
+    private final ObjectWriter jsonWriter;
+    private final Writer writer;
+
+    public TaskExportWriter(ExportFormat format, ObjectWriter jsonWriter, OutputStream output) throws IOException {
+        this.format = format;
+        this.jsonWriter = jsonWriter;
+        this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(TaskResponseDTO task) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(jsonWriter.writeValueAsString(task));
+            } else {
+                writeCsv(task);
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeCsv(TaskResponseDTO task) throws IOException {
+        List<UserResponseDTO> responsibles = task.getUsersResponsability();
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writer.write(csv(task.getTitle()));
+        writer.write(',');
+        writer.write(csv(task.getDescription()));
+        writer.write(',');
+        writer.write(task.getDueDate() != null ? task.getDueDate().toString() : "");
+        writer.write(',');
+        writer.write(task.getStatus() != null ? task.getStatus().name() : "");
+        writer.write(',');
+        writer.write(task.getOwner() != null ? String.valueOf(task.getOwner().getUserId()) : "");
+        writer.write(',');
+        writer.write(csv(task.getOwner() != null ? task.getOwner().getUserName() : null));
+        writer.write(',');
+        writer.write(csv(responsibles.stream().map(user -> String.valueOf(user.getUserId())).collect(Collectors.joining(";"))));
+        writer.write(',');
+        writer.write(csv(responsibles.stream().map(UserResponseDTO::getUserName).collect(Collectors.joining(";"))));
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double the quotes.
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
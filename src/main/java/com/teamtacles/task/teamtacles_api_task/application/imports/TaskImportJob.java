@@ -0,0 +1,94 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskImportStatusDTO;
+
+/**
+ * Progress of one import. Updated by the import worker and read concurrently by the progress endpoint.
+ *
+ * Only the first maxReportedErrors row errors are kept; the total number of failed rows is always exact.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TaskImportJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Long projectId;
+    private final Long userId;
+    private final int maxReportedErrors;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    public TaskImportJob(String id, Long projectId, Long userId, int maxReportedErrors) {
+        this.id = id;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    void started() {
+        state = State.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    synchronized void rowFailed(long line, String error) {
+        failed.incrementAndGet();
+        if (errors.size() < maxReportedErrors) {
+            errors.add("Line " + line + ": " + error);
+        }
+    }
+
+    void completed() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void failed(String reason) {
+        failure = reason;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    public synchronized TaskImportStatusDTO toStatus() {
+        return new TaskImportStatusDTO(id, projectId, state.name(), rowsRead.get(), imported.get(), failed.get(),
+                List.copyOf(errors), failure, createdAt, finishedAt);
+    }
+}
@@ -0,0 +1,197 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+/**
+ * Reads an import file one record at a time, in the formats written by the task export.
+ *
+ * NDJSON: one object per line with title, description, dueDate, status and usersResponsability (user IDs or
+ * user objects with a userId). CSV: a header line followed by records with the columns title, description,
+ * dueDate, status and responsibleIds (separated by ';'); other columns are ignored and quoted fields may span
+ * lines. Due dates are accepted in ISO-8601 or 'dd/MM/yyyy HH:mm'.
+ *
+ * A record that cannot be parsed is returned as an error and reading continues with the next one.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TaskImportReader implements Closeable {
+
+    private static final DateTimeFormatter API_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    /**
+     * A parsed record, or the reason it could not be parsed.
+     */
+    public record Result(long line, TaskImportRow row, String error) {
+    }
+
+    private final ExportFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private long line;
+
+    public TaskImportReader(ExportFormat format, Reader reader, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return The next record, or null at the end of the file.
+     * @throws IOException if reading the file fails.
+     * @throws IllegalArgumentException if a CSV file has no title or dueDate column.
+     */
+    public Result next() throws IOException {
+        return format == ExportFormat.NDJSON ? nextJson() : nextCsv();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Result nextJson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            List<Long> responsibles = new ArrayList<>();
+            for (JsonNode user : node.path("usersResponsability")) {
+                responsibles.add(user.isObject() ? user.path("userId").asLong() : user.asLong());
+            }
+            return row(line, text(node, "title"), text(node, "description"), text(node, "dueDate"), text(node, "status"), responsibles);
+        } catch (IOException | IllegalArgumentException | DateTimeParseException ex) {
+            return new Result(line, null, "Invalid record: " + ex.getMessage());
+        }
+    }
+
+    private Result nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns.put(header.get(i).trim(), i);
+            }
+            if (!csvColumns.containsKey("title") || !csvColumns.containsKey("dueDate")) {
+                throw new IllegalArgumentException("The CSV header must contain the columns title and dueDate.");
+            }
+        }
+
+        long recordLine = line + 1;
+        List<String> fields = readCsvRecord();
+        while (fields != null && fields.size() == 1 && fields.get(0).isBlank()) {
+            recordLine = line + 1;
+            fields = readCsvRecord();
+        }
+        if (fields == null) {
+            return null;
+        }
+        try {
+            List<Long> responsibles = new ArrayList<>();
+            String ids = field(fields, "responsibleIds");
+            if (ids != null && !ids.isBlank()) {
+                for (String id : ids.split(";")) {
+                    responsibles.add(Long.parseLong(id.trim()));
+                }
+            }
+            return row(recordLine, field(fields, "title"), field(fields, "description"), field(fields, "dueDate"), field(fields, "status"), responsibles);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return new Result(recordLine, null, "Invalid record: " + ex.getMessage());
+        }
+    }
+
+    private static Result row(long recordLine, String title, String description, String dueDate, String status, List<Long> responsibles) {
+        LocalDateTime parsedDueDate = dueDate == null || dueDate.isBlank() ? null : parseDate(dueDate.trim());
+        Status parsedStatus = status == null || status.isBlank() ? Status.TODO : Status.valueOf(status.trim().toUpperCase());
+        String emptyDescription = description == null || description.isEmpty() ? null : description;
+        return new Result(recordLine, new TaskImportRow(recordLine, title, emptyDescription, parsedDueDate, parsedStatus, responsibles), null);
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            return LocalDateTime.parse(value, API_DATE_FORMAT);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    // RFC 4180 record: fields separated by commas, quoted fields may contain commas, doubled quotes and line breaks.
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        line++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
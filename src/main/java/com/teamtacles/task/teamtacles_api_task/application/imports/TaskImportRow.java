@@ -0,0 +1,21 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+/**
+ * A task read from an import file.
+ *
+ * @param line The line of the record in the file (1-based, the first line of multi-line CSV records).
+ * @param status The status of the task; TODO when the file does not specify one.
+ * @param responsibleIds The responsible user IDs listed in the file, without the owner and project creator.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TaskImportRow(long line, String title, String description, LocalDateTime dueDate, Status status,
+                            List<Long> responsibleIds) {
+}
@@ -0,0 +1,264 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
+import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskImportRepository;
+
+/**
+ * Service importing task files in the background.
+ *
+ * The upload is first copied to a temporary file, so the request returns as soon as it is received and the
+ * file never has to fit in memory. A worker then reads it record by record and processes chunks of
+ * chunkSize rows: the responsible users of a chunk are looked up once each (and remembered across chunks in a
+ * bounded cache), invalid rows are reported with their line number and skipped, and the valid rows are
+ * written with batch inserts in one transaction per chunk, together with their TaskChangedEvent.
+ *
+ * The job calls the user service with the token of the request that started it, which may expire before a long
+ * import ends. A user that cannot be checked (expired token, user service down) fails the rows referencing it,
+ * like a user that does not exist, and is looked up again in the next chunk; it does not stop the import.
+ * Chunks are committed as they go, so a job that does stop (unreadable file, database error) ends FAILED with
+ * the tasks of its earlier chunks already imported, as counted in its status.
+ *
+ * Unlike createTask, past due dates are accepted, since dumps usually contain finished tasks.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    private final TaskImportRepository taskImportRepository;
+    private final UserServiceClient userServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final Cache<String, TaskImportJob> jobs;
+
+    public TaskImportService(TaskImportRepository taskImportRepository, UserServiceClient userServiceClient,
+                             ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                             @Qualifier("taskImportExecutor") ThreadPoolTaskExecutor executor, ObjectMapper objectMapper,
+                             @Value("${task-import.chunk-size:500}") int chunkSize,
+                             @Value("${task-import.max-reported-errors:1000}") int maxReportedErrors,
+                             @Value("${task-import.status-retention:24h}") Duration statusRetention) {
+        this.taskImportRepository = taskImportRepository;
+        this.userServiceClient = userServiceClient;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(statusRetention).maximumSize(10_000).build();
+    }
+
+    /**
+     * Receives an import file and queues it for processing. Access to the project is checked by the caller.
+     *
+     * @param projectId The project to import the tasks into.
+     * @param format The format of the file.
+     * @param upload The request body; read completely before this method returns.
+     * @param ownerId The user importing the tasks, who becomes their owner.
+     * @param projectCreatorId The creator of the project, added as responsible to every task like in createTask.
+     * @param token The JWT token for the user service calls.
+     * @return The job tracking the import.
+     * @throws IOException if the upload cannot be stored.
+     * @throws ServiceUnavailableException if too many imports are already queued.
+     */
+    public TaskImportJob start(Long projectId, ExportFormat format, InputStream upload, Long ownerId, Long projectCreatorId, String token) throws IOException {
+        Path file = Files.createTempFile("task-import-", "." + format.getExtension());
+        try {
+            Files.copy(upload, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+
+        TaskImportJob job = new TaskImportJob(UUID.randomUUID().toString(), projectId, ownerId, maxReportedErrors);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file, format, ownerId, projectCreatorId, token));
+        } catch (TaskRejectedException ex) {
+            jobs.invalidate(job.getId());
+            Files.deleteIfExists(file);
+            throw new ServiceUnavailableException("Too many imports are in progress. Please try again later.");
+        }
+        logger.info("Import {} of {} bytes queued for project ID: {}", job.getId(), Files.size(file), projectId);
+        return job;
+    }
+
+    /**
+     * @param importId The ID returned when the import was started.
+     * @return The job tracking the import.
+     * @throws ResourceNotFoundException if there is no such import, or its status has expired.
+     */
+    public TaskImportJob getJob(String importId) {
+        TaskImportJob job = jobs.getIfPresent(importId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import with ID " + importId + " not found.");
+        }
+        return job;
+    }
+
+    void run(TaskImportJob job, Path file, ExportFormat format, Long ownerId, Long projectCreatorId, String token) {
+        job.started();
+        // usuários já validados nesta importação (limitado, para a memória não crescer com o arquivo)
+        Cache<Long, Boolean> knownUsers = Caffeine.newBuilder().maximumSize(10_000).build();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             TaskImportReader importReader = new TaskImportReader(format, reader, objectMapper)) {
+            List<TaskImportRow> chunk = new ArrayList<>(chunkSize);
+            TaskImportReader.Result result;
+            while ((result = importReader.next()) != null) {
+                job.rowRead();
+                if (result.error() != null) {
+                    job.rowFailed(result.line(), result.error());
+                    continue;
+                }
+                chunk.add(result.row());
+                if (chunk.size() == chunkSize) {
+                    processChunk(job, chunk, ownerId, projectCreatorId, knownUsers, token);
+                    chunk.clear();
+                }
+            }
+            processChunk(job, chunk, ownerId, projectCreatorId, knownUsers, token);
+            job.completed();
+            logger.info("Import {} completed: {}", job.getId(), job.toStatus());
+        } catch (Exception ex) {
+            logger.error("Import {} failed", job.getId(), ex);
+            job.failed(ex.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                logger.warn("Could not delete import file {}", file, ex);
+            }
+        }
+    }
+
+    private void processChunk(TaskImportJob job, List<TaskImportRow> chunk, Long ownerId, Long projectCreatorId,
+                              Cache<Long, Boolean> knownUsers, String token) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, String> userErrors = lookupUsers(chunk, knownUsers, token);
+
+        List<TaskEntity> tasks = new ArrayList<>(chunk.size());
+        for (TaskImportRow row : chunk) {
+            String error = validate(row, userErrors);
+            if (error != null) {
+                job.rowFailed(row.line(), error);
+                continue;
+            }
+            ResponsibleUserIds responsibleIds = ResponsibleUserIds.of(row.responsibleIds()).with(ownerId);
+            if (projectCreatorId != null) {
+                responsibleIds = responsibleIds.with(projectCreatorId);
+            }
+            List<Long> responsibles = responsibleIds.toList();
+            tasks.add(new TaskEntity(null, row.title(), row.description(), row.dueDate(), row.status(), ownerId,
+                    responsibles, job.getProjectId()));
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        chunkTransaction.executeWithoutResult(status -> {
+            taskImportRepository.insertAll(tasks);
+            eventPublisher.publishEvent(new TaskChangedEvent(tasks.stream()
+                    .map(task -> TaskChange.created(TaskSnapshot.of(task)))
+                    .toList()));
+        });
+        job.imported(tasks.size());
+    }
+
+    // Looks up every responsible user of the chunk not validated yet, once each; returns the error of each user
+    // not found or that could not be checked. Only the users found are remembered.
+    private Map<Long, String> lookupUsers(List<TaskImportRow> chunk, Cache<Long, Boolean> knownUsers, String token) {
+        Set<Long> toLookup = new HashSet<>();
+        for (TaskImportRow row : chunk) {
+            for (Long userId : row.responsibleIds()) {
+                if (userId != null && userId > 0 && knownUsers.getIfPresent(userId) == null) {
+                    toLookup.add(userId);
+                }
+            }
+        }
+        Map<Long, String> errors = new HashMap<>();
+        for (Long userId : toLookup) {
+            try {
+                userServiceClient.getUserById(userId, token);
+                knownUsers.put(userId, Boolean.TRUE);
+            } catch (ResourceNotFoundException ex) {
+                errors.put(userId, "User with ID " + userId + " not found");
+            } catch (RuntimeException ex) {
+                errors.put(userId, "User with ID " + userId + " could not be checked: " + ex.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    private static String validate(TaskImportRow row, Map<Long, String> userErrors) {
+        if (row.title() == null || row.title().isBlank()) {
+            return "The title must not be blank";
+        }
+        if (row.title().length() > 50) {
+            return "The title must not exceed 50 characters";
+        }
+        if (row.description() != null && row.description().length() > 250) {
+            return "The description must not exceed 250 characters";
+        }
+        if (row.dueDate() == null) {
+            return "The due date is required";
+        }
+        for (Long userId : row.responsibleIds()) {
+            if (userId == null || userId <= 0) {
+                return "Invalid responsible user ID: " + userId;
+            }
+            String error = userErrors.get(userId);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,321 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.HotProjectIndexProperties;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskExportRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory index of the most searched projects, answering their filtered task searches without the database.
+ *
+ * Every project search is counted; on each refresh the projects with the most searches (decayed by half per
+ * refresh) are indexed, up to task-index.max-projects and within the task-index.max-memory estimate, and the
+ * others are dropped. An indexed project keeps the state of its tasks and an immutable ProjectTaskColumns
+ * built from it.
+ *
+ * The index follows the committed task changes published by the TaskService write paths (and the imports):
+ * a change updates the task state and discards the columns, so searches of the project go to the database
+ * until the columns are rebuilt in the background. A stale index is therefore never answered from. Projects
+ * are loaded from the primary database, buffering the changes committed during the load, and reloaded every
+ * task-index.reload-interval. The index is per instance and only answers the searches it supports
+ * (see ProjectTaskColumns); the others return empty and run against the database.
+ *
+ * Metrics: task.index.requests (result=hit|miss), task.index.projects and task.index.memory.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class HotProjectTaskIndex implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotProjectTaskIndex.class);
+
+    private final HotProjectIndexProperties properties;
+    private final TaskExportRepository taskExportRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final Map<Long, LongAdder> searches = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedProject> projects = new ConcurrentHashMap<>();
+    // estimativa de memória do último carregamento de cada projeto, para não recarregar os que não cabem
+    private final Map<Long, Long> knownSizes = new ConcurrentHashMap<>();
+    private final ExecutorService rebuilder = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hits;
+    private final Counter misses;
+
+    public HotProjectTaskIndex(HotProjectIndexProperties properties, TaskExportRepository taskExportRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskExportRepository = taskExportRepository;
+        // transação de escrita: com réplica, o carregamento lê do primário e não perde mudanças já publicadas
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("task.index.projects", projects, Map::size).register(meterRegistry);
+        Gauge.builder("task.index.memory", this, HotProjectTaskIndex::estimatedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Answers a filtered search of one project from the index, and counts the search towards indexing the project.
+     *
+     * @param projectId The project searched.
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional due date; only tasks due on or after it match.
+     * @param dueTo Optional due date; only tasks due on or before it match.
+     * @param userId The user the search is scoped to, or null for admins.
+     * @param pageable The page and sort.
+     * @return The page of new, detached entities, or empty when the project is not indexed, its columns are being
+     *         rebuilt or the sort is not supported.
+     */
+    public Optional<Page<TaskEntity>> find(Long projectId, Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long userId, Pageable pageable) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        searches.computeIfAbsent(projectId, id -> new LongAdder()).increment();
+
+        IndexedProject project = projects.get(projectId);
+        ProjectTaskColumns columns = project != null ? project.columns : null;
+        Page<TaskEntity> page = columns != null ? columns.query(status, dueFrom, dueTo, userId, pageable) : null;
+        if (page != null) {
+            hits.increment();
+            RequestMetrics.recordCacheHit();
+        } else {
+            misses.increment();
+        }
+        return Optional.ofNullable(page);
+    }
+
+    /**
+     * Applies the committed task changes to the indexed projects.
+     *
+     * @param event The committed task changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        for (TaskChange change : event.changes()) {
+            TaskSnapshot before = change.before();
+            TaskSnapshot after = change.after();
+            if (before != null && (after == null || !before.projectId().equals(after.projectId()))) {
+                apply(before.projectId(), before.id(), null);
+            }
+            if (after != null) {
+                apply(after.projectId(), after.id(), after);
+            }
+        }
+    }
+
+    /**
+     * Chooses the projects to index from the search counts, loads the new ones, reloads the ones due and drops the rest.
+     */
+    @Scheduled(fixedDelayString = "${task-index.refresh-interval:30s}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Long> hot = hottestProjects();
+        projects.keySet().retainAll(hot);
+
+        long budget = properties.getMaxMemory().toBytes();
+        long used = 0;
+        long reloadNanos = properties.getReloadInterval().toNanos();
+        for (Long projectId : hot) {
+            IndexedProject project = projects.get(projectId);
+            if (project == null && knownSizes.getOrDefault(projectId, 0L) > budget - used) {
+                continue;
+            }
+            if (project == null || System.nanoTime() - project.loadedAtNanos >= reloadNanos) {
+                project = projects.computeIfAbsent(projectId, IndexedProject::new);
+                try {
+                    project.load();
+                } catch (RuntimeException ex) {
+                    logger.warn("Could not index the tasks of project {}", projectId, ex);
+                    projects.remove(projectId);
+                    continue;
+                }
+                knownSizes.put(projectId, project.estimatedBytes);
+            }
+            if (used + project.estimatedBytes > budget) {
+                projects.remove(projectId);
+                continue;
+            }
+            used += project.estimatedBytes;
+        }
+        knownSizes.keySet().retainAll(searches.keySet());
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+
+    private void apply(Long projectId, Long taskId, TaskSnapshot state) {
+        IndexedProject project = projects.get(projectId);
+        if (project != null) {
+            project.apply(taskId, state);
+        }
+    }
+
+    private List<Long> hottestProjects() {
+        // copia as contagens antes de ordenar, pois continuam mudando
+        Map<Long, Long> counts = new HashMap<>();
+        searches.forEach((projectId, count) -> counts.put(projectId, count.sum()));
+
+        Iterator<Map.Entry<Long, LongAdder>> entries = searches.entrySet().iterator();
+        while (entries.hasNext()) {
+            LongAdder count = entries.next().getValue();
+            long decayed = count.sumThenReset() / 2;
+            if (decayed == 0) {
+                entries.remove();
+            } else {
+                count.add(decayed);
+            }
+        }
+
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= properties.getMinSearches())
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(properties.getMaxProjects())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private long estimatedBytes() {
+        return projects.values().stream().mapToLong(project -> project.estimatedBytes).sum();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("task.index.requests")
+                .tag("result", result)
+                .description("Project task searches answered (hit) or not (miss) by the in-memory index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The state of the tasks of one indexed project and the columns built from it.
+     */
+    private final class IndexedProject {
+
+        private final Long projectId;
+        private Map<Long, TaskSnapshot> tasks = new HashMap<>();
+        // não nulo durante um carregamento: mudanças recebidas nesse meio tempo (null = tarefa removida)
+        private Map<Long, TaskSnapshot> pending;
+        private long changes;
+        private boolean rebuildScheduled;
+
+        private volatile ProjectTaskColumns columns;
+        private volatile long estimatedBytes;
+        private volatile long loadedAtNanos;
+
+        private IndexedProject(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        synchronized void apply(Long taskId, TaskSnapshot state) {
+            // até a reconstrução, as buscas do projeto vão ao banco
+            columns = null;
+            if (pending != null) {
+                pending.put(taskId, state);
+                return;
+            }
+            put(tasks, taskId, state);
+            changes++;
+            if (!rebuildScheduled) {
+                rebuildScheduled = true;
+                rebuilder.execute(this::rebuild);
+            }
+        }
+
+        void load() {
+            synchronized (this) {
+                pending = new HashMap<>();
+            }
+            Map<Long, TaskSnapshot> loaded = new HashMap<>();
+            try {
+                primaryTransaction.executeWithoutResult(status -> taskExportRepository.streamProjectTasks(projectId, null,
+                        task -> loaded.put(task.getId(), TaskSnapshot.of(task))));
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw ex;
+            }
+            synchronized (this) {
+                pending.forEach((taskId, state) -> put(loaded, taskId, state));
+                pending = null;
+                tasks = loaded;
+                changes++;
+            }
+            loadedAtNanos = System.nanoTime();
+            rebuild();
+        }
+
+        private void rebuild() {
+            while (true) {
+                List<TaskSnapshot> state;
+                long version;
+                synchronized (this) {
+                    if (pending != null) {
+                        // o carregamento em andamento reconstrói ao terminar
+                        rebuildScheduled = false;
+                        return;
+                    }
+                    state = new ArrayList<>(tasks.values());
+                    version = changes;
+                }
+                ProjectTaskColumns built = ProjectTaskColumns.build(state);
+                synchronized (this) {
+                    if (version == changes && pending == null) {
+                        columns = built;
+                        estimatedBytes = built.estimatedBytes();
+                        rebuildScheduled = false;
+                        return;
+                    }
+                }
+            }
+        }
+
+        private static void put(Map<Long, TaskSnapshot> tasks, Long taskId, TaskSnapshot state) {
+            if (state == null) {
+                tasks.remove(taskId);
+            } else {
+                tasks.put(taskId, state);
+            }
+        }
+    }
+}
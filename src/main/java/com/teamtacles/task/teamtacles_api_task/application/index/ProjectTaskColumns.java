@@ -0,0 +1,197 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Immutable columnar copy of the tasks of one project.
+ *
+ * Rows are in task ID order. Each filtered column is a primitive array indexed by row: status ordinals,
+ * due dates in epoch microseconds and owner IDs. Responsible users are posting lists of rows per user.
+ * For each sortable property a permutation of the rows is precomputed, so a sorted page is a single scan
+ * of the permutation that counts the matches and keeps only the requested slice; the snapshots are only
+ * read for that slice.
+ *
+ * Filters have the semantics of TaskRepository.findTasksFiltered and findTasksFilteredByUser. Ties in a sort
+ * are broken by task ID (ascending, or descending for a descending sort).
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class ProjectTaskColumns {
+
+    // o banco ordena o status pelo nome (coluna texto), não pela ordem do enum
+    private static final int[] STATUS_SORT_RANK = statusSortRank();
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final byte[] statuses;
+    private final long[] dueDates;
+    private final long[] owners;
+    private final Map<Long, int[]> responsibles;
+    private final TaskSnapshot[] tasks;
+    private final Map<String, int[]> sortOrders;
+    private final long estimatedBytes;
+
+    private ProjectTaskColumns(TaskSnapshot[] tasks) {
+        int rows = tasks.length;
+        this.tasks = tasks;
+        this.statuses = new byte[rows];
+        this.dueDates = new long[rows];
+        this.owners = new long[rows];
+
+        Map<Long, List<Integer>> postings = new HashMap<>();
+        long bytes = 0;
+        for (int row = 0; row < rows; row++) {
+            TaskSnapshot task = tasks[row];
+            statuses[row] = (byte) task.status().ordinal();
+            dueDates[row] = toEpochMicros(task.dueDate());
+            owners[row] = task.ownerUserId();
+            List<Long> distinct = task.distinctResponsibleUserIds();
+            for (Long userId : distinct) {
+                postings.computeIfAbsent(userId, id -> new ArrayList<>()).add(row);
+            }
+            bytes += estimateBytes(task, distinct.size());
+        }
+
+        this.responsibles = new HashMap<>(postings.size() * 2);
+        postings.forEach((userId, userRows) -> responsibles.put(userId, userRows.stream().mapToInt(Integer::intValue).toArray()));
+
+        this.sortOrders = Map.of(
+                "id", IntStream.range(0, rows).toArray(),
+                "dueDate", order(rows, Comparator.comparingLong(row -> dueDates[row])),
+                "status", order(rows, Comparator.comparingInt(row -> STATUS_SORT_RANK[statuses[row]])),
+                "ownerUserId", order(rows, Comparator.comparingLong(row -> owners[row])));
+        this.estimatedBytes = bytes;
+    }
+
+    /**
+     * @param tasks The tasks of one project, in any order.
+     * @return The columns of the tasks.
+     */
+    static ProjectTaskColumns build(Collection<TaskSnapshot> tasks) {
+        TaskSnapshot[] sorted = tasks.toArray(new TaskSnapshot[0]);
+        Arrays.sort(sorted, Comparator.comparing(TaskSnapshot::id));
+        return new ProjectTaskColumns(sorted);
+    }
+
+    /**
+     * Runs a filtered search over the columns.
+     *
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional due date; only tasks due on or after it match.
+     * @param dueTo Optional due date; only tasks due on or before it match.
+     * @param userId Optional user who must own or be responsible for the tasks.
+     * @param pageable The page and sort; only unsorted or single-property sorts on id, dueDate, status or ownerUserId are supported.
+     * @return The page of new, detached entities, or null when the sort is not supported.
+     */
+    Page<TaskEntity> query(Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long userId, Pageable pageable) {
+        Sort.Order sortOrder = singleOrder(pageable.getSort());
+        int[] order = sortOrders.get(sortOrder == null ? "id" : sortOrder.getProperty());
+        if (order == null || (pageable.getSort().isSorted() && sortOrder == null)) {
+            return null;
+        }
+        boolean descending = sortOrder != null && sortOrder.isDescending();
+
+        int statusOrdinal = status != null ? status.ordinal() : -1;
+        long dueLower = dueFrom != null ? toEpochMicros(dueFrom) : Long.MIN_VALUE;
+        long dueUpper = dueTo != null ? toEpochMicros(dueTo) : Long.MAX_VALUE;
+        BitSet responsibleRows = userId != null ? rowsOf(responsibles.getOrDefault(userId, NO_ROWS)) : null;
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int size = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        List<TaskEntity> content = new ArrayList<>(Math.min(size, 64));
+        long total = 0;
+        int rows = order.length;
+        for (int i = 0; i < rows; i++) {
+            int row = order[descending ? rows - 1 - i : i];
+            if ((statusOrdinal >= 0 && statuses[row] != statusOrdinal)
+                    || dueDates[row] < dueLower || dueDates[row] > dueUpper
+                    || (userId != null && owners[row] != userId && !responsibleRows.get(row))) {
+                continue;
+            }
+            if (total >= offset && content.size() < size) {
+                content.add(tasks[row].toEntity());
+            }
+            total++;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    int size() {
+        return tasks.length;
+    }
+
+    /**
+     * @return A rough estimate of the heap used by the columns and the snapshots they hold.
+     */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static Sort.Order singleOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 ? orders.get(0) : null;
+    }
+
+    private BitSet rowsOf(int[] postings) {
+        BitSet rows = new BitSet(tasks.length);
+        for (int row : postings) {
+            rows.set(row);
+        }
+        return rows;
+    }
+
+    private static int[] order(int rows, Comparator<Integer> comparator) {
+        // empates pelo ID, que é a ordem das linhas
+        return IntStream.range(0, rows).boxed()
+                .sorted(comparator.thenComparingInt(Integer::intValue))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // microssegundos: a precisão com que o banco guarda o TIMESTAMP
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static long estimateBytes(TaskSnapshot task, int responsibleCount) {
+        long strings = 2L * (length(task.title()) + length(task.description())) + 96;
+        long columns = 1 + 8 + 8 + 4 * 4 + 4L * responsibleCount;
+        long snapshot = 64 + 40 + 24L * task.responsibleUserIds().size();
+        return strings + columns + snapshot;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static int[] statusSortRank() {
+        Status[] byName = Status.values().clone();
+        Arrays.sort(byName, Comparator.comparing(Status::name));
+        int[] rank = new int[byName.length];
+        for (int i = 0; i < byName.length; i++) {
+            rank[byName[i].ordinal()] = i;
+        }
+        return rank;
+    }
+}
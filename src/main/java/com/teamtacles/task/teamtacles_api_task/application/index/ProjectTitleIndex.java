@@ -0,0 +1,323 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
+
+/**
+ * Immutable prefix index of the task titles of one project.
+ *
+ * Titles are normalized (lower case, without accents, punctuation collapsed to single spaces) and kept in two
+ * sorted arrays: the whole titles, and the suffixes that start at each following word, so "Quarterly report"
+ * is found by "qua" and by "rep". A prefix lookup is a binary search followed by a scan of the matching range.
+ * Whole-title matches are suggested before word matches, each in alphabetical order.
+ *
+ * Changes produce a new index with a linear merge, leaving the current one untouched for concurrent readers;
+ * the changes of one event are merged together.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class ProjectTitleIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * What the index keeps of a task: enough to suggest it and to check who may see it.
+     */
+    record Suggestion(long id, String title, long ownerUserId, ResponsibleUserIds responsibles, Long version) {
+
+        boolean visibleTo(Long userId) {
+            return userId == null || ownerUserId == userId || responsibles.contains(userId);
+        }
+    }
+
+    private final Map<Long, Suggestion> tasks;
+    private final SortedKeys titles;
+    private final SortedKeys words;
+    private final long estimatedBytes;
+
+    private ProjectTitleIndex(Map<Long, Suggestion> tasks, SortedKeys titles, SortedKeys words) {
+        this.tasks = tasks;
+        this.titles = titles;
+        this.words = words;
+        long bytes = titles.estimatedBytes() + words.estimatedBytes();
+        for (Suggestion task : tasks.values()) {
+            bytes += 96 + 2L * task.title().length() + 8L * task.responsibles().size();
+        }
+        this.estimatedBytes = bytes;
+    }
+
+    /**
+     * @param tasks The tasks of one project, in any order.
+     * @return The index of their titles.
+     */
+    static ProjectTitleIndex build(Collection<TaskSnapshot> tasks) {
+        Map<Long, Suggestion> byId = new HashMap<>(tasks.size() * 2);
+        List<String> titleKeys = new ArrayList<>(tasks.size());
+        List<Long> titleIds = new ArrayList<>(tasks.size());
+        List<String> wordKeys = new ArrayList<>();
+        List<Long> wordIds = new ArrayList<>();
+        for (TaskSnapshot task : tasks) {
+            byId.put(task.id(), suggestion(task));
+            String title = normalize(task.title());
+            if (!title.isEmpty()) {
+                titleKeys.add(title);
+                titleIds.add(task.id());
+            }
+            for (String word : wordSuffixes(title)) {
+                wordKeys.add(word);
+                wordIds.add(task.id());
+            }
+        }
+        return new ProjectTitleIndex(byId, SortedKeys.of(titleKeys, titleIds), SortedKeys.of(wordKeys, wordIds));
+    }
+
+    /**
+     * @param task The new state of a task of the project.
+     * @return The index with the task added or replaced; this index when it already holds a newer version.
+     */
+    ProjectTitleIndex with(TaskSnapshot task) {
+        Map<Long, TaskSnapshot> changes = new HashMap<>();
+        changes.put(task.id(), task);
+        return apply(changes);
+    }
+
+    /**
+     * @param taskId A task removed from the project.
+     * @return The index without the task.
+     */
+    ProjectTitleIndex without(long taskId) {
+        Map<Long, TaskSnapshot> changes = new HashMap<>();
+        changes.put(taskId, null);
+        return apply(changes);
+    }
+
+    /**
+     * Applies many changes at once: the tasks are copied once and each key array is rebuilt with a single merge,
+     * so a bulk change costs one pass over the index instead of one per task.
+     *
+     * @param changes The new state of each changed task of the project, or null for a task removed from it.
+     * @return The index with the changes; this index when none of them applies.
+     */
+    ProjectTitleIndex apply(Map<Long, TaskSnapshot> changes) {
+        Map<Long, Suggestion> changed = null;
+        Set<Long> replacedIds = new HashSet<>();
+        List<String> titleKeys = new ArrayList<>();
+        List<Long> titleIds = new ArrayList<>();
+        List<String> wordKeys = new ArrayList<>();
+        List<Long> wordIds = new ArrayList<>();
+        for (Map.Entry<Long, TaskSnapshot> change : changes.entrySet()) {
+            long taskId = change.getKey();
+            TaskSnapshot task = change.getValue();
+            Suggestion current = tasks.get(taskId);
+            if (task == null && current == null) {
+                continue;
+            }
+            // eventos AFTER_COMMIT de transações concorrentes podem chegar fora de ordem
+            if (task != null && current != null && current.version() != null && task.version() != null
+                    && current.version() > task.version()) {
+                continue;
+            }
+            if (changed == null) {
+                changed = new HashMap<>(tasks);
+            }
+            replacedIds.add(taskId);
+            if (task == null) {
+                changed.remove(taskId);
+                continue;
+            }
+            changed.put(taskId, suggestion(task));
+            String title = normalize(task.title());
+            if (!title.isEmpty()) {
+                titleKeys.add(title);
+                titleIds.add(taskId);
+            }
+            for (String word : wordSuffixes(title)) {
+                wordKeys.add(word);
+                wordIds.add(taskId);
+            }
+        }
+        if (changed == null) {
+            return this;
+        }
+        return new ProjectTitleIndex(changed,
+                titles.replace(replacedIds, SortedKeys.of(titleKeys, titleIds)),
+                words.replace(replacedIds, SortedKeys.of(wordKeys, wordIds)));
+    }
+
+    /**
+     * Finds the tasks whose title, or one of its words onwards, starts with a prefix.
+     *
+     * @param prefix A prefix already normalized with normalize(String); must not be empty.
+     * @param limit The maximum number of suggestions.
+     * @param userId Only tasks the user owns or is responsible for are suggested; null for all tasks.
+     * @return Up to limit distinct tasks, whole-title matches first.
+     */
+    List<Suggestion> suggest(String prefix, int limit, Long userId) {
+        List<Suggestion> found = new ArrayList<>(Math.min(limit, 32));
+        Set<Long> seen = new HashSet<>();
+        LongPredicate collector = taskId -> {
+            Suggestion task = tasks.get(taskId);
+            if (task.visibleTo(userId) && seen.add(taskId)) {
+                found.add(task);
+            }
+            return found.size() < limit;
+        };
+        if (titles.scan(prefix, collector)) {
+            words.scan(prefix, collector);
+        }
+        return found;
+    }
+
+    int size() {
+        return tasks.size();
+    }
+
+    /**
+     * @return A rough estimate of the heap used by the index.
+     */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Normalizes a title or a typed prefix: lower case, accents removed and every run of characters other than
+     * letters and digits replaced by a single space, trimmed.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String unaccented = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static List<String> wordSuffixes(String normalizedTitle) {
+        List<String> suffixes = new ArrayList<>();
+        for (int i = normalizedTitle.indexOf(' '); i >= 0; i = normalizedTitle.indexOf(' ', i + 1)) {
+            suffixes.add(normalizedTitle.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    private static Suggestion suggestion(TaskSnapshot task) {
+        return new Suggestion(task.id(), task.title(), task.ownerUserId(),
+                ResponsibleUserIds.of(task.responsibleUserIds()), task.version());
+    }
+
+    /**
+     * Keys sorted in natural order, each with the ID of its task (ties by ID).
+     */
+    private static final class SortedKeys {
+
+        private final String[] keys;
+        private final long[] ids;
+
+        private SortedKeys(String[] keys, long[] ids) {
+            this.keys = keys;
+            this.ids = ids;
+        }
+
+        static SortedKeys of(List<String> keys, List<Long> ids) {
+            Integer[] order = new Integer[keys.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.<Integer, String>comparing(keys::get).thenComparing(ids::get));
+            String[] sortedKeys = new String[order.length];
+            long[] sortedIds = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedIds[i] = ids.get(order[i]);
+            }
+            return new SortedKeys(sortedKeys, sortedIds);
+        }
+
+        /**
+         * @return A copy without the keys of the given tasks and with the added keys, in a single merge.
+         */
+        SortedKeys replace(Set<Long> taskIds, SortedKeys added) {
+            int kept = 0;
+            for (long id : ids) {
+                if (!taskIds.contains(id)) {
+                    kept++;
+                }
+            }
+            String[] mergedKeys = new String[kept + added.keys.length];
+            long[] mergedIds = new long[mergedKeys.length];
+            int next = 0;
+            int out = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (taskIds.contains(ids[i])) {
+                    continue;
+                }
+                while (next < added.keys.length && compare(added.keys[next], added.ids[next], keys[i], ids[i]) < 0) {
+                    mergedKeys[out] = added.keys[next];
+                    mergedIds[out++] = added.ids[next++];
+                }
+                mergedKeys[out] = keys[i];
+                mergedIds[out++] = ids[i];
+            }
+            while (next < added.keys.length) {
+                mergedKeys[out] = added.keys[next];
+                mergedIds[out++] = added.ids[next++];
+            }
+            return new SortedKeys(mergedKeys, mergedIds);
+        }
+
+        /**
+         * Visits the task IDs of the keys starting with the prefix, in key order.
+         *
+         * @return false if the visitor stopped the scan.
+         */
+        boolean scan(String prefix, LongPredicate visitor) {
+            for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+                if (!visitor.test(ids[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long estimatedBytes() {
+            long bytes = 12L * keys.length;
+            for (String key : keys) {
+                bytes += 40 + key.length();
+            }
+            return bytes;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static int compare(String key, long id, String otherKey, long otherId) {
+            int byKey = key.compareTo(otherKey);
+            return byKey != 0 ? byKey : Long.compare(id, otherId);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskSuggestionDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskExportRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory typeahead over task titles, one ProjectTitleIndex per project.
+ *
+ * A project is loaded on its first suggestion request and then kept up to date by the committed task changes
+ * published by the TaskService write paths (and the imports), each one producing a new immutable index, so
+ * suggestions never wait on a write. Projects are evicted when the estimated memory of all indexes exceeds
+ * task-suggest.max-memory or after task-suggest.expire-after-access without requests.
+ *
+ * Loads read from the primary database; a change committed while its project loads waits for the load and
+ * is applied to the loaded index, so it is never lost.
+ *
+ * Metrics: task.suggest.projects and task.suggest.memory.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskTitleSuggestIndex {
+
+    private final TaskExportRepository taskExportRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final Cache<Long, ProjectTitleIndex> projects;
+
+    @Autowired
+    public TaskTitleSuggestIndex(TaskExportRepository taskExportRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${task-suggest.max-memory:16MB}") DataSize maxMemory,
+                                 @Value("${task-suggest.expire-after-access:30m}") Duration expireAfterAccess,
+                                 MeterRegistry meterRegistry) {
+        this.taskExportRepository = taskExportRepository;
+        // transação de escrita: com réplica, o carregamento lê do primário e não perde mudanças já publicadas
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.projects = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long projectId, ProjectTitleIndex index) -> (int) Math.min(index.estimatedBytes(), Integer.MAX_VALUE))
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        Gauge.builder("task.suggest.projects", projects, Cache::estimatedSize).register(meterRegistry);
+        Gauge.builder("task.suggest.memory", projects,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Suggests the tasks of a project whose title, or one of its words onwards, starts with a prefix.
+     *
+     * @param projectId The project.
+     * @param prefix The text typed so far; case, accents and punctuation are ignored.
+     * @param limit The maximum number of suggestions; must be positive.
+     * @param userId Only tasks the user owns or is responsible for are suggested; null for all tasks.
+     * @return The suggestions, whole-title matches first, each group in alphabetical order.
+     */
+    public List<TaskSuggestionDTO> suggest(Long projectId, String prefix, int limit, Long userId) {
+        String normalized = ProjectTitleIndex.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        ProjectTitleIndex index = projects.getIfPresent(projectId);
+        if (index != null) {
+            RequestMetrics.recordCacheHit();
+        } else {
+            index = projects.get(projectId, this::load);
+        }
+        return index.suggest(normalized, limit, userId).stream()
+                .map(task -> new TaskSuggestionDTO(task.id(), task.title()))
+                .toList();
+    }
+
+    /**
+     * Applies the committed task changes to the loaded projects, all the changes of a project at once.
+     *
+     * @param event The committed task changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // as mudanças de cada projeto são aplicadas de uma vez: um evento em lote copia o índice uma única vez
+        Map<Long, Map<Long, TaskSnapshot>> byProject = new HashMap<>();
+        for (TaskChange change : event.changes()) {
+            TaskSnapshot before = change.before();
+            TaskSnapshot after = change.after();
+            if (before != null && (after == null || !before.projectId().equals(after.projectId()))) {
+                byProject.computeIfAbsent(before.projectId(), id -> new HashMap<>()).put(before.id(), null);
+            }
+            if (after != null) {
+                byProject.computeIfAbsent(after.projectId(), id -> new HashMap<>()).put(after.id(), after);
+            }
+        }
+        byProject.forEach((projectId, changes) ->
+                projects.asMap().computeIfPresent(projectId, (id, index) -> index.apply(changes)));
+    }
+
+    private ProjectTitleIndex load(Long projectId) {
+        List<TaskSnapshot> tasks = new ArrayList<>();
+        primaryTransaction.executeWithoutResult(status -> taskExportRepository.streamProjectTasks(projectId, null,
+                task -> tasks.add(TaskSnapshot.of(task))));
+        return ProjectTitleIndex.build(tasks);
+    }
+}
@@ -0,0 +1,56 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Sink appending the events to a file as NDJSON, one message per line with its outbox id, for local development.
+ * The file is forced to disk before the batch is reported as published.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class FileTaskEventSink implements TaskEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileTaskEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            for (OutboxMessage message : messages) {
+                ObjectNode line = objectMapper.createObjectNode()
+                        .put("id", message.id())
+                        .put("projectId", message.projectId())
+                        .put("projectSeq", message.projectSeq())
+                        .put("eventType", message.eventType());
+                line.set("event", objectMapper.readTree(message.payload()));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.write('\n');
+            }
+            writer.flush();
+            channel.force(false);
+        }
+    }
+}
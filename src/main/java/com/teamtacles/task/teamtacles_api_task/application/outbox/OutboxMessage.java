@@ -0,0 +1,15 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task event read from the outbox. id is the same on every delivery, so consumers can use it to discard
+ * duplicates. projectSeq orders the events of a project in the order they were committed; ids of different
+ * transactions are not in commit order.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record OutboxMessage(long id, Long taskId, Long projectId, long projectSeq, String eventType, String payload, LocalDateTime createdAt) {
+}
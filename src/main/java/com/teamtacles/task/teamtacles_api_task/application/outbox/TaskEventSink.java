@@ -0,0 +1,26 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the task events relayed from the outbox.
+ *
+ * Delivery is at least once: a batch is only marked as published when publish returns normally, and is sent
+ * again on the next relay run otherwise. The messages of a project arrive in projectSeq order, which is the
+ * order their transactions committed, so the events of a task arrive in the order they were committed.
+ * Messages of different projects may arrive in any relative order.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface TaskEventSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param messages The events, in projectSeq order within each project.
+     * @throws Exception if the batch could not be published; it will be retried.
+     */
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,114 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskOutboxRepository;
+
+/**
+ * Relays the outbox to the TaskEventSink.
+ *
+ * Each batch is locked, published and marked in one transaction. If the sink fails, the transaction rolls
+ * back and the same batch is sent again on the next run, which gives at-least-once delivery in commit order
+ * within each project (see TaskEventSink).
+ * Published events are deleted once they are older than the retention period.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+    private final TaskOutboxRepository outboxRepository;
+    private final TaskEventSink sink;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final Clock clock;
+
+    @Autowired
+    public TaskOutboxRelay(TaskOutboxRepository outboxRepository, TaskEventSink sink, PlatformTransactionManager transactionManager,
+                           @Value("${task-outbox.batch-size:200}") int batchSize,
+                           @Value("${task-outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+                           @Value("${task-outbox.retention:1d}") Duration retention) {
+        this(outboxRepository, sink, transactionManager, batchSize, maxBatchesPerRun, retention, Clock.systemDefaultZone());
+    }
+
+    TaskOutboxRelay(TaskOutboxRepository outboxRepository, TaskEventSink sink, PlatformTransactionManager transactionManager,
+                    int batchSize, int maxBatchesPerRun, Duration retention, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Publishes pending events until the outbox is empty, the batch limit is reached or the sink fails.
+     *
+     * @return The number of events published.
+     */
+    @Scheduled(fixedDelayString = "${task-outbox.relay-interval:1s}")
+    public int relay() {
+        int published = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count;
+            try {
+                count = batchTransaction.execute(status -> publishBatch());
+            } catch (RuntimeException ex) {
+                // o lote volta a ser enviado na próxima execução
+                logger.warn("Task outbox relay stopped after {} events: {}", published, ex.getMessage());
+                break;
+            }
+            published += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Deletes the events published before the retention period.
+     */
+    @Scheduled(cron = "${task-outbox.prune-cron:0 30 * * * *}")
+    public void prune() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now(clock).minus(retention));
+        if (deleted > 0) {
+            logger.info("Pruned {} published task outbox events", deleted);
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxMessage> messages = outboxRepository.lockPending(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(messages);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("The task event sink failed: " + ex.getMessage(), ex);
+        }
+        outboxRepository.markPublished(messages.stream().map(OutboxMessage::id).toList(), LocalDateTime.now(clock));
+        return messages.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskDueEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskOutboxRepository;
+
+/**
+ * Writes every task change to the outbox inside the transaction of the change, so an event exists if and only
+ * if the change was committed. Due date events of the TaskDueWatcher are appended as they are published.
+ *
+ * Every event gets its project_seq from the project's sequence row of the change feed, which the writing
+ * transaction keeps locked until it ends; the change feed and the outbox share the numbers, so neither is
+ * contiguous on its own.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskOutboxWriter {
+
+    /**
+     * The payload of an outbox event: the task before and after the change.
+     */
+    public record Payload(String type, Long taskId, Long projectId, LocalDateTime occurredAt, TaskSnapshot before, TaskSnapshot after) {
+    }
+
+    private final TaskOutboxRepository outboxRepository;
+    private final TaskChangeLogRepository changeLogRepository;
+    private final ObjectMapper objectMapper;
+
+    public TaskOutboxWriter(TaskOutboxRepository outboxRepository, TaskChangeLogRepository changeLogRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Appends one outbox event per change. Projects are handled in ID order, like in TaskChangeLogService, so
+     * concurrent transactions lock their sequence rows in the same order.
+     *
+     * @param event The task changes of the current transaction.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<TaskChange>> changesByProject = new TreeMap<>();
+        for (TaskChange change : event.changes()) {
+            changesByProject.computeIfAbsent(change.projectId(), id -> new ArrayList<>()).add(change);
+        }
+
+        List<SqlParameterSource> rows = new ArrayList<>(event.changes().size());
+        changesByProject.forEach((projectId, changes) -> {
+            long seq = changeLogRepository.reserve(projectId, changes.size()) - changes.size();
+            for (TaskChange change : changes) {
+                Payload payload = new Payload(change.type().name(), change.taskId(), projectId, now, change.before(), change.after());
+                rows.add(row(change.taskId(), projectId, ++seq, change.type().name(), payload, now));
+            }
+        });
+        if (!rows.isEmpty()) {
+            outboxRepository.insertAll(rows);
+        }
+    }
+
+    /**
+     * Appends the outbox event of a due date event, in its own transaction unless one is active.
+     *
+     * @param event The DUE_SOON or OVERDUE event.
+     */
+    @EventListener
+    @Transactional
+    public void onTaskDue(TaskDueEvent event) {
+        TaskSnapshot task = event.task();
+        Payload payload = new Payload(event.type().name(), task.id(), task.projectId(), event.occurredAt(), null, task);
+        long seq = changeLogRepository.reserve(task.projectId(), 1);
+        outboxRepository.insertAll(List.of(row(task.id(), task.projectId(), seq, event.type().name(), payload, event.occurredAt())));
+    }
+
+    private SqlParameterSource row(Long taskId, Long projectId, long projectSeq, String eventType, Payload payload, LocalDateTime createdAt) {
+        return new MapSqlParameterSource()
+                .addValue("taskId", taskId)
+                .addValue("projectId", projectId)
+                .addValue("projectSeq", projectSeq)
+                .addValue("eventType", eventType)
+                .addValue("payload", serialize(payload))
+                .addValue("createdAt", Timestamp.valueOf(createdAt));
+    }
+
+    private String serialize(Payload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the outbox event of task " + payload.taskId(), ex);
+        }
+    }
+}
@@ -13,8 +13,10 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.deadline.RequestDeadline;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
 
 /**
  * A client service for interacting with the external Project monolith.
@@ -44,17 +46,21 @@ public class ProjectServiceClient {
      * @throws ResourceNotFoundException if the project service returns a 404 Not Found error.
      * @throws AccessDeniedException if the project service returns a 403 Forbidden error.
      * @throws IllegalArgumentException if the request sent to the project service is malformed (400 Bad Request).
-     * @throws ServiceUnavailableException if the project service is temporarily unavailable (503 Service Unavailable).
+     * @throws ServiceUnavailableException if the project service is temporarily unavailable (503 Service Unavailable)
+     *                                     or the request time budget is exhausted.
      * @throws RuntimeException for internal errors in the project service (500) or other network communication issues.
      */   
     public ProjectResponseDTO getProjectById(Long projectId, String token) {
         try {
+            RequestDeadline.ensureTimeRemaining("project service");
+
             String url = "/api/project/" + projectId;
 
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "Bearer " + token);
             HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
 
+            RequestMetrics.recordProjectServiceCall();
             ResponseEntity<ProjectResponseDTO> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
@@ -73,6 +79,9 @@ public class ProjectServiceClient {
         } catch (HttpServerErrorException.InternalServerError ex) {
             throw new RuntimeException("An internal error occurred in the project service.");
         } catch (RestClientException ex) {
+            if (RequestDeadline.isCurrentExhaustedBy(ex)) {
+                throw new ServiceUnavailableException("The request time budget was exhausted while waiting for the project service.");
+            }
             throw new RuntimeException("A network communication error occurred.");
         }
     }
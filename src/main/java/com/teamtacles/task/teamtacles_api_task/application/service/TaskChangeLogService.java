@@ -0,0 +1,80 @@
+package com.teamtacles.task.teamtacles_api_task.application.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
+
+/**
+ * Service maintaining the task change feed used by synchronization clients.
+ *
+ * Every TaskChangedEvent is recorded inside the transaction of the task write: each changed task gets the next
+ * sequence number of its project, replacing its previous entry. Clients keep the last number they received
+ * and ask only for the tasks changed after it; deletions are kept as tombstones.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+public class TaskChangeLogService {
+
+    private final TaskChangeLogRepository changeLogRepository;
+
+    public TaskChangeLogService(TaskChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * Records the changes in the event. Projects are handled in ID order so concurrent transactions lock
+     * their sequence rows in the same order.
+     *
+     * @param event The task changes of the current transaction.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Map<Long, Map<Long, TaskChange>> changesByProject = new TreeMap<>();
+        for (TaskChange change : event.changes()) {
+            // só a última alteração de cada tarefa interessa ao feed
+            changesByProject.computeIfAbsent(change.projectId(), id -> new LinkedHashMap<>())
+                    .put(change.taskId(), change);
+        }
+
+        changesByProject.forEach((projectId, changes) -> {
+            long seq = changeLogRepository.reserve(projectId, changes.size()) - changes.size();
+            List<SqlParameterSource> rows = new ArrayList<>(changes.size());
+            for (TaskChange change : changes.values()) {
+                rows.add(new MapSqlParameterSource()
+                        .addValue("projectId", projectId)
+                        .addValue("taskId", change.taskId())
+                        .addValue("changeSeq", ++seq)
+                        .addValue("changeType", change.type().name()));
+            }
+            changeLogRepository.upsertAll(rows);
+        });
+    }
+
+    /**
+     * Returns the tasks of a project changed after a sequence number.
+     *
+     * @param projectId The project of the tasks.
+     * @param since The last sequence number the client has seen; 0 for a full download.
+     * @param limit The maximum number of changes.
+     * @return The changes in sequence order, with the current state of the tasks that still exist.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskChangeLogRepository.Entry> getChangesSince(Long projectId, long since, int limit) {
+        return changeLogRepository.findChangesSince(projectId, since, limit);
+    }
+}
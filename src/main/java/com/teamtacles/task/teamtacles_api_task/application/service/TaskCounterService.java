@@ -0,0 +1,136 @@
+package com.teamtacles.task.teamtacles_api_task.application.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskStatusCountsDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.ChangeType;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.ProjectTaskCounterEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.ProjectTaskCounterRepository;
+
+/**
+ * Service maintaining the per-project task status counters.
+ *
+ * The counters are updated from TaskChangedEvent inside the transaction of the task write, so they commit or
+ * roll back together with it. Each project has one counter per status for all its tasks and one per status
+ * for every responsible user. Archived tasks are still counted. A scheduled repair job recomputes all counters
+ * from the tasks and the archive tables.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+public class TaskCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterService.class);
+
+    private final ProjectTaskCounterRepository counterRepository;
+
+    public TaskCounterService(ProjectTaskCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    /**
+     * Applies the counter deltas of the changes in the event.
+     * Deltas are summed per counter first and applied in key order in one batch, so concurrent transactions
+     * lock the counter rows in the same order and a write costs one statement however many counters it touches.
+     *
+     * @param event The task changes of the current transaction.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Map<CounterKey, Long> deltas = new TreeMap<>();
+        for (TaskChange change : event.changes()) {
+            if (change.type() == ChangeType.ARCHIVED) {
+                // tarefas arquivadas continuam contadas
+                continue;
+            }
+            if (change.before() != null) {
+                addDeltas(deltas, change.before(), -1);
+            }
+            if (change.after() != null) {
+                addDeltas(deltas, change.after(), 1);
+            }
+        }
+        List<ProjectTaskCounterRepository.CounterDelta> changed = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                changed.add(new ProjectTaskCounterRepository.CounterDelta(key.projectId(), key.userId(), key.status().name(), delta));
+            }
+        });
+        if (!changed.isEmpty()) {
+            counterRepository.applyDeltas(changed);
+        }
+    }
+
+    /**
+     * Returns the task counts per status of a project, optionally restricted to one responsible user.
+     *
+     * @param projectId The project to count tasks of.
+     * @param userId The responsible user to count tasks of, or null for all tasks of the project.
+     * @return The counts per status, with every status present.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatusCountsDTO getCounts(Long projectId, Long userId) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        long userKey = userId != null ? userId : ProjectTaskCounterEntity.ALL_USERS;
+        long total = 0;
+        for (ProjectTaskCounterEntity counter : counterRepository.findByProjectIdAndUserId(projectId, userKey)) {
+            counts.put(counter.getStatus(), counter.getTaskCount());
+            total += counter.getTaskCount();
+        }
+        return new TaskStatusCountsDTO(projectId, userId, counts, total);
+    }
+
+    /**
+     * Recomputes every counter from the tasks and the archive tables, fixing any drift (e.g. rows changed outside the application).
+     * The counters are locked against task writes first, which wait for the repair to commit; the recount then
+     * sees every write that committed before it and none of those still to apply their deltas.
+     */
+    @Scheduled(cron = "${task-counters.repair-cron:0 0 3 * * *}")
+    @Transactional
+    public void repairCounters() {
+        counterRepository.lockCountersForRepair();
+        counterRepository.deleteAllCounters();
+        int projectRows = counterRepository.insertProjectCountsFromTasks();
+        int userRows = counterRepository.insertUserCountsFromTasks();
+        logger.info("Task counters recomputed: {} project counters, {} user counters", projectRows, userRows);
+    }
+
+    private void addDeltas(Map<CounterKey, Long> deltas, TaskSnapshot task, long delta) {
+        deltas.merge(new CounterKey(task.projectId(), ProjectTaskCounterEntity.ALL_USERS, task.status()), delta, Long::sum);
+        for (Long userId : task.distinctResponsibleUserIds()) {
+            deltas.merge(new CounterKey(task.projectId(), userId, task.status()), delta, Long::sum);
+        }
+    }
+
+    private record CounterKey(Long projectId, Long userId, Status status) implements Comparable<CounterKey> {
+        @Override
+        public int compareTo(CounterKey other) {
+            int byProject = projectId.compareTo(other.projectId);
+            if (byProject != 0) {
+                return byProject;
+            }
+            int byUser = userId.compareTo(other.userId);
+            return byUser != 0 ? byUser : status.compareTo(other.status);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.teamtacles.task.teamtacles_api_task.application.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of the serialized JSON of task DTOs, one fragment per task and expansion, tagged with the task version.
+ *
+ * List endpoints return the fragments as raw values inside the PagedResponse envelope: on a hit neither the DTO
+ * nor the user and project lookups that enrich it are built, and Jackson copies the cached UTF-8 bytes to the
+ * response instead of serializing the object graph again. A fragment is only used for the exact version it was
+ * serialized from, so an update to the task is never served stale; fragments of changed tasks are also dropped
+ * after commit to free their space early.
+ *
+ * The embedded owner, responsibles and project come from other services and are not versioned here; ttl bounds
+ * how long a change to them may take to show up.
+ *
+ * Metrics: task.json.fragments.requests (result=hit|miss|stale) and task.json.fragments.size.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskJsonFragmentCache {
+
+    /**
+     * The related resources embedded in a fragment; each expansion is cached separately.
+     */
+    public enum Expansion {
+        /** TaskResponseDTO: owner and responsibles. */
+        TASK,
+        /** TaskResponseFilteredDTO: project, owner and responsibles. */
+        TASK_FILTERED
+    }
+
+    private record FragmentKey(Long taskId, Expansion expansion) {
+    }
+
+    private record Fragment(long version, SerializedString json) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<FragmentKey, Fragment> fragments;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    @Autowired
+    public TaskJsonFragmentCache(ObjectMapper objectMapper,
+                                 @Value("${task-json-cache.max-bytes:32MB}") DataSize maxBytes,
+                                 @Value("${task-json-cache.ttl:5m}") Duration ttl,
+                                 MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((FragmentKey key, Fragment fragment) -> fragment.json().asUnquotedUTF8().length)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.stale = requests(meterRegistry, "stale");
+        Gauge.builder("task.json.fragments.size", fragments, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Returns the JSON of a task's DTO, serializing and caching it when there is no fragment for its version.
+     * Tasks without an ID or version (not yet saved) are serialized without caching.
+     *
+     * @param task The task; only its ID and version are read.
+     * @param expansion The expansion the DTO is built with.
+     * @param dto Builds the DTO of the task, including its expansion.
+     * @return The JSON of the DTO, to be written as a raw value.
+     */
+    public RawValue get(TaskEntity task, Expansion expansion, Supplier<?> dto) {
+        if (task.getId() == null || task.getVersion() == null) {
+            return new RawValue(serialize(dto.get()));
+        }
+
+        FragmentKey key = new FragmentKey(task.getId(), expansion);
+        long version = task.getVersion();
+        Fragment cached = fragments.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+            RequestMetrics.recordCacheHit();
+            return new RawValue(cached.json());
+        }
+        (cached == null ? misses : stale).increment();
+
+        Fragment fragment = new Fragment(version, serialize(dto.get()));
+        // uma leitura atrasada (ex.: réplica) não sobrescreve o fragmento de uma versão mais nova
+        fragments.asMap().merge(key, fragment, (current, candidate) -> current.version() > candidate.version() ? current : candidate);
+        return new RawValue(fragment.json());
+    }
+
+    /**
+     * Drops the fragments of the changed tasks once the change is committed.
+     *
+     * @param event The committed task changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (TaskChange change : event.changes()) {
+            for (Expansion expansion : Expansion.values()) {
+                fragments.invalidate(new FragmentKey(change.taskId(), expansion));
+            }
+        }
+    }
+
+    private SerializedString serialize(Object dto) {
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(dto));
+            json.asUnquotedUTF8(); // codifica uma vez; as respostas seguintes copiam estes bytes
+            return json;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize task " + dto, ex);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("task.json.fragments.requests")
+                .tag("result", result)
+                .description("Task JSON fragment cache lookups")
+                .register(meterRegistry);
+    }
+}
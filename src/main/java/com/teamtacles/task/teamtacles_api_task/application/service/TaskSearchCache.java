@@ -0,0 +1,165 @@
+package com.teamtacles.task.teamtacles_api_task.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.ReplicaProperties;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of task search results (the page of tasks and its total), keyed by the normalized filters.
+ *
+ * Every project has a version that is incremented after each committed task change, and searches across
+ * projects use a global version incremented by every change. A cached result stores the version read before
+ * its query ran and is only used while that version is current, so a write invalidates all searches of its
+ * project in O(1), without looking at the keys. Outdated entries are replaced when they are next requested or
+ * evicted by size.
+ *
+ * Versions are kept per instance; ttl bounds how long another instance may serve a result older than a write
+ * it did not see. With a read replica, results are not stored until the replica lag has passed since the
+ * project's last write, so a lagging read is never cached under the new version.
+ *
+ * Metrics: task.search.cache.requests (result=hit|miss|stale) and task.search.cache.size.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class TaskSearchCache {
+
+    private static final Long ALL_PROJECTS = -1L;
+
+    /**
+     * The normalized filters of a search. userId is the user the search is scoped to, or null for admins.
+     */
+    public record SearchKey(String kind, Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, Long userId,
+                            int page, int size, String sort) {
+
+        public static SearchKey filtered(Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, Long userScope, Pageable pageable) {
+            return new SearchKey("filtered", status, dueFrom, dueTo, projectId, userScope,
+                    pageable.isPaged() ? pageable.getPageNumber() : -1, pageable.isPaged() ? pageable.getPageSize() : -1,
+                    pageable.getSort().toString());
+        }
+
+        public static SearchKey responsible(Long projectId, Long userId, Pageable pageable) {
+            return new SearchKey("responsible", null, null, null, projectId, userId,
+                    pageable.isPaged() ? pageable.getPageNumber() : -1, pageable.isPaged() ? pageable.getPageSize() : -1,
+                    pageable.getSort().toString());
+        }
+    }
+
+    private record Version(long value, long changedAtNanos) {
+    }
+
+    private record CachedPage(long version, List<TaskSnapshot> content, Pageable pageable, long total) {
+    }
+
+    private final Cache<SearchKey, CachedPage> results;
+    private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+    private final long settleNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    @Autowired
+    public TaskSearchCache(@Value("${task-search-cache.max-size:5000}") long maxSize,
+                           @Value("${task-search-cache.ttl:1m}") Duration ttl,
+                           ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        this(maxSize, ttl, replicaProperties.isEnabled() ? replicaProperties.getReadYourWritesWindow() : Duration.ZERO, meterRegistry);
+    }
+
+    public TaskSearchCache(long maxSize, Duration ttl, Duration settleTime, MeterRegistry meterRegistry) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.settleNanos = settleTime.toNanos();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.stale = requests(meterRegistry, "stale");
+        Gauge.builder("task.search.cache.size", results, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result of a search, or runs it and caches its result.
+     *
+     * @param key The normalized filters of the search.
+     * @param query Runs the search; its tasks must have their responsibles loaded.
+     * @return A page of new, detached entities; callers may not write them back.
+     */
+    public Page<TaskEntity> get(SearchKey key, Supplier<Page<TaskEntity>> query) {
+        Long scope = key.projectId() != null ? key.projectId() : ALL_PROJECTS;
+        Version version = versions.getOrDefault(scope, new Version(0, 0));
+
+        CachedPage cached = results.getIfPresent(key);
+        if (cached != null && cached.version() == version.value()) {
+            hits.increment();
+            RequestMetrics.recordCacheHit();
+            return toPage(cached);
+        }
+        (cached == null ? misses : stale).increment();
+
+        Page<TaskEntity> page = query.get();
+        if (version.changedAtNanos() == 0 || System.nanoTime() - version.changedAtNanos() >= settleNanos) {
+            List<TaskSnapshot> content = page.getContent().stream().map(TaskSnapshot::of).toList();
+            cached = new CachedPage(version.value(), content, page.getPageable(), page.getTotalElements());
+            results.put(key, cached);
+            return toPage(cached);
+        }
+        return page;
+    }
+
+    /**
+     * Increments the versions of the changed projects once the change is committed. Incrementing after the
+     * commit, combined with reading the version before the query, means no result read before the commit can
+     * be stored under the new version.
+     *
+     * @param event The committed task changes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        long now = System.nanoTime();
+        event.changes().stream().map(TaskChange::projectId).distinct().forEach(projectId -> bump(projectId, now));
+        bump(ALL_PROJECTS, now);
+    }
+
+    private void bump(Long scope, long now) {
+        versions.merge(scope, new Version(1, now), (current, first) -> new Version(current.value() + 1, now));
+    }
+
+    private static Page<TaskEntity> toPage(CachedPage cached) {
+        return new PageImpl<>(cached.content().stream().map(TaskSnapshot::toEntity).toList(), cached.pageable(), cached.total());
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("task.search.cache.requests")
+                .tag("result", result)
+                .description("Task search result cache lookups")
+                .register(meterRegistry);
+    }
+}
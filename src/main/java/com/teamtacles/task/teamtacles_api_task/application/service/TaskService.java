@@ -1,22 +1,58 @@
 package com.teamtacles.task.teamtacles_api_task.application.service;
 
+import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskBulkStatusRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestPatchDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.*;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
+import com.teamtacles.task.teamtacles_api_task.application.export.TaskExportService;
+import com.teamtacles.task.teamtacles_api_task.application.imports.TaskImportJob;
+import com.teamtacles.task.teamtacles_api_task.application.index.HotProjectTaskIndex;
+import com.teamtacles.task.teamtacles_api_task.application.index.TaskTitleSuggestIndex;
+import com.teamtacles.task.teamtacles_api_task.application.imports.TaskImportService;
+import com.teamtacles.task.teamtacles_api_task.application.stream.TaskStreamService;
+import com.teamtacles.task.teamtacles_api_task.domain.model.Task;
 import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.PagedResponseMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskDtoMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.TaskMapper;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskArchiveRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBoardRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBulkStatusRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
-import org.modelmapper.ModelMapper;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskTextSearchRepository;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.function.Function;
 
@@ -25,6 +61,10 @@ import java.util.function.Function;
  * This class orchestrates operations between the TaskRepository and external services
  * like UserServiceClient and ProjectServiceClient to manage tasks, enforce security,
  * and structure responses.
+ * Every write publishes a TaskChangedEvent within its transaction. The single-task writes call the other
+ * services before and after their transaction, never inside it, so no lock or connection is held while they wait.
+ * Likewise, the reads only hold a read-only transaction around their queries and enrich the detached copies
+ * of the tasks after it ends.
  *
  * @author TeamTacles
  * @version 1.0
@@ -33,18 +73,61 @@ import java.util.function.Function;
 @Service
 public class TaskService {
 
+    public static final int MAX_BOARD_COLUMN_SIZE = 100;
+    public static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final int MAX_BULK_STATUS_TASKS = 1000;
+
     private final TaskRepository taskRepository;
     private final UserServiceClient userServiceClient;
     private final ProjectServiceClient projectServiceClient;
-    private final ModelMapper modelMapper;
     private final PagedResponseMapper pagedResponseMapper;
-
-    public TaskService(TaskRepository taskRepository, UserServiceClient userServiceClient, ProjectServiceClient projectServiceClient, ModelMapper modelMapper, PagedResponseMapper pagedResponseMapper) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCounterService taskCounterService;
+    private final TaskBoardRepository taskBoardRepository;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskChangeLogService taskChangeLogService;
+    private final TaskStreamService taskStreamService;
+    private final TaskSearchCache taskSearchCache;
+    private final TaskJsonFragmentCache taskJsonFragmentCache;
+    private final HotProjectTaskIndex hotProjectTaskIndex;
+    private final TaskTextSearchRepository taskTextSearchRepository;
+    private final TaskTitleSuggestIndex taskTitleSuggestIndex;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskBulkStatusRepository taskBulkStatusRepository;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskService(TaskRepository taskRepository, UserServiceClient userServiceClient, ProjectServiceClient projectServiceClient, PagedResponseMapper pagedResponseMapper,
+                       ApplicationEventPublisher eventPublisher, TaskCounterService taskCounterService, TaskBoardRepository taskBoardRepository,
+                       TaskExportService taskExportService, TaskImportService taskImportService,
+                       TaskChangeLogService taskChangeLogService, TaskStreamService taskStreamService,
+                       TaskSearchCache taskSearchCache, TaskJsonFragmentCache taskJsonFragmentCache, HotProjectTaskIndex hotProjectTaskIndex,
+                       TaskTextSearchRepository taskTextSearchRepository, TaskTitleSuggestIndex taskTitleSuggestIndex,
+                       TaskArchiveRepository taskArchiveRepository, TaskBulkStatusRepository taskBulkStatusRepository,
+                       PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.userServiceClient = userServiceClient;
         this.projectServiceClient = projectServiceClient;
-        this.modelMapper = modelMapper;
         this.pagedResponseMapper = pagedResponseMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskCounterService = taskCounterService;
+        this.taskBoardRepository = taskBoardRepository;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskChangeLogService = taskChangeLogService;
+        this.taskStreamService = taskStreamService;
+        this.taskSearchCache = taskSearchCache;
+        this.taskJsonFragmentCache = taskJsonFragmentCache;
+        this.hotProjectTaskIndex = hotProjectTaskIndex;
+        this.taskTextSearchRepository = taskTextSearchRepository;
+        this.taskTitleSuggestIndex = taskTitleSuggestIndex;
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.taskBulkStatusRepository = taskBulkStatusRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -52,6 +135,9 @@ public class TaskService {
      * It verifies that the owner and all responsible users exist and that the owner
      * has permission to view the project. The task owner is automatically added
      * to the list of responsible users if not already present.
+     * Repeated responsible users are stored once, and the responsibles are stored in ID order.
+     * The users and the project are checked before the transaction, which only saves the task and publishes
+     * its event; the response is enriched with the users after the commit.
      *
      * @param projectId The ID of the project to associate the task with.
      * @param taskRequestDTO DTO containing the details for the new task.
@@ -67,26 +153,27 @@ public class TaskService {
         userServiceClient.getUserById(ownerId, token);
         ProjectResponseDTO projectDTO = projectServiceClient.getProjectById(projectId, token);
 
-        List<Long> responsibleIds = new ArrayList<>(taskRequestDTO.getUsersResponsability());
-        for (Long responsibleId : responsibleIds) {
-            userServiceClient.getUserById(responsibleId, token);
-        }
-
-        if (!responsibleIds.contains(ownerId)) {
-            responsibleIds.add(ownerId);
-        }
+        // conjunto ordenado: cada responsável é consultado uma única vez e as inclusões abaixo são O(log n)
+        ResponsibleUserIds responsibleIds = ResponsibleUserIds.of(taskRequestDTO.getUsersResponsability());
+        responsibleIds.forEach(responsibleId -> userServiceClient.getUserById(responsibleId, token));
 
-        if (!responsibleIds.contains(projectDTO.getCreator().getUserId())) {
-            responsibleIds.add(projectDTO.getCreator().getUserId());
+        responsibleIds = responsibleIds.with(ownerId);
+        Long creatorId = projectDTO.getCreator().getUserId();
+        if (creatorId != null) {
+            responsibleIds = responsibleIds.with(creatorId);
         }
 
-        TaskEntity taskEntity = modelMapper.map(taskRequestDTO, TaskEntity.class);
+        TaskEntity taskEntity = TaskDtoMapper.toEntity(taskRequestDTO);
         taskEntity.setProjectId(projectId);
         taskEntity.setOwnerUserId(ownerId);
         taskEntity.setStatus(Status.TODO);
-        taskEntity.setResponsibleUserIds(responsibleIds);
+        taskEntity.setResponsibleUserIds(responsibleIds.toList());
 
-        TaskEntity savedEntity = taskRepository.save(taskEntity);
+        TaskEntity savedEntity = writeTransaction.execute(status -> {
+            TaskEntity saved = taskRepository.save(taskEntity);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChange.created(TaskSnapshot.of(saved))));
+            return saved;
+        });
         return convertToDto(savedEntity, token);
     }
 
@@ -94,6 +181,7 @@ public class TaskService {
      * Retrieves a single task by its ID and project ID.
      * It ensures the task exists and belongs to the specified project, and that the
      * requesting user has permission to access it.
+     * Read-only: served by the read replica when one is configured. Archived tasks are found as well.
      *
      * @param projectId The ID of the project the task belongs to.
      * @param taskId The ID of the task to retrieve.
@@ -105,14 +193,18 @@ public class TaskService {
      * @throws AccessDeniedException if the user is not an admin, owner, or responsible user.
      */
     public TaskResponseDTO getTasksById(Long projectId, Long taskId, Long userId, List<String> roles, String token) {
-        TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
-        ensureUserCanAccessTask(taskEntity, userId, roles);
+        TaskEntity taskEntity = readOnlyTransaction.execute(status -> {
+            TaskEntity found = findTaskOrArchivedByIdAndProject(taskId, projectId);
+            ensureUserCanAccessTask(found, userId, roles);
+            return detached(found);
+        });
         return convertToDto(taskEntity, token);
     }
 
     /**
      * Retrieves a paginated list of tasks for a specific user within a specific project.
      * The requesting user must be an admin or the same user whose tasks are being requested.
+     * Read-only, like getTasksById. Results are cached per filters until the project changes.
      *
      * @param pageable Pagination information.
      * @param projectId The ID of the project to search within.
@@ -125,16 +217,30 @@ public class TaskService {
      * @throws ResourceNotFoundException if the project or target user is not found.
      */
     public PagedResponse<TaskResponseDTO> getAllTasksFromUserInProject(Pageable pageable, Long projectId, Long targetUserId, Long requestingUserId, List<String> roles, String token) {
-        ensureUserCanViewProject(projectId, requestingUserId, roles, token);
-
-        if (!isAdmin(roles) && !requestingUserId.equals(targetUserId)) {
-            throw new AccessDeniedException("FORBIDDEN - You do not have permission to access this user's tasks.");
-        }
+        Page<TaskEntity> tasksPage = findTasksFromUserInProject(pageable, projectId, targetUserId, requestingUserId, roles, token);
+        Function<TaskEntity, TaskResponseDTO> converter = entity -> convertToDto(entity, token);
 
-        userServiceClient.getUserById(targetUserId, token);
+        return pagedResponseMapper.toPagedResponse(tasksPage, converter);
+    }
 
-        Page<TaskEntity> tasksPage = taskRepository.findByProjectIdAndResponsibleUser(projectId, targetUserId, pageable);
-        Function<TaskEntity, TaskResponseDTO> converter = entity -> convertToDto(entity, token);
+    /**
+     * Same as getAllTasksFromUserInProject, but each task is returned as its serialized JSON from the fragment
+     * cache. Tasks whose current version is cached are neither converted nor enriched again.
+     *
+     * @param pageable Pagination information.
+     * @param projectId The ID of the project to search within.
+     * @param targetUserId The ID of the user whose tasks are to be retrieved.
+     * @param requestingUserId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return A paginated response of the JSON of each task DTO.
+     * @throws AccessDeniedException if the requesting user is not authorized to view the target user's tasks.
+     * @throws ResourceNotFoundException if the project or target user is not found.
+     */
+    public PagedResponse<RawValue> getAllTasksFromUserInProjectAsJson(Pageable pageable, Long projectId, Long targetUserId, Long requestingUserId, List<String> roles, String token) {
+        Page<TaskEntity> tasksPage = findTasksFromUserInProject(pageable, projectId, targetUserId, requestingUserId, roles, token);
+        Function<TaskEntity, RawValue> converter = entity -> taskJsonFragmentCache.get(entity,
+                TaskJsonFragmentCache.Expansion.TASK, () -> convertToDto(entity, token));
 
         return pagedResponseMapper.toPagedResponse(tasksPage, converter);
     }
@@ -143,6 +249,9 @@ public class TaskService {
      * Retrieves a paginated list of tasks based on optional filters.
      * If the user is an admin, the search is performed without user restrictions.
      * Otherwise, the search is scoped to tasks where the user is the owner or a responsible user.
+     * Read-only, so the heavy searches go to the read replica when one is configured. Results are cached
+     * per normalized filters and user scope until a task of the searched project changes. Searches of one of
+     * the most searched projects are answered by the in-memory index when it is enabled.
      *
      * @param status Optional status to filter by.
      * @param dueDate Optional due date to filter by (tasks due on or before this date).
@@ -155,39 +264,391 @@ public class TaskService {
      * @throws IllegalArgumentException if the status string is invalid.
      */
     public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String status, LocalDateTime dueDate, Long projectId, Pageable pageable, Long userId, List<String> roles, String token) {
+        return getAllTasksFiltered(status, null, dueDate, projectId, null, false, pageable, userId, roles, token);
+    }
+
+    /**
+     * Same as getAllTasksFiltered, with a due date range and optionally restricted to the tasks whose title or
+     * description contain every term of a search text. Text searches are ordered by relevance (title matches
+     * first), ignoring the sort of the pageable, and always run against the full-text index of the database.
+     * Archived tasks are only included on request, by a query over the hot and the archive tables that bypasses
+     * the in-memory index and the search cache; they can not be searched by text.
+     *
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional start of the due date range (tasks due on or after this date).
+     * @param dueTo Optional end of the due date range (tasks due on or before this date).
+     * @param projectId Optional project ID to filter by.
+     * @param q Optional search text; blank means no text search.
+     * @param includeArchived Whether archived tasks are searched too.
+     * @param pageable Pagination information.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return A paginated response of filtered task DTOs.
+     * @throws IllegalArgumentException if the status string is invalid, dueFrom is after dueTo, the search text has no letters or digits,
+     *                                  or archived tasks are included in a text search or sorted by a property that is not a column.
+     */
+    public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, String q, boolean includeArchived,
+                                                                      Pageable pageable, Long userId, List<String> roles, String token) {
+        Page<TaskEntity> tasksPage = findTasksFiltered(status, dueFrom, dueTo, projectId, q, includeArchived, pageable, userId, roles, token);
+        Page<TaskResponseFilteredDTO> dtoPage = tasksPage.map(entity -> convertToFilteredDto(entity, token));
+
+        return new PagedResponse<>(dtoPage.getContent(), dtoPage.getNumber(), dtoPage.getSize(), dtoPage.getTotalElements(), dtoPage.getTotalPages(), dtoPage.isLast());
+    }
+
+    /**
+     * Same as getAllTasksFiltered, but each task is returned as its serialized JSON from the fragment cache.
+     * Tasks whose current version is cached are neither converted nor enriched again.
+     *
+     * @param status Optional status to filter by.
+     * @param dueDate Optional due date to filter by (tasks due on or before this date).
+     * @param projectId Optional project ID to filter by.
+     * @param pageable Pagination information.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return A paginated response of the JSON of each filtered task DTO.
+     * @throws IllegalArgumentException if the status string is invalid.
+     */
+    public PagedResponse<RawValue> getAllTasksFilteredAsJson(String status, LocalDateTime dueDate, Long projectId, Pageable pageable, Long userId, List<String> roles, String token) {
+        return getAllTasksFilteredAsJson(status, null, dueDate, projectId, null, false, pageable, userId, roles, token);
+    }
+
+    /**
+     * Same as getAllTasksFilteredAsJson, with the due date range, the optional search text and the archive option
+     * of getAllTasksFiltered.
+     *
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional start of the due date range (tasks due on or after this date).
+     * @param dueTo Optional end of the due date range (tasks due on or before this date).
+     * @param projectId Optional project ID to filter by.
+     * @param q Optional search text; blank means no text search.
+     * @param includeArchived Whether archived tasks are searched too.
+     * @param pageable Pagination information.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return A paginated response of the JSON of each filtered task DTO.
+     * @throws IllegalArgumentException if the status string is invalid, dueFrom is after dueTo, the search text has no letters or digits,
+     *                                  or archived tasks are included in a text search or sorted by a property that is not a column.
+     */
+    public PagedResponse<RawValue> getAllTasksFilteredAsJson(String status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, String q, boolean includeArchived,
+                                                             Pageable pageable, Long userId, List<String> roles, String token) {
+        Page<TaskEntity> tasksPage = findTasksFiltered(status, dueFrom, dueTo, projectId, q, includeArchived, pageable, userId, roles, token);
+        Page<RawValue> jsonPage = tasksPage.map(entity -> taskJsonFragmentCache.get(entity,
+                TaskJsonFragmentCache.Expansion.TASK_FILTERED, () -> convertToFilteredDto(entity, token)));
+
+        return new PagedResponse<>(jsonPage.getContent(), jsonPage.getNumber(), jsonPage.getSize(), jsonPage.getTotalElements(), jsonPage.getTotalPages(), jsonPage.isLast());
+    }
+
+    /**
+     * Retrieves the overdue tasks: due before now and not DONE, earliest due date first when no sort is given.
+     * Regular users only see the tasks they own or are responsible for, as in the task search. Not cached, since
+     * the result changes with time; each task is returned as its serialized JSON from the fragment cache.
+     *
+     * @param projectId Optional project ID to filter by.
+     * @param pageable Pagination information.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return A paginated response of the JSON of each overdue task DTO.
+     * @throws AccessDeniedException if a project is given and the user may not view it.
+     * @throws ResourceNotFoundException if a project is given and it is not found.
+     */
+    public PagedResponse<RawValue> getOverdueTasksAsJson(Long projectId, Pageable pageable, Long userId, List<String> roles, String token) {
+        if (projectId != null) {
+            ensureUserCanViewProject(projectId, userId, roles, token);
+        }
+        Pageable byDueDate = pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("dueDate", "id"))
+                : pageable;
+        LocalDateTime now = LocalDateTime.now();
+        Page<TaskEntity> tasksPage = readOnlyTransaction.execute(status -> detached(isAdmin(roles)
+                ? taskRepository.findOverdueTasks(now, projectId, byDueDate)
+                : taskRepository.findOverdueTasksByUser(now, projectId, userId, byDueDate)));
+        Page<RawValue> jsonPage = tasksPage.map(entity -> taskJsonFragmentCache.get(entity,
+                TaskJsonFragmentCache.Expansion.TASK_FILTERED, () -> convertToFilteredDto(entity, token)));
+
+        return new PagedResponse<>(jsonPage.getContent(), jsonPage.getNumber(), jsonPage.getSize(), jsonPage.getTotalElements(), jsonPage.getTotalPages(), jsonPage.isLast());
+    }
+
+    private Page<TaskEntity> findTasksFromUserInProject(Pageable pageable, Long projectId, Long targetUserId, Long requestingUserId, List<String> roles, String token) {
+        ensureUserCanViewProject(projectId, requestingUserId, roles, token);
+
+        if (!isAdmin(roles) && !requestingUserId.equals(targetUserId)) {
+            throw new AccessDeniedException("FORBIDDEN - You do not have permission to access this user's tasks.");
+        }
+
+        userServiceClient.getUserById(targetUserId, token);
+
+        return taskSearchCache.get(TaskSearchCache.SearchKey.responsible(projectId, targetUserId, pageable),
+                () -> readOnlyTransaction.execute(status -> detached(taskRepository.findByProjectIdAndResponsibleUser(projectId, targetUserId, pageable))));
+    }
+
+    private Page<TaskEntity> findTasksFiltered(String status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, String q, boolean includeArchived,
+                                               Pageable pageable, Long userId, List<String> roles, String token) {
         Status statusEnum = transformStatusToEnum(status);
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("The start of the due date range must not be after its end.");
+        }
+        boolean textSearch = q != null && !q.isBlank();
+        if (includeArchived && textSearch) {
+            throw new IllegalArgumentException("Archived tasks can not be searched by text.");
+        }
 
         if (projectId != null) {
             ensureUserCanViewProject(projectId, userId, roles, token);
         }
 
-        Page<TaskEntity> tasksPage;
-        if (isAdmin(roles)) {
-            tasksPage = taskRepository.findTasksFiltered(statusEnum, dueDate, projectId, pageable);
-        } else {
-            tasksPage = taskRepository.findTasksFilteredByUser(statusEnum, dueDate, projectId, userId, pageable);
-        }
-
-        // Para o filtro, a conversão para DTO também precisa do token
-        Page<TaskResponseFilteredDTO> dtoPage = tasksPage.map(entity -> {
-            TaskResponseFilteredDTO dto = modelMapper.map(entity, TaskResponseFilteredDTO.class);
-            ProjectResponseDTO projectDto = projectServiceClient.getProjectById(entity.getProjectId(), token);
-            dto.setProject(modelMapper.map(projectDto, ProjectResponseFilteredDTO.class));
-            UserResponseDTO ownerDto = userServiceClient.getUserById(entity.getOwnerUserId(), token);
-            dto.setOwner(ownerDto);
-            List<UserResponseDTO> responsibleDtos = entity.getResponsibleUserIds().stream()
-                    .map(id -> userServiceClient.getUserById(id, token))
-                    .collect(Collectors.toList());
-            dto.setUsersResponsability(responsibleDtos);
-            return dto;
+        boolean admin = isAdmin(roles);
+        if (includeArchived && (statusEnum == null || statusEnum == Status.DONE)) {
+            // o arquivo só guarda tarefas DONE: com outro status, a busca normal já está completa
+            return readOnlyTransaction.execute(transaction -> {
+                Page<Long> ids = taskArchiveRepository.searchIncludingArchive(statusEnum, dueFrom, dueTo, projectId, admin ? null : userId, pageable);
+                return new PageImpl<>(loadInOrder(ids.getContent()), pageable, ids.getTotalElements());
+            });
+        }
+        if (textSearch) {
+            // busca textual: nem o índice em memória nem o cache de buscas cobrem o texto
+            List<String> terms = TaskTextSearchRepository.terms(q);
+            if (terms.isEmpty()) {
+                throw new IllegalArgumentException("The search text must contain at least one letter or digit.");
+            }
+            return readOnlyTransaction.execute(transaction -> {
+                TaskTextSearchRepository.Result result = taskTextSearchRepository.search(terms, statusEnum, dueFrom, dueTo, projectId, admin ? null : userId, pageable);
+                return new PageImpl<>(loadInOrder(result.ids()), pageable, result.total());
+            });
+        }
+        if (projectId != null) {
+            Optional<Page<TaskEntity>> indexed = hotProjectTaskIndex.find(projectId, statusEnum, dueFrom, dueTo, admin ? null : userId, pageable);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+        TaskSearchCache.SearchKey searchKey = TaskSearchCache.SearchKey.filtered(statusEnum, dueFrom, dueTo, projectId, admin ? null : userId, pageable);
+        return taskSearchCache.get(searchKey, () -> readOnlyTransaction.execute(transaction -> detached(admin
+                ? taskRepository.findTasksFiltered(statusEnum, dueFrom, dueTo, projectId, pageable)
+                : taskRepository.findTasksFilteredByUser(statusEnum, dueFrom, dueTo, projectId, userId, pageable))));
+    }
+
+    // Carrega as tarefas de uma só vez e devolve cópias desanexadas na ordem dos IDs (a da relevância); as
+    // ausentes da tabela quente são procuradas no arquivo. Só dentro de uma transação.
+    private List<TaskEntity> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskEntity> byId = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        if (byId.size() < ids.size()) {
+            taskArchiveRepository.findAllById(ids.stream().filter(id -> !byId.containsKey(id)).toList())
+                    .forEach(task -> byId.put(task.getId(), task));
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(entity -> entity != null)
+                .map(TaskService::detached)
+                .toList();
+    }
+
+    // Cópias desanexadas, com os responsáveis já carregados: a conversão para DTO roda depois da transação
+    private static TaskEntity detached(TaskEntity entity) {
+        return TaskSnapshot.of(entity).toEntity();
+    }
+
+    private static Page<TaskEntity> detached(Page<TaskEntity> page) {
+        return page.map(TaskService::detached);
+    }
+
+    // Para o filtro, a conversão para DTO também precisa do token
+    private TaskResponseFilteredDTO convertToFilteredDto(TaskEntity entity, String token) {
+        TaskResponseFilteredDTO dto = TaskDtoMapper.toFilteredDto(entity);
+        ProjectResponseDTO projectDto = projectServiceClient.getProjectById(entity.getProjectId(), token);
+        dto.setProject(TaskDtoMapper.toProjectFilteredDto(projectDto));
+        UserResponseDTO ownerDto = userServiceClient.getUserById(entity.getOwnerUserId(), token);
+        dto.setOwner(ownerDto);
+        List<UserResponseDTO> responsibleDtos = entity.getResponsibleUserIds().stream()
+                .map(id -> userServiceClient.getUserById(id, token))
+                .collect(Collectors.toList());
+        dto.setUsersResponsability(responsibleDtos);
+        return dto;
+    }
+
+    /**
+     * Retrieves the Kanban board of a project: one column per status with its total and its first tasks by due date.
+     * The columns are loaded with a single query and every user referenced on the board is fetched only once.
+     * Regular users only see the tasks they own or are responsible for, as in the task search.
+     *
+     * @param projectId The ID of the project.
+     * @param columnSize The maximum number of tasks per column, capped at MAX_BOARD_COLUMN_SIZE.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The board, with the columns in Status order.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project or a referenced user is not found.
+     * @throws IllegalArgumentException if the column size is not positive.
+     */
+    public TaskBoardDTO getBoard(Long projectId, int columnSize, Long userId, List<String> roles, String token) {
+        if (columnSize <= 0) {
+            throw new IllegalArgumentException("The board column size must be positive.");
+        }
+        ensureUserCanViewProject(projectId, userId, roles, token);
+
+        Map<Status, TaskBoardRepository.Column> board = taskBoardRepository.findBoard(projectId,
+                Math.min(columnSize, MAX_BOARD_COLUMN_SIZE), isAdmin(roles) ? null : userId);
+
+        // busca cada usuário referenciado no quadro uma única vez
+        Map<Long, UserResponseDTO> users = new HashMap<>();
+        Function<Long, UserResponseDTO> userLookup = id -> users.computeIfAbsent(id, key -> userServiceClient.getUserById(key, token));
+
+        List<TaskBoardColumnDTO> columns = new ArrayList<>(board.size());
+        board.forEach((status, column) -> {
+            List<TaskResponseDTO> tasks = new ArrayList<>(column.tasks().size());
+            for (TaskEntity taskEntity : column.tasks()) {
+                tasks.add(convertToDto(taskEntity, userLookup));
+            }
+            columns.add(new TaskBoardColumnDTO(status, column.total(), tasks));
         });
+        return new TaskBoardDTO(projectId, columns);
+    }
 
-        return new PagedResponse<>(dtoPage.getContent(), dtoPage.getNumber(), dtoPage.getSize(), dtoPage.getTotalElements(), dtoPage.getTotalPages(), dtoPage.isLast());
+    /**
+     * Retrieves the tasks of a project changed after a cursor, so clients can synchronize without downloading
+     * every task again. Deleted tasks are returned as tombstones. For regular users, tasks they no longer own
+     * or are responsible for are also returned as tombstones, since they have left the user's view.
+     *
+     * @param projectId The ID of the project.
+     * @param since The cursor of the previous response; 0 for a full download.
+     * @param limit The maximum number of changes, capped at MAX_CHANGES_PAGE_SIZE.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The changes and the cursor for the next request.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project or a referenced user is not found.
+     * @throws IllegalArgumentException if the cursor is negative or the limit is not positive.
+     */
+    public TaskChangesDTO getChanges(Long projectId, long since, int limit, Long userId, List<String> roles, String token) {
+        if (since < 0) {
+            throw new IllegalArgumentException("The change cursor must not be negative.");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The change limit must be positive.");
+        }
+        ensureUserCanViewProject(projectId, userId, roles, token);
+
+        int pageSize = Math.min(limit, MAX_CHANGES_PAGE_SIZE);
+        List<TaskChangeLogRepository.Entry> entries = taskChangeLogService.getChangesSince(projectId, since, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        Map<Long, UserResponseDTO> users = new HashMap<>();
+        Function<Long, UserResponseDTO> userLookup = id -> users.computeIfAbsent(id, key -> userServiceClient.getUserById(key, token));
+        boolean admin = isAdmin(roles);
+
+        List<TaskChangeDTO> changes = new ArrayList<>(entries.size());
+        long cursor = since;
+        for (TaskChangeLogRepository.Entry entry : entries) {
+            Task task = TaskMapper.toDomain(entry.task());
+            boolean visible = task != null && (admin || (userId != null && task.isOwnerOrResponsible(userId)));
+            changes.add(new TaskChangeDTO(entry.taskId(), entry.changeSeq(), entry.changeType(), entry.changedAt(),
+                    !visible, visible ? convertToDto(task, userLookup) : null));
+            cursor = entry.changeSeq();
+        }
+        return new TaskChangesDTO(projectId, cursor, hasMore, changes);
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of the task changes of a project. Access is checked once, when
+     * subscribing; regular users then only receive the changes of tasks they own or are responsible for.
+     *
+     * @param projectId The ID of the project to follow.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The emitter of the stream.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    public SseEmitter streamTaskChanges(Long projectId, Long userId, List<String> roles, String token) {
+        ensureUserCanViewProject(projectId, userId, roles, token);
+        return taskStreamService.subscribe(projectId, isAdmin(roles) ? null : userId);
+    }
+
+    /**
+     * Prepares the export of all tasks of a project. Access is checked right away, so a forbidden export
+     * fails before anything is written; the returned body then streams the tasks when the response is written.
+     * Regular users only export the tasks they own or are responsible for.
+     *
+     * @param projectId The ID of the project to export.
+     * @param format The output format.
+     * @param gzip Whether the output is gzip-compressed.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The response body writing the export.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    public StreamingResponseBody exportTasks(Long projectId, ExportFormat format, boolean gzip, Long userId, List<String> roles, String token) {
+        ensureUserCanViewProject(projectId, userId, roles, token);
+        Long userScope = isAdmin(roles) ? null : userId;
+        return output -> taskExportService.export(projectId, userScope, format, gzip, output, token);
+    }
+
+    /**
+     * Starts the import of a task file into a project. The file is stored and processed in the background;
+     * the returned status is used to follow the progress. The importing user becomes the owner of the tasks,
+     * and the user and the project creator are added as responsibles, as in createTask.
+     *
+     * @param projectId The ID of the project to import the tasks into.
+     * @param format The format of the file.
+     * @param upload The request body.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The status of the queued import.
+     * @throws IOException if the upload cannot be read.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    public TaskImportStatusDTO startImport(Long projectId, ExportFormat format, InputStream upload, Long userId, List<String> roles, String token) throws IOException {
+        ensureUserCanViewProject(projectId, userId, roles, token);
+        ProjectResponseDTO projectDTO = projectServiceClient.getProjectById(projectId, token);
+        TaskImportJob job = taskImportService.start(projectId, format, upload, userId, projectDTO.getCreator().getUserId(), token);
+        return job.toStatus();
+    }
+
+    /**
+     * Retrieves the progress of an import. Only the user who started it, or an admin, can see it.
+     *
+     * @param projectId The ID of the project the import belongs to.
+     * @param importId The ID of the import.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @return The status of the import.
+     * @throws ResourceNotFoundException if the import is not found in this project.
+     * @throws AccessDeniedException if the import was started by another user.
+     */
+    public TaskImportStatusDTO getImportStatus(Long projectId, String importId, Long userId, List<String> roles) {
+        TaskImportJob job = taskImportService.getJob(importId);
+        if (!job.getProjectId().equals(projectId)) {
+            throw new ResourceNotFoundException("Import with ID " + importId + " not found in project " + projectId + ".");
+        }
+        if (!isAdmin(roles) && !job.getUserId().equals(userId)) {
+            throw new AccessDeniedException("You do not have permission to view this import.");
+        }
+        return job.toStatus();
     }
 
     /**
      * Updates an existing task with new details.
      * It ensures the user has permission to access the task before applying changes.
+     * Access is checked first with a read of the task, so a user without access causes no user service calls
+     * and cannot probe which user IDs exist; the responsible users are then checked outside of any transaction,
+     * and access is checked again in the write transaction. The response is enriched after the commit.
      *
      * @param projectId The ID of the project the task belongs to.
      * @param taskId The ID of the task to update.
@@ -200,24 +661,33 @@ public class TaskService {
      * @throws AccessDeniedException if the user does not have permission to access the task.
      */
     public TaskResponseDTO updateTask(Long projectId, Long taskId, TaskRequestDTO taskRequestDTO, Long userId, List<String> roles, String token) {
-        TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
-        ensureUserCanAccessTask(taskEntity, userId, roles);
+        readOnlyTransaction.executeWithoutResult(status ->
+                ensureUserCanAccessTask(findTaskByIdAndProject(taskId, projectId), userId, roles));
 
-        List<Long> responsibleIds = new ArrayList<>(taskRequestDTO.getUsersResponsability());
-        for (Long responsibleId : responsibleIds) {
-            userServiceClient.getUserById(responsibleId, token);
-        }
+        // conjunto ordenado, como em createTask: cada responsável repetido é consultado e salvo uma única vez
+        ResponsibleUserIds responsibles = ResponsibleUserIds.of(taskRequestDTO.getUsersResponsability());
+        responsibles.forEach(responsibleId -> userServiceClient.getUserById(responsibleId, token));
+        List<Long> responsibleIds = responsibles.toList();
+
+        TaskEntity updatedEntity = writeTransaction.execute(status -> {
+            TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
+            ensureUserCanAccessTask(taskEntity, userId, roles);
 
-        modelMapper.map(taskRequestDTO, taskEntity);
-        taskEntity.setResponsibleUserIds(responsibleIds);
+            TaskSnapshot before = TaskSnapshot.of(taskEntity);
+            TaskDtoMapper.updateEntity(taskRequestDTO, taskEntity);
+            taskEntity.setResponsibleUserIds(responsibleIds);
 
-        TaskEntity updatedEntity = taskRepository.save(taskEntity);
+            TaskEntity updated = taskRepository.save(taskEntity);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChange.updated(before, TaskSnapshot.of(updated))));
+            return updated;
+        });
         return convertToDto(updatedEntity, token);
     }
 
      /**
      * Partially updates a task, specifically its status.
      * It ensures the user has permission to access the task before applying the change.
+     * The response is enriched with the users after the commit.
      *
      * @param projectId The ID of the project the task belongs to.
      * @param taskId The ID of the task to update.
@@ -230,15 +700,76 @@ public class TaskService {
      * @throws AccessDeniedException if the user does not have permission to access the task.
      */
     public TaskResponseDTO updateStatus(Long projectId, Long taskId, TaskRequestPatchDTO patchDTO, Long userId, List<String> roles, String token) {
-        TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
-        ensureUserCanAccessTask(taskEntity, userId, roles);
+        TaskEntity updatedEntity = writeTransaction.execute(status -> {
+            TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
+            ensureUserCanAccessTask(taskEntity, userId, roles);
 
-        patchDTO.getStatus().ifPresent(taskEntity::setStatus);
+            TaskSnapshot before = TaskSnapshot.of(taskEntity);
+            patchDTO.getStatus().ifPresent(taskEntity::setStatus);
 
-        TaskEntity updatedEntity = taskRepository.save(taskEntity);
+            TaskEntity updated = taskRepository.save(taskEntity);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChange.statusChanged(before, TaskSnapshot.of(updated))));
+            return updated;
+        });
         return convertToDto(updatedEntity, token);
     }
 
+    /**
+     * Changes the status of many tasks of a project at once. The tasks are locked and checked against the user
+     * with one query and updated with one statement, which also bumps their versions; the changes are published
+     * in a single event, so the change feed reserves their sequence numbers together. The tasks are not
+     * enriched with users, and one task that can not be changed does not stop the others.
+     *
+     * @param projectId The ID of the project the tasks belong to.
+     * @param requestDTO DTO containing the task IDs and the new status.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @return The number of tasks changed and the outcome of each requested ID, in request order.
+     * @throws IllegalArgumentException if no task ID, a null one or more than MAX_BULK_STATUS_TASKS are given.
+     */
+    @Transactional
+    public TaskBulkStatusResultDTO updateStatuses(Long projectId, TaskBulkStatusRequestDTO requestDTO, Long userId, List<String> roles) {
+        List<Long> taskIds = requestDTO.getTaskIds();
+        if (taskIds == null || taskIds.isEmpty() || taskIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("At least one task ID must be given, and none may be null.");
+        }
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(taskIds);
+        if (distinctIds.size() > MAX_BULK_STATUS_TASKS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_TASKS + " tasks can be changed at once.");
+        }
+        Status status = requestDTO.getStatus();
+
+        Map<Long, TaskBulkStatusRepository.LockedTask> locked = taskBulkStatusRepository
+                .lockTasks(projectId, distinctIds, isAdmin(roles) ? null : userId).stream()
+                .collect(Collectors.toMap(lockedTask -> lockedTask.task().getId(), Function.identity()));
+
+        List<TaskChange> changes = new ArrayList<>();
+        List<TaskBulkStatusOutcomeDTO> outcomes = new ArrayList<>(distinctIds.size());
+        for (Long taskId : distinctIds) {
+            TaskBulkStatusRepository.LockedTask lockedTask = locked.get(taskId);
+            if (lockedTask == null) {
+                outcomes.add(new TaskBulkStatusOutcomeDTO(taskId, "NOT_FOUND", null));
+            } else if (!lockedTask.allowed()) {
+                outcomes.add(new TaskBulkStatusOutcomeDTO(taskId, "FORBIDDEN", null));
+            } else if (lockedTask.task().getStatus() == status) {
+                outcomes.add(new TaskBulkStatusOutcomeDTO(taskId, "UNCHANGED", lockedTask.task().getVersion()));
+            } else {
+                TaskSnapshot before = TaskSnapshot.of(lockedTask.task());
+                // o UPDATE incrementa a versão no banco; o snapshot posterior já a leva
+                lockedTask.task().setStatus(status);
+                lockedTask.task().setVersion(before.version() + 1);
+                changes.add(TaskChange.statusChanged(before, TaskSnapshot.of(lockedTask.task())));
+                outcomes.add(new TaskBulkStatusOutcomeDTO(taskId, "UPDATED", lockedTask.task().getVersion()));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            taskBulkStatusRepository.updateStatus(changes.stream().map(TaskChange::taskId).toList(), status);
+            eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        }
+        return new TaskBulkStatusResultDTO(status, changes.size(), outcomes);
+    }
+
     /**
      * Deletes a task.
      * It ensures the user has permission to access the task before deletion.
@@ -250,16 +781,20 @@ public class TaskService {
      * @throws ResourceNotFoundException if the task is not found.
      * @throws AccessDeniedException if the user does not have permission to access the task.
      */
+    @Transactional
     public void deleteTask(Long projectId, Long taskId, Long userId, List<String> roles) {
         TaskEntity taskEntity = findTaskByIdAndProject(taskId, projectId);
         ensureUserCanAccessTask(taskEntity, userId, roles);
         taskRepository.delete(taskEntity);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChange.deleted(TaskSnapshot.of(taskEntity))));
     }
 
     /**
      * Deletes all tasks associated with a given project.
      * This is a bulk operation. Permission is checked at the project level:
      * only an administrator or the project's creator can perform this action.
+     * The deletion is atomic: if the user may not delete one of the tasks, none is deleted.
+     * Archived tasks of the project are deleted as well.
      *
      * @param projectId The ID of the project whose tasks will be deleted.
      * @param userId The ID of the user making the request.
@@ -267,12 +802,75 @@ public class TaskService {
      * @param token The JWT token for authenticating calls to other services.
      * @throws AccessDeniedException if the user is not an admin or the project creator.
      */
+    @Transactional
     public void deleteAllTasksFromProject(Long projectId, Long userId, List<String> roles) {
         List<TaskEntity> tasksEntity = taskRepository.findTasksByProjectId(projectId);
+        List<TaskChange> changes = new ArrayList<>(tasksEntity.size());
         for (TaskEntity taskEntity : tasksEntity) {
             ensureUserCanAccessTask(taskEntity, userId, roles);
             taskRepository.delete(taskEntity);
+            changes.add(TaskChange.deleted(TaskSnapshot.of(taskEntity)));
+        }
+        List<TaskEntity> archivedTasks = taskArchiveRepository.findProjectTasks(projectId);
+        for (TaskEntity archivedTask : archivedTasks) {
+            ensureUserCanAccessTask(archivedTask, userId, roles);
+            changes.add(TaskChange.deleted(TaskSnapshot.of(archivedTask)));
+        }
+        if (!archivedTasks.isEmpty()) {
+            taskArchiveRepository.deleteProjectTasks(projectId);
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        }
+    }
+
+    /**
+     * Suggests tasks of a project by the beginning of their title or of any word in it, for typeahead.
+     * Answered from the in-memory title index, without enriching the tasks with users or the project.
+     * Regular users only get the tasks they own or are responsible for, as in the task search.
+     *
+     * @param projectId The ID of the project.
+     * @param prefix The text typed so far; case, accents and punctuation are ignored.
+     * @param limit The maximum number of suggestions, capped at MAX_SUGGESTIONS.
+     * @param userId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The IDs and titles of the suggested tasks, whole-title matches first; empty for a blank prefix.
+     * @throws AccessDeniedException if the user may not view the project.
+     * @throws ResourceNotFoundException if the project is not found.
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    public List<TaskSuggestionDTO> suggestTasks(Long projectId, String prefix, int limit, Long userId, List<String> roles, String token) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The suggestion limit must be positive.");
+        }
+        ensureUserCanViewProject(projectId, userId, roles, token);
+
+        return taskTitleSuggestIndex.suggest(projectId, prefix, Math.min(limit, MAX_SUGGESTIONS), isAdmin(roles) ? null : userId);
+    }
+
+    /**
+     * Retrieves the number of tasks per status in a project, optionally restricted to the tasks
+     * a given user is responsible for. The counts are maintained incrementally, so this is a constant-time read.
+     * The requesting user must be able to view the project; per-user counts of another user require admin rights.
+     *
+     * @param projectId The ID of the project to count tasks of.
+     * @param targetUserId The ID of the user to restrict the counts to, or null for the whole project.
+     * @param requestingUserId The ID of the user making the request.
+     * @param roles The roles of the user making the request.
+     * @param token The JWT token for service-to-service communication.
+     * @return The task counts per status.
+     * @throws AccessDeniedException if the user may not view the project or the other user's counts.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    public TaskStatusCountsDTO getTaskStatusCounts(Long projectId, Long targetUserId, Long requestingUserId, List<String> roles, String token) {
+        ensureUserCanViewProject(projectId, requestingUserId, roles, token);
+
+        if (targetUserId != null && !isAdmin(roles) && !requestingUserId.equals(targetUserId)) {
+            throw new AccessDeniedException("FORBIDDEN - You do not have permission to access this user's tasks.");
         }
+
+        return taskCounterService.getCounts(projectId, targetUserId);
     }
 
     /**
@@ -306,6 +904,7 @@ public class TaskService {
     /**
      * Checks if a user has permission to access/modify a specific task.
      * Access is granted if the user is an admin, the task owner, or listed as a responsible user.
+     * Regular users are checked against the domain Task, whose responsibles are looked up by binary search.
      *
      * @param task The task entity to check against.
      * @param userId The ID of the user to check.
@@ -316,9 +915,7 @@ public class TaskService {
         if (isAdmin(roles)) {
             return;
         }
-        boolean isOwner = task.getOwnerUserId().equals(userId);
-        boolean isResponsible = task.getResponsibleUserIds().contains(userId);
-        if (!isOwner && !isResponsible) {
+        if (userId == null || !TaskMapper.toDomain(task).isOwnerOrResponsible(userId)) {
             throw new AccessDeniedException("FORBIDDEN - You do not have permission to access this task.");
         }
     }
@@ -342,7 +939,19 @@ public class TaskService {
      * @throws ResourceNotFoundException if the task is not found or does not belong to the project.
      */
     private TaskEntity findTaskByIdAndProject(Long taskId, Long projectId) {
-        TaskEntity taskEntity = taskRepository.findById(taskId)
+        return belongingToProject(taskRepository.findById(taskId), taskId, projectId);
+    }
+
+    /**
+     * Same as findTaskByIdAndProject, also looking in the archive. For reads only: archived tasks are detached
+     * and can not be changed.
+     */
+    private TaskEntity findTaskOrArchivedByIdAndProject(Long taskId, Long projectId) {
+        return belongingToProject(taskRepository.findById(taskId).or(() -> taskArchiveRepository.findById(taskId)), taskId, projectId);
+    }
+
+    private static TaskEntity belongingToProject(Optional<TaskEntity> task, Long taskId, Long projectId) {
+        TaskEntity taskEntity = task
                 .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + taskId + " not found."));
         if (!taskEntity.getProjectId().equals(projectId)) {
             throw new ResourceNotFoundException("Task with ID " + taskId + " does not belong to project with ID " + projectId);
@@ -378,13 +987,35 @@ public class TaskService {
      * @return The fully populated TaskResponseDTO.
      */
     private TaskResponseDTO convertToDto(TaskEntity taskEntity, String token) {
-        TaskResponseDTO dto = modelMapper.map(taskEntity, TaskResponseDTO.class);
-        UserResponseDTO ownerDto = userServiceClient.getUserById(taskEntity.getOwnerUserId(), token);
+        return convertToDto(taskEntity, id -> userServiceClient.getUserById(id, token));
+    }
+
+    /**
+     * Converts a TaskEntity to a TaskResponseDTO, resolving the owner and responsible users with the given lookup.
+     *
+     * @param taskEntity The entity to convert.
+     * @param userLookup Resolves a user ID to its details.
+     * @return The fully populated TaskResponseDTO.
+     */
+    private TaskResponseDTO convertToDto(TaskEntity taskEntity, Function<Long, UserResponseDTO> userLookup) {
+        return convertToDto(TaskMapper.toDomain(taskEntity), userLookup);
+    }
+
+    /**
+     * Converts a domain Task to a TaskResponseDTO, resolving the owner and responsible users with the given lookup.
+     * The responsible users are listed in ID order, each once.
+     *
+     * @param task The task to convert.
+     * @param userLookup Resolves a user ID to its details.
+     * @return The fully populated TaskResponseDTO.
+     */
+    private TaskResponseDTO convertToDto(Task task, Function<Long, UserResponseDTO> userLookup) {
+        TaskResponseDTO dto = TaskDtoMapper.toResponseDto(task);
+        UserResponseDTO ownerDto = userLookup.apply(task.getOwnerUserId().value());
         dto.setOwner(ownerDto);
 
-        List<UserResponseDTO> responsibleDtos = taskEntity.getResponsibleUserIds().stream()
-                .map(id -> userServiceClient.getUserById(id, token))
-                .collect(Collectors.toList());
+        List<UserResponseDTO> responsibleDtos = new ArrayList<>(task.getResponsibleUserIds().size());
+        task.getResponsibleUserIds().forEach(responsibleId -> responsibleDtos.add(userLookup.apply(responsibleId)));
         dto.setUsersResponsability(responsibleDtos);
 
         return dto;
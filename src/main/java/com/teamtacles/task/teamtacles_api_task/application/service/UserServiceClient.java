@@ -13,8 +13,10 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.deadline.RequestDeadline;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
 
 /**
  * A client service for interacting with the external User monolith.
@@ -44,17 +46,21 @@ public class UserServiceClient {
      * @throws ResourceNotFoundException if the user service returns a 404 Not Found error.
      * @throws AccessDeniedException if the user service returns a 403 Forbidden error.
      * @throws IllegalArgumentException if the request sent to the user service is malformed (400 Bad Request).
-     * @throws ServiceUnavailableException if the user service is temporarily unavailable (503 Service Unavailable).
+     * @throws ServiceUnavailableException if the user service is temporarily unavailable (503 Service Unavailable)
+     *                                     or the request time budget is exhausted.
      * @throws RuntimeException for internal errors in the user service (500) or other network communication issues.
      */   
     public UserResponseDTO getUserById(Long userId, String token){
         try{
+            RequestDeadline.ensureTimeRemaining("user service");
+
             String url = "/api/user/" + userId;
 
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "Bearer " + token);
             HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
 
+            RequestMetrics.recordUserServiceCall();
             ResponseEntity<UserResponseDTO> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
@@ -73,6 +79,9 @@ public class UserServiceClient {
         } catch (HttpServerErrorException.InternalServerError ex) {
             throw new RuntimeException("An internal error occurred in the project service.");
         } catch (RestClientException ex) {
+            if (RequestDeadline.isCurrentExhaustedBy(ex)) {
+                throw new ServiceUnavailableException("The request time budget was exhausted while waiting for the user service.");
+            }
             throw new RuntimeException("A network communication error occurred.");
         }
     }
@@ -0,0 +1,190 @@
+package com.teamtacles.task.teamtacles_api_task.application.stream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskStreamEventDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskDueEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+
+/**
+ * Service pushing task changes to Server-Sent Events subscribers.
+ *
+ * Each project with subscribers has one channel. Changes are dispatched after the transaction commits: every
+ * change is serialized to JSON once and offered to the bounded queue of each subscriber allowed to see it.
+ * Subscribers are drained on virtual threads, so a blocked socket only holds its own sender. A subscriber
+ * whose queue overflows is disconnected. Heartbeat comments keep idle connections open through proxies and
+ * detect closed ones. Due date events of the TaskDueWatcher are pushed the same way.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Service
+public class TaskStreamService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStreamService.class);
+
+    private final Map<Long, List<TaskStreamSubscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    public TaskStreamService(ObjectMapper objectMapper,
+                             @Value("${task-stream.subscriber-buffer:256}") int bufferSize,
+                             @Value("${task-stream.max-subscribers:10000}") int maxSubscribers,
+                             @Value("${task-stream.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Opens a stream of the task changes of a project. Access to the project is checked by the caller.
+     *
+     * @param projectId The project to follow.
+     * @param userScope Restricts the stream to tasks the user owns or is responsible for; null for all tasks.
+     * @return The emitter of the stream.
+     * @throws ServiceUnavailableException if the subscriber limit is reached.
+     */
+    public SseEmitter subscribe(Long projectId, Long userScope) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open task streams. Please try again later.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(projectId, userScope, emitter, bufferSize, sender);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+
+        channels.compute(projectId, (id, subscribers) -> {
+            List<TaskStreamSubscriber> channel = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            channel.add(subscriber);
+            return channel;
+        });
+        // envia os cabeçalhos imediatamente, para o cliente saber que a conexão foi aceita
+        subscriber.offer(new TaskStreamSubscriber.StreamEvent(null, "connected"));
+        return emitter;
+    }
+
+    /**
+     * Dispatches committed task changes to the subscribers of their projects.
+     *
+     * @param event The task changes of the committed transaction.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (TaskChange change : event.changes()) {
+            dispatch(change.type().name(), change.taskId(), change.projectId(), change.before(), change.after());
+        }
+    }
+
+    /**
+     * Dispatches a due date event to the subscribers of its project allowed to see the task.
+     *
+     * @param event The DUE_SOON or OVERDUE event.
+     */
+    @EventListener
+    public void onTaskDue(TaskDueEvent event) {
+        TaskSnapshot task = event.task();
+        dispatch(event.type().name(), task.id(), task.projectId(), task, task);
+    }
+
+    /**
+     * Sends a heartbeat comment to every subscriber and drops the ones found closed.
+     */
+    @Scheduled(fixedRateString = "${task-stream.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        TaskStreamSubscriber.StreamEvent heartbeat = new TaskStreamSubscriber.StreamEvent(null, "heartbeat");
+        channels.values().forEach(channel -> channel.forEach(subscriber -> {
+            if (!subscriber.offer(heartbeat)) {
+                remove(subscriber);
+            }
+        }));
+    }
+
+    /**
+     * @return The number of open streams.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        channels.values().forEach(channel -> channel.forEach(TaskStreamSubscriber::close));
+        sender.shutdown();
+    }
+
+    private void remove(TaskStreamSubscriber subscriber) {
+        subscriber.close();
+        channels.computeIfPresent(subscriber.getProjectId(), (id, channel) -> {
+            if (channel.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    private void dispatch(String type, Long taskId, Long projectId, TaskSnapshot beforeTask, TaskSnapshot afterTask) {
+        List<TaskStreamSubscriber> channel = channels.get(projectId);
+        if (channel == null) {
+            return;
+        }
+        ResponsibleUserIds before = TaskStreamSubscriber.involvedUsers(beforeTask);
+        ResponsibleUserIds after = TaskStreamSubscriber.involvedUsers(afterTask);
+        TaskStreamSubscriber.StreamEvent streamEvent = null;
+        for (TaskStreamSubscriber subscriber : channel) {
+            if (!subscriber.canSee(before, after)) {
+                continue;
+            }
+            if (streamEvent == null) {
+                streamEvent = toStreamEvent(type, taskId, projectId, afterTask);
+            }
+            if (!subscriber.offer(streamEvent)) {
+                logger.warn("Disconnecting slow task stream subscriber of project ID: {}", projectId);
+                remove(subscriber);
+            }
+        }
+    }
+
+    private TaskStreamSubscriber.StreamEvent toStreamEvent(String type, Long taskId, Long projectId, TaskSnapshot task) {
+        TaskStreamEventDTO dto = task == null
+                ? new TaskStreamEventDTO(type, taskId, projectId, null, null, null, null, null, null)
+                : new TaskStreamEventDTO(type, task.id(), task.projectId(), task.title(), task.description(),
+                        task.dueDate(), task.status(), task.ownerUserId(), task.distinctResponsibleUserIds());
+        try {
+            return new TaskStreamSubscriber.StreamEvent(type, objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize task stream event", ex);
+        }
+    }
+}
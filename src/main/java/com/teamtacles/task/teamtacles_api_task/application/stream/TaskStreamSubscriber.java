@@ -0,0 +1,141 @@
+package com.teamtacles.task.teamtacles_api_task.application.stream;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
+
+/**
+ * One SSE connection: a bounded queue of pending events drained by at most one sender at a time.
+ *
+ * The dispatcher only ever offers to the queue, so a slow client never blocks it or the other subscribers.
+ * When the queue is full the subscriber is disconnected; the client reconnects and catches up with the
+ * change feed.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class TaskStreamSubscriber {
+
+    /**
+     * An event ready to send; name is null for an SSE comment (heartbeat).
+     */
+    record StreamEvent(String name, String data) {
+    }
+
+    private final Long projectId;
+    private final Long userScope;
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamEvent> queue;
+    private final Executor sender;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TaskStreamSubscriber(Long projectId, Long userScope, SseEmitter emitter, int bufferSize, Executor sender) {
+        this.projectId = projectId;
+        this.userScope = userScope;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+    }
+
+    Long getProjectId() {
+        return projectId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return Whether this subscriber may see the change: admins see every task, regular users the tasks they
+     * own or are responsible for, before or after the change.
+     */
+    boolean canSee(TaskSnapshot before, TaskSnapshot after) {
+        return canSee(involvedUsers(before), involvedUsers(after));
+    }
+
+    /**
+     * Same as canSee(TaskSnapshot, TaskSnapshot), with the users involved in each state already computed,
+     * so the dispatcher computes them once per change for all the subscribers of the project.
+     *
+     * @param before The owner and responsibles before the change, or null if the task did not exist.
+     * @param after The owner and responsibles after the change, or null if the task was deleted.
+     */
+    boolean canSee(ResponsibleUserIds before, ResponsibleUserIds after) {
+        return userScope == null
+                || (before != null && before.contains(userScope))
+                || (after != null && after.contains(userScope));
+    }
+
+    /**
+     * @return The owner and the responsible users of the task, or null for no task.
+     */
+    static ResponsibleUserIds involvedUsers(TaskSnapshot task) {
+        return task != null ? ResponsibleUserIds.of(task.distinctResponsibleUserIds()).with(task.ownerUserId()) : null;
+    }
+
+    /**
+     * Queues an event without blocking.
+     *
+     * @return false if the buffer was full and the subscriber has been disconnected.
+     */
+    boolean offer(StreamEvent event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            close();
+            return false;
+        }
+        scheduleSend();
+        return true;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            emitter.complete();
+        }
+    }
+
+    private void scheduleSend() {
+        if (sending.compareAndSet(false, true)) {
+            sender.execute(this::send);
+        }
+    }
+
+    private void send() {
+        try {
+            StreamEvent event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                if (event.name() == null) {
+                    emitter.send(SseEmitter.event().comment(event.data()));
+                } else {
+                    emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // cliente desconectou: o emitter já não aceita escrita
+            closed.set(true);
+            queue.clear();
+        } finally {
+            sending.set(false);
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleSend();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configuration of the per-request time budgets, bound from the "request-deadline" properties.
+ *
+ * Endpoint budgets are keyed by Ant-style path patterns and checked in declaration order, e.g.
+ * request-deadline.endpoints[/api/project/task/search]=5s
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "request-deadline")
+public class DeadlineProperties {
+
+    // Budget applied when no endpoint pattern matches. Null means no deadline.
+    private Duration defaultBudget;
+
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+
+    // Whether the X-Request-Timeout header sent by the caller may shorten the budget.
+    private boolean honorHeader = true;
+}
@@ -0,0 +1,33 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Settings of the in-memory index of the most searched projects, bound from the "task-index" properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-index")
+public class HotProjectIndexProperties {
+
+    // Answers project searches from memory when true.
+    private boolean enabled = false;
+
+    // Estimated memory all indexed projects may use together; less searched projects are left out beyond it.
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+
+    // Maximum number of indexed projects.
+    private int maxProjects = 20;
+
+    // Searches a project needs (decayed by half on every refresh) before it is indexed.
+    private long minSearches = 50;
+
+    // Indexed projects are reloaded from the database this often, correcting any drift from missed events.
+    private Duration reloadInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,52 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.datasource.ReadYourWritesTracker;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Com a réplica habilitada, o DataSource da aplicação passa a rotear transações read-only para a réplica.
+// Os pools são criados aqui dentro (e não como beans) para que só o DataSource roteado seja decorado.
+@Configuration
+@ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties, ReplicaProperties replicaProperties,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        if (replicaProperties.getUrl() == null || replicaProperties.getUrl().isBlank()) {
+            throw new IllegalStateException("replica.url must be set when replica.enabled=true");
+        }
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        DataSourceBuilder<HikariDataSource> replicaBuilder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword());
+        if (replicaProperties.getDriverClassName() != null) {
+            replicaBuilder.driverClassName(replicaProperties.getDriverClassName());
+        }
+        HikariDataSource replica = replicaBuilder.build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+
+        return new ReplicaRoutingDataSource(primary, replica, readYourWritesTracker);
+    }
+}
@@ -0,0 +1,34 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the optional read replica, bound from the "replica" properties.
+ * The primary keeps using the spring.datasource properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaProperties {
+
+    // Routes read-only transactions to the replica when true.
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    private int maximumPoolSize = 10;
+
+    // After a user writes, their reads stay on the primary for this long, covering the replication lag.
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
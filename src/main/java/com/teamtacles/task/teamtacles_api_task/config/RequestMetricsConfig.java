@@ -0,0 +1,27 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.SqlStatementCountingDataSource;
+
+@Configuration
+public class RequestMetricsConfig {
+
+    // Counts the SQL statements of each request, from JPA and from the JDBC repositories; see RequestMetrics.
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
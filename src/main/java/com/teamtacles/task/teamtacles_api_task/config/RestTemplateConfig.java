@@ -8,8 +8,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import com.teamtacles.task.teamtacles_api_task.infrastructure.deadline.DeadlineAwareRequestFactory;
+
 @Configuration
 public class RestTemplateConfig {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
     
     @Value("${user-service.url}")
     private String userServiceBaseUrl;
@@ -17,12 +22,12 @@ public class RestTemplateConfig {
     @Value("${project-service.url}")
     private String projectServiceBaseUrl;
 
+    // The timeouts below are upper bounds; each call is further capped by the remaining request deadline.
     @Bean
     public RestTemplate userServiceRestTemplate(RestTemplateBuilder builder) {
         return builder
                 .rootUri(userServiceBaseUrl)
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
+                .requestFactory(() -> new DeadlineAwareRequestFactory(CONNECT_TIMEOUT, READ_TIMEOUT))
                 .build();
     }
 
@@ -30,8 +35,7 @@ public class RestTemplateConfig {
     public RestTemplate projectServiceRestTemplate(RestTemplateBuilder builder) {
         return builder
                 .rootUri(projectServiceBaseUrl)
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
+                .requestFactory(() -> new DeadlineAwareRequestFactory(CONNECT_TIMEOUT, READ_TIMEOUT))
                 .build();
     }
 }
@@ -0,0 +1,59 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.SecondLevelCacheMetrics;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Cache de segundo nível opcional: regiões Caffeine limitadas por tamanho e TTL, criadas aqui para que o
+// Hibernate nunca crie regiões sem limite.
+@Configuration
+@ConditionalOnProperty(prefix = "task-cache.second-level", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    static final List<String> REGIONS = List.of(TaskEntity.CACHE_REGION, TaskEntity.RESPONSIBLES_CACHE_REGION);
+
+    @Bean
+    public CacheManager taskSecondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(properties.getMaxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.getTtl().toNanos()));
+            // o Hibernate já guarda entradas desmontadas; copiá-las a cada acesso seria desperdício
+            configuration.setStoreByValue(false);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager taskSecondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", taskSecondLevelCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            // necessário para as métricas de acerto por região
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory, REGIONS);
+    }
+}
@@ -0,0 +1,26 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the Hibernate second-level cache for tasks, bound from the "task-cache.second-level" properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-cache.second-level")
+public class SecondLevelCacheProperties {
+
+    // Caches TaskEntity and its responsibles collection when true.
+    private boolean enabled = false;
+
+    // Maximum number of entries per region (tasks and tasks.responsibles).
+    private long maxSize = 10_000;
+
+    // Entries are dropped this long after being written, bounding staleness against writes made outside Hibernate.
+    private Duration ttl = Duration.ofMinutes(10);
+}
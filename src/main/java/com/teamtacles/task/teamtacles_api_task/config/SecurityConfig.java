@@ -1,6 +1,7 @@
 package com.teamtacles.task.teamtacles_api_task.config;
 
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,10 +12,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.beans.factory.annotation.Value;
 
+import com.teamtacles.task.teamtacles_api_task.infrastructure.security.CachingJwtDecoder;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.security.TokenClaimsAuthenticationConverter;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -23,6 +26,12 @@ public class SecurityConfig{
     @Value("${jwt.public.key}")
     private RSAPublicKey key;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${jwt.cache.max-ttl:5m}")
+    private Duration jwtCacheMaxTtl;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
@@ -39,19 +48,20 @@ public class SecurityConfig{
         return http.build();
     }
 
+    // Verified tokens are cached until their expiry (at most max-ttl), so reused tokens skip the RSA verification.
     @Bean
-    public JwtDecoder jwtDecoder(){
-        return NimbusJwtDecoder.withPublicKey(this.key).build();
+    public CachingJwtDecoder jwtDecoder(){
+        JwtDecoder nimbusDecoder = NimbusJwtDecoder.withPublicKey(this.key).build();
+        return new CachingJwtDecoder(nimbusDecoder, jwtCacheMaxSize, jwtCacheMaxTtl);
     }
 
+    // The user ID and roles are extracted once per request and kept on the authentication.
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+    public TokenClaimsAuthenticationConverter jwtAuthenticationConverter() {
         JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
         grantedAuthoritiesConverter.setAuthorityPrefix("");
 
-        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
-        return jwtAuthenticationConverter;
+        return new TokenClaimsAuthenticationConverter(grantedAuthoritiesConverter);
     }
 }
 
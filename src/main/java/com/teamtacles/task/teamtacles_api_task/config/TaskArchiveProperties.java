@@ -0,0 +1,29 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the archiving of DONE tasks, bound from the "task-archive" properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-archive")
+public class TaskArchiveProperties {
+
+    // Moves old DONE tasks to the archive tables when true.
+    private boolean enabled = false;
+
+    // DONE tasks are archived once their latest change is older than this.
+    private Duration retention = Duration.ofDays(90);
+
+    // Tasks moved per transaction, which keeps the locks and the transaction log of each move small.
+    private int batchSize = 500;
+
+    // Maximum number of batches per run; the rest waits for the next run.
+    private int maxBatchesPerRun = 200;
+}
@@ -0,0 +1,29 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the due date watcher, bound from the "task-due" properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-due")
+public class TaskDueProperties {
+
+    // Emits DUE_SOON and OVERDUE events when true. Per instance: enable it on a single instance.
+    private boolean enabled = false;
+
+    // Resolution of the timing wheel; events are emitted at most this late.
+    private Duration tick = Duration.ofSeconds(1);
+
+    // Only tasks due within this window are kept in memory; the window is reloaded when half of it has passed.
+    private Duration horizon = Duration.ofHours(24);
+
+    // How long before the due date the DUE_SOON event is emitted.
+    private Duration dueSoonLead = Duration.ofHours(1);
+}
@@ -0,0 +1,29 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TaskImportConfig {
+
+    @Value("${task-import.threads:2}")
+    private int threads;
+
+    @Value("${task-import.queue-capacity:20}")
+    private int queueCapacity;
+
+    // Imports run in the background on a small bounded pool; submissions beyond the queue are rejected.
+    @Bean
+    public ThreadPoolTaskExecutor taskImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("task-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
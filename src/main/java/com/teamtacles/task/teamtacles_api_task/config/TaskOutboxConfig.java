@@ -0,0 +1,32 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.outbox.FileTaskEventSink;
+import com.teamtacles.task.teamtacles_api_task.application.outbox.InMemoryTaskEventSink;
+import com.teamtacles.task.teamtacles_api_task.application.outbox.TaskEventSink;
+
+// Sinks locais do outbox; uma integração real (broker, webhook) só precisa registrar o seu próprio TaskEventSink.
+@Configuration
+public class TaskOutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TaskEventSink.class)
+    @ConditionalOnProperty(name = "task-outbox.sink", havingValue = "file")
+    public TaskEventSink fileTaskEventSink(@Value("${task-outbox.file:target/task-events.ndjson}") Path file, ObjectMapper objectMapper) {
+        return new FileTaskEventSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TaskEventSink.class)
+    public TaskEventSink inMemoryTaskEventSink(@Value("${task-outbox.memory-capacity:10000}") int capacity) {
+        return new InMemoryTaskEventSink(capacity);
+    }
+}
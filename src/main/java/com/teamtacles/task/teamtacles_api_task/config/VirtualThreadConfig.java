@@ -0,0 +1,34 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.vthread.ConnectionLimitingDataSource;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // With one virtual thread per request the connection pool becomes the only bound on concurrency,
+    // so connection acquisition is limited and queued explicitly.
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<VirtualThreadProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    VirtualThreadProperties.Db db = properties.getObject().getDb();
+                    return new ConnectionLimitingDataSource(dataSource, db.getMaxConcurrentConnections(),
+                            db.getMaxWaiting(), db.getAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.teamtacles.task.teamtacles_api_task.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the virtual-thread request handling mode, bound from the "virtual-threads" properties.
+ * The mode itself is switched on with spring.threads.virtual.enabled=true; it is experimental and off by default
+ * until the load test shows it outperforms the platform thread pool.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+
+    // Pinned virtual threads blocked longer than this are reported.
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    private Db db = new Db();
+
+    @Data
+    public static class Db {
+
+        // Connections handed out concurrently; keep it at or below the Hikari maximum pool size.
+        private int maxConcurrentConnections = 10;
+
+        // Threads allowed to queue for a connection before new requests are rejected with 503.
+        private int maxWaiting = 200;
+
+        // Upper bound for waiting on a connection; the remaining request deadline may shorten it.
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+    }
+}
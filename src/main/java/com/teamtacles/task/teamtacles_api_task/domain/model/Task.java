@@ -5,22 +5,26 @@ import com.teamtacles.task.teamtacles_api_task.domain.valueObject.Description;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.DueDate;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.OwnerUserId;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ProjectId;
-import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsiblesList;
+import com.teamtacles.task.teamtacles_api_task.domain.valueObject.ResponsibleUserIds;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.TaskId;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.TaskTitle;
 
 public class Task {
     private final TaskId id;
-    private TaskTitle title;
-    private Description description;
-    private DueDate dueDate;
-    private Status status;
-    private OwnerUserId ownerUserId;
-    private ResponsiblesList responsibleUserIds;
-    private ProjectId projectId;
+    private final TaskTitle title;
+    private final Description description;
+    private final DueDate dueDate;
+    private final Status status;
+    private final OwnerUserId ownerUserId;
+    private final ResponsibleUserIds responsibleUserIds;
+    private final ProjectId projectId;
 
     public Task(TaskId id, TaskTitle title, Description description, DueDate dueDate, Status status,
-                OwnerUserId ownerUserId, ResponsiblesList responsibleUserIds, ProjectId projectId) {
+                OwnerUserId ownerUserId, ResponsibleUserIds responsibleUserIds, ProjectId projectId) {
+        // tarefas salvas podem ficar sem responsáveis (PUT com lista vazia); só a criação inclui dono e criador do projeto
+        if (responsibleUserIds == null) {
+            throw new IllegalArgumentException("Responsibles cannot be null");
+        }
         this.id = id;
         this.title = title;
         this.description = description;
@@ -55,11 +59,16 @@ public class Task {
         return ownerUserId;
     }
 
-    public ResponsiblesList getResponsibleUserIds() {
+    public ResponsibleUserIds getResponsibleUserIds() {
         return responsibleUserIds;
     }
 
     public ProjectId getProjectId() {
         return projectId;
     }
+
+    // regra de acesso de usuários comuns: dono ou responsável pela tarefa
+    public boolean isOwnerOrResponsible(long userId) {
+        return ownerUserId.value() == userId || responsibleUserIds.contains(userId);
+    }
 }
@@ -4,12 +4,17 @@ import java.time.LocalDateTime;
 
 public record DueDate(LocalDateTime value) {
 
+    // tarefas existentes podem estar vencidas; só uma data nova precisa estar no futuro (ver future)
     public DueDate {
         if (value == null) {
             throw new IllegalArgumentException("Due date cannot be null");
         }
-        if (!value.isAfter(LocalDateTime.now())) {
+    }
+
+    public static DueDate future(LocalDateTime value) {
+        if (value == null || !value.isAfter(LocalDateTime.now())) {
             throw new IllegalArgumentException("Due date must be in the future");
         }
+        return new DueDate(value);
     }
 }
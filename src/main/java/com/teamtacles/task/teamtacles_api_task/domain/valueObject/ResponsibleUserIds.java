@@ -0,0 +1,143 @@
+package com.teamtacles.task.teamtacles_api_task.domain.valueObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * The users responsible for a task, as a set of IDs kept in a sorted primitive array.
+ * Membership is a binary search, O(log n), and neither storing nor checking an ID boxes it.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record ResponsibleUserIds(long[] ids) {
+
+    private static final ResponsibleUserIds EMPTY = new ResponsibleUserIds(new long[0]);
+
+    /**
+     * @param ids Positive IDs in strictly ascending order; the array is kept as is, not copied.
+     */
+    public ResponsibleUserIds {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] <= 0 || (i > 0 && ids[i] <= ids[i - 1])) {
+                throw new IllegalArgumentException("Invalid IDs");
+            }
+        }
+    }
+
+    public static ResponsibleUserIds empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the set from a list of IDs, ignoring repeated ones. Allocates only the resulting array.
+     *
+     * @param userIds The IDs, in any order.
+     * @return The set of the IDs.
+     * @throws IllegalArgumentException if an ID is null or not positive.
+     */
+    public static ResponsibleUserIds of(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = new long[userIds.size()];
+        int size = 0;
+        for (Long id : userIds) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Invalid IDs");
+            }
+            ids[size++] = id;
+        }
+        Arrays.sort(ids);
+
+        // remove os repetidos no próprio array
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (ids[i] != ids[distinct - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new ResponsibleUserIds(distinct == size ? ids : Arrays.copyOf(ids, distinct));
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(ids, userId) >= 0;
+    }
+
+    /**
+     * @return This set with the user added; this set when the user is already in it.
+     */
+    public ResponsibleUserIds with(long userId) {
+        int position = Arrays.binarySearch(ids, userId);
+        if (position >= 0) {
+            return this;
+        }
+        int insertion = -position - 1;
+        long[] added = new long[ids.length + 1];
+        System.arraycopy(ids, 0, added, 0, insertion);
+        added[insertion] = userId;
+        System.arraycopy(ids, insertion, added, insertion + 1, ids.length - insertion);
+        return new ResponsibleUserIds(added);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public long get(int index) {
+        return ids[index];
+    }
+
+    public void forEach(LongConsumer action) {
+        for (long id : ids) {
+            action.accept(id);
+        }
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(ids);
+    }
+
+    /**
+     * @return A copy of the IDs; the set itself cannot be changed.
+     */
+    @Override
+    public long[] ids() {
+        return ids.clone();
+    }
+
+    /**
+     * @return The IDs in ascending order, as the mutable list the persistence layer stores.
+     */
+    public List<Long> toList() {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ResponsibleUserIds that && Arrays.equals(ids, that.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "ResponsibleUserIds" + Arrays.toString(ids);
+    }
+}
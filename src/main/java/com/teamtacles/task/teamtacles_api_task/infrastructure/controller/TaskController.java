@@ -1,25 +1,42 @@
 package com.teamtacles.task.teamtacles_api_task.infrastructure.controller;
 
+import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskBulkStatusRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestPatchDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.PagedResponse;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskBoardDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskBulkStatusResultDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskChangesDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskImportStatusDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
-import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskStatusCountsDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskSuggestionDTO;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
 import com.teamtacles.task.teamtacles_api_task.application.service.TaskService;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.security.TokenClaimsAuthenticationToken;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.slf4j.Logger;
@@ -53,7 +70,7 @@ public class TaskController {
      *
      * @param projectId The ID of the project where the task will be created.
      * @param taskRequestDTO The DTO containing the details for the new task. This is validated.
-     * @param jwt The JWT object representing the authenticated user, injected by Spring Security.
+     * @param authentication The authentication of the user, with its JWT, injected by Spring Security.
      * @return A ResponseEntity containing the DTO of the newly created task and an HTTP status of 201 (Created).
      */
     @Operation(summary = "Create a new task in a project", description = "Creates a new task associated with a specific project. Permissions are checked based on the user's role and project membership.")
@@ -68,11 +85,11 @@ public class TaskController {
     @PostMapping("/{projectId}/task")
     public ResponseEntity<TaskResponseDTO> createTask(@PathVariable Long projectId,
                                                       @Valid @RequestBody TaskRequestDTO taskRequestDTO,
-                                                      @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                                      @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Requisition to create task received for project ID: {}, user ID: {}", projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         TaskResponseDTO response = taskService.createTask(projectId, taskRequestDTO, userId, roles, token);
         logger.info("Task successfully created with ID: {} in project ID: {}", response.getId(), projectId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -84,10 +101,10 @@ public class TaskController {
      *
      * @param projectId The ID of the project containing the task.
      * @param taskId The ID of the task to retrieve.
-     * @param jwt The JWT object for the authenticated user.
+     * @param authentication The authentication of the user, with its JWT.
      * @return A ResponseEntity containing the task's details and an HTTP status of 200 (OK).
      */
-    @Operation(summary = "Get a task by its ID", description = "Retrieves a specific task by its ID, scoped to a project. Requires project membership or admin rights.")
+    @Operation(summary = "Get a task by its ID", description = "Retrieves a specific task by its ID, scoped to a project, including archived tasks. Requires project membership or admin rights.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task retrieved successfully."),
             @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
@@ -98,11 +115,11 @@ public class TaskController {
     @GetMapping("/{projectId}/task/{taskId}")
     public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long projectId,
                                                        @PathVariable Long taskId,
-                                                       @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                                       @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Request to GET task ID: {} from project ID: {} by user ID: {}", taskId, projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         TaskResponseDTO response = taskService.getTasksById(projectId, taskId, userId, roles, token);
         logger.info("Task ID: {} successfully returned for user ID: {}", taskId, userId);
         return ResponseEntity.ok(response);
@@ -115,65 +132,365 @@ public class TaskController {
      * @param projectId The ID of the project to search within.
      * @param userId The ID of the user whose tasks are being requested.
      * @param pageable Pagination information (page, size, sort).
-     * @param jwt The JWT object for the authenticated user making the request.
-     * @return A ResponseEntity with a paginated response of tasks and an HTTP status of 200 (OK).
+     * @param authentication The authentication of the user making the request, with its JWT.
+     * @return A ResponseEntity with a paginated response of tasks, each as cached JSON, and an HTTP status of 200 (OK).
      */
     @Operation(summary = "Get all tasks for a user in a project", description = "Retrieves a paginated list of tasks assigned to a specific user within a project. Access is generally restricted.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of tasks."),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of tasks. Each element of content is a TaskResponseDTO."),
             @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
             @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view tasks for the specified user."),
             @ApiResponse(responseCode = "404", description = "Not Found: The specified project or user does not exist."),
             @ApiResponse(responseCode = "500", description = "Internal Server Error.")
     })
     @GetMapping("/{projectId}/tasks/user/{userId}")
-    public ResponseEntity<PagedResponse<TaskResponseDTO>> getTasksByUserInProject(@PathVariable Long projectId,
-                                                                                  @PathVariable Long userId,
-                                                                                  Pageable pageable,
-                                                                                  @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long requestingUserId = getUserIdFromJwt(jwt);
+    public ResponseEntity<PagedResponse<RawValue>> getTasksByUserInProject(@PathVariable Long projectId,
+                                                                           @PathVariable Long userId,
+                                                                           Pageable pageable,
+                                                                           @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long requestingUserId = getUserId(authentication);
         logger.info("Request to LIST tasks of user ID: {} in project ID: {}, requested by user ID: {}", userId, projectId, requestingUserId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
-        PagedResponse<TaskResponseDTO> response = taskService.getAllTasksFromUserInProject(pageable, projectId, userId, requestingUserId, roles, token);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        // cada tarefa vem como JSON pronto do cache de fragmentos, no envelope de paginação
+        PagedResponse<RawValue> response = taskService.getAllTasksFromUserInProjectAsJson(pageable, projectId, userId, requestingUserId, roles, token);
         logger.info("Returned {} tasks for user ID: {} in project ID: {}", response.getContent().size(), userId, projectId);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Retrieves the number of tasks per status in a project, optionally restricted to one responsible user.
+     * Intended for board summaries and dashboards; the counts are read from incrementally maintained counters.
+     *
+     * @param projectId The ID of the project.
+     * @param userId Optional ID of a responsible user to restrict the counts to.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the counts per status and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Count tasks per status in a project", description = "Returns the number of TODO, INPROGRESS and DONE tasks of a project, optionally restricted to the tasks of one responsible user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the task counts."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project or the specified user's tasks."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/tasks/counts")
+    public ResponseEntity<TaskStatusCountsDTO> getTaskStatusCounts(@PathVariable Long projectId,
+                                                                   @RequestParam(required = false) Long userId,
+                                                                   @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long requestingUserId = getUserId(authentication);
+        logger.info("Request to COUNT tasks in project ID: {} (user filter: {}) by user ID: {}", projectId, userId, requestingUserId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        TaskStatusCountsDTO response = taskService.getTaskStatusCounts(projectId, userId, requestingUserId, roles, token);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Suggests tasks of a project as the user types, by the beginning of their title or of any word in it.
+     *
+     * @param projectId The ID of the project.
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions (default 10, at most 20).
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the IDs and titles of the suggested tasks and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Suggest tasks by title", description = "Returns the IDs and titles of the tasks whose title, or a word in it, starts with the prefix, from an in-memory index. Regular users only get their own tasks.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the suggestions."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Invalid limit."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/tasks/suggest")
+    public ResponseEntity<List<TaskSuggestionDTO>> suggestTasks(@PathVariable Long projectId,
+                                                                @RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit,
+                                                                @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        // uma requisição por tecla: só em debug
+        logger.debug("Request to SUGGEST tasks of project ID: {} for prefix '{}' by user ID: {}", projectId, prefix, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        return ResponseEntity.ok(taskService.suggestTasks(projectId, prefix, limit, userId, roles, token));
+    }
+
+    /**
+     * Retrieves the Kanban board of a project, with one column per task status.
+     * Each column carries the total number of tasks with its status and its first tasks by due date.
+     *
+     * @param projectId The ID of the project.
+     * @param size The maximum number of tasks per column (default 20, at most 100).
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the board and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get the Kanban board of a project", description = "Returns the first tasks of every status column together with the column totals, loaded in a single query. Regular users only see their own tasks.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the board."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Invalid column size."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/board")
+    public ResponseEntity<TaskBoardDTO> getBoard(@PathVariable Long projectId,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to GET board of project ID: {} by user ID: {}", projectId, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        TaskBoardDTO response = taskService.getBoard(projectId, size, userId, roles, token);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves the tasks of a project created, updated or deleted after a cursor.
+     * Clients store the returned cursor and send it as 'since' in the next request; deleted tasks come as tombstones.
+     *
+     * @param projectId The ID of the project.
+     * @param since The cursor of the previous response (default 0, a full download).
+     * @param limit The maximum number of changes (default 500, at most 1000).
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the changes and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get the task changes of a project", description = "Returns the tasks changed after a cursor, with tombstones for deleted tasks, for incremental synchronization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the changes."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Invalid cursor or limit."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/tasks/changes")
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(@PathVariable Long projectId,
+                                                         @RequestParam(defaultValue = "0") long since,
+                                                         @RequestParam(defaultValue = "500") int limit,
+                                                         @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to GET task changes of project ID: {} since {} by user ID: {}", projectId, since, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        TaskChangesDTO response = taskService.getChanges(projectId, since, limit, userId, roles, token);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Opens a Server-Sent Events stream with the task changes of a project.
+     * Events are named after the change (CREATED, UPDATED, STATUS_CHANGED, DELETED) and carry the task as JSON.
+     * A client that falls too far behind is disconnected and should catch up with the changes endpoint.
+     *
+     * @param projectId The ID of the project to follow.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return The event stream.
+     */
+    @Operation(summary = "Stream the task changes of a project", description = "Pushes task creations, updates, status changes and deletions as Server-Sent Events. Regular users only receive their own tasks.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable: Too many open streams."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping(value = "/{projectId}/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(@PathVariable Long projectId,
+                                        @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to STREAM task changes of project ID: {} by user ID: {}", projectId, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        return taskService.streamTaskChanges(projectId, userId, roles, token);
+    }
+
+    /**
+     * Exports all tasks of a project as NDJSON or CSV.
+     * The rows are streamed from the database while the response is written, so the export runs in
+     * constant memory. The output is gzip-compressed when the client accepts it.
+     *
+     * @param projectId The ID of the project to export.
+     * @param format The output format: ndjson (default) or csv.
+     * @param acceptEncoding The Accept-Encoding header of the request.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity streaming the export with an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Export the tasks of a project", description = "Streams every task of a project as NDJSON or CSV. Regular users only export their own tasks.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Unsupported export format."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable Long projectId,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                             @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to EXPORT tasks of project ID: {} as {} by user ID: {}", projectId, format, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = taskService.exportTasks(projectId, exportFormat, gzip, userId, roles, token);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-tasks." + exportFormat.getExtension()).build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Imports tasks into a project from an NDJSON or CSV file sent as the request body.
+     * The file is processed in the background; invalid rows are reported without stopping the import.
+     *
+     * @param projectId The ID of the project to import the tasks into.
+     * @param format The format of the file: ndjson (default) or csv.
+     * @param body The file content.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the import status, its location and an HTTP status of 202 (Accepted).
+     * @throws IOException if the request body cannot be read.
+     */
+    @Operation(summary = "Import tasks into a project", description = "Accepts an NDJSON or CSV file and imports its tasks in the background. The progress and the row errors are available at the returned location.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import accepted."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Unsupported import format."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable: Too many imports in progress."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @PostMapping("/{projectId}/tasks/import")
+    public ResponseEntity<TaskImportStatusDTO> importTasks(@PathVariable Long projectId,
+                                                           @RequestParam(defaultValue = "ndjson") String format,
+                                                           @Parameter(hidden = true) InputStream body,
+                                                           @Parameter(hidden = true) JwtAuthenticationToken authentication) throws IOException {
+        Long userId = getUserId(authentication);
+        logger.info("Request to IMPORT tasks into project ID: {} as {} by user ID: {}", projectId, format, userId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        TaskImportStatusDTO response = taskService.startImport(projectId, ExportFormat.fromString(format), body, userId, roles, token);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .replaceQuery(null)
+                .path("/{importId}")
+                .buildAndExpand(response.getImportId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    /**
+     * Retrieves the progress of a task import, including the rows that failed.
+     *
+     * @param projectId The ID of the project.
+     * @param importId The ID of the import.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the import status and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get the status of a task import", description = "Returns the progress of an import and the errors of the rows that were rejected.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the import status."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: The import was started by another user."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The import does not exist or has expired."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/{projectId}/tasks/import/{importId}")
+    public ResponseEntity<TaskImportStatusDTO> getImportStatus(@PathVariable Long projectId,
+                                                               @PathVariable String importId,
+                                                               @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to GET import ID: {} of project ID: {} by user ID: {}", importId, projectId, userId);
+        List<String> roles = getRoles(authentication);
+        return ResponseEntity.ok(taskService.getImportStatus(projectId, importId, userId, roles));
+    }
+
     /**
      * Searches for tasks across projects based on optional filter criteria.
      * The results are filtered based on the authenticated user's permissions. Regular users
-     * will only see tasks they are associated with.
+     * will only see tasks they are associated with. With a search text, only tasks whose title or
+     * description contain all of its words (as prefixes) are returned, most relevant first.
      *
      * @param status Optional filter for task status (e.g., 'PENDING', 'COMPLETED').
-     * @param dueDate Optional filter for tasks due on or before this date.
+     * @param dueDate Optional filter for tasks due on or before this date; kept for older clients, same as dueTo.
+     * @param dueFrom Optional filter for tasks due on or after this date.
+     * @param dueTo Optional filter for tasks due on or before this date.
      * @param projectId Optional filter to scope search to a single project.
+     * @param q Optional search text over titles and descriptions; when given, results are ordered by relevance and the sort is ignored.
+     * @param includeArchived Whether archived DONE tasks are searched too; not available with a search text.
      * @param pageable Pagination information.
-     * @param jwt The JWT object for the authenticated user.
-     * @return A ResponseEntity with a paginated response of filtered tasks and an HTTP status of 200 (OK).
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with a paginated response of filtered tasks, each as cached JSON, and an HTTP status of 200 (OK).
      */
-    @Operation(summary = "Search and filter tasks", description = "Searches for tasks with optional filters for status, due date, and project. Results are based on user permissions.")
+    @Operation(summary = "Search and filter tasks", description = "Searches for tasks with optional filters for status, due date range, project and a search text over titles and descriptions. Results are based on user permissions; text searches are ordered by relevance. Archived tasks are only included with includeArchived=true.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the filtered list of tasks."),
-            @ApiResponse(responseCode = "400", description = "Bad Request: Invalid filter parameter format."),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the filtered list of tasks. Each element of content is a TaskResponseFilteredDTO."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Invalid filter parameter format, a due date range ending before it starts, a search text without letters or digits, or includeArchived with a search text."),
             @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
             @ApiResponse(responseCode = "500", description = "Internal Server Error.")
     })
     @GetMapping("/task/search")
-    public ResponseEntity<PagedResponse<TaskResponseFilteredDTO>> getAllTasksFiltered(@RequestParam(required = false) String status,
-                                                                                      @RequestParam(required = false) LocalDateTime dueDate,
-                                                                                      @RequestParam(required = false) Long projectId,
-                                                                                      Pageable pageable,
-                                                                                      @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
-        logger.info("Request to SEARCH tasks by user ID: {} with filters [status={}, dueDate={}, projectId={}]", userId, status, dueDate, projectId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
-        PagedResponse<TaskResponseFilteredDTO> response = taskService.getAllTasksFiltered(status, dueDate, projectId, pageable, userId, roles, token);
+    public ResponseEntity<PagedResponse<RawValue>> getAllTasksFiltered(@RequestParam(required = false) String status,
+                                                                       @RequestParam(required = false) LocalDateTime dueDate,
+                                                                       @RequestParam(required = false) LocalDateTime dueFrom,
+                                                                       @RequestParam(required = false) LocalDateTime dueTo,
+                                                                       @RequestParam(required = false) Long projectId,
+                                                                       @RequestParam(required = false) String q,
+                                                                       @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                                       Pageable pageable,
+                                                                       @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to SEARCH tasks by user ID: {} with filters [status={}, dueDate={}, dueFrom={}, dueTo={}, projectId={}, q={}, includeArchived={}]", userId, status, dueDate, dueFrom, dueTo, projectId, q, includeArchived);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        // dueDate e dueTo são ambos limites superiores: vale o menor
+        LocalDateTime upperBound = dueTo == null || (dueDate != null && dueDate.isBefore(dueTo)) ? dueDate : dueTo;
+        PagedResponse<RawValue> response = taskService.getAllTasksFilteredAsJson(status, dueFrom, upperBound, projectId, q, includeArchived, pageable, userId, roles, token);
         logger.info(" Task search returned {} items on the current page.", response.getContent().size());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lists the overdue tasks: due before now and not yet DONE, earliest due date first unless a sort is given.
+     * Regular users only see the tasks they own or are responsible for.
+     *
+     * @param projectId Optional filter to scope the list to a single project.
+     * @param pageable Pagination information.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with a paginated response of overdue tasks, each as cached JSON, and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "List overdue tasks", description = "Returns the tasks due before now that are not DONE, earliest due date first. Results are based on user permissions.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the overdue tasks. Each element of content is a TaskResponseFilteredDTO."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view the project."),
+            @ApiResponse(responseCode = "404", description = "Not Found: The specified project does not exist."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @GetMapping("/tasks/overdue")
+    public ResponseEntity<PagedResponse<RawValue>> getOverdueTasks(@RequestParam(required = false) Long projectId,
+                                                                   Pageable pageable,
+                                                                   @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to GET overdue tasks by user ID: {} (project filter: {})", userId, projectId);
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
+        PagedResponse<RawValue> response = taskService.getOverdueTasksAsJson(projectId, pageable, userId, roles, token);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Fully updates an existing task's details.
      * Requires the user to have appropriate permissions, such as being an admin or a project member.
@@ -181,7 +498,7 @@ public class TaskController {
      * @param projectId The ID of the project containing the task.
      * @param taskId The ID of the task to update.
      * @param taskRequestDTO The DTO with the full set of updated task information. This is validated.
-     * @param jwt The JWT object for the authenticated user.
+     * @param authentication The authentication of the user, with its JWT.
      * @return A ResponseEntity with the updated task DTO and an HTTP status of 200 (OK).
      */
     @Operation(summary = "Update a task (full update)", description = "Performs a full update on an existing task's details. All fields in the request body are applied.")
@@ -197,11 +514,11 @@ public class TaskController {
     public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable Long projectId,
                                                       @PathVariable Long taskId,
                                                       @Valid @RequestBody TaskRequestDTO taskRequestDTO,
-                                                      @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                                      @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Request to UPDATE (PUT) task ID: {} in project ID: {} by user ID: {}", taskId, projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         TaskResponseDTO response = taskService.updateTask(projectId, taskId, taskRequestDTO, userId, roles, token);
         logger.info("Task ID: {} successfully updated in project ID: {}", taskId, projectId);
         return ResponseEntity.ok(response);
@@ -214,7 +531,7 @@ public class TaskController {
      * @param projectId The ID of the project containing the task.
      * @param taskId The ID of the task whose status will be updated.
      * @param patchDTO A DTO containing the new status value. This is validated.
-     * @param jwt The JWT object for the authenticated user.
+     * @param authentication The authentication of the user, with its JWT.
      * @return A ResponseEntity with the updated task DTO and an HTTP status of 200 (OK).
      */
     @Operation(summary = "Update a task's status (partial update)", description = "Performs a partial update on a task, specifically to change its status.")
@@ -230,23 +547,52 @@ public class TaskController {
     public ResponseEntity<TaskResponseDTO> updateTaskStatus(@PathVariable Long projectId,
                                                             @PathVariable Long taskId,
                                                             @Valid @RequestBody TaskRequestPatchDTO patchDTO,
-                                                            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                                            @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Request to PATCH (update status) task ID: {} in project ID: {} by user ID: {}", taskId, projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         TaskResponseDTO response = taskService.updateStatus(projectId, taskId, patchDTO, userId, roles, token);
         logger.info("Task ID: {} status successfully updated to {}", taskId, response.getStatus());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Changes the status of many tasks of a project at once, e.g. to close a sprint.
+     * Each task is checked separately: those not found or not accessible are reported and skipped.
+     *
+     * @param projectId The ID of the project containing the tasks.
+     * @param requestDTO The task IDs and the new status. This is validated.
+     * @param authentication The authentication of the user, with its JWT.
+     * @return A ResponseEntity with the outcome of each task and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Update the status of many tasks", description = "Sets the same status on up to 1000 tasks of a project in one request and reports, per task, whether it was UPDATED, UNCHANGED, NOT_FOUND or FORBIDDEN.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses processed; see the outcome of each task."),
+            @ApiResponse(responseCode = "400", description = "Bad Request: No task IDs, too many task IDs or an invalid status."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: JWT token is missing or invalid."),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.")
+    })
+    @PatchMapping("/{projectId}/tasks/status")
+    public ResponseEntity<TaskBulkStatusResultDTO> updateTaskStatuses(@PathVariable Long projectId,
+                                                                      @Valid @RequestBody TaskBulkStatusRequestDTO requestDTO,
+                                                                      @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
+        logger.info("Request to PATCH (bulk update status) {} tasks in project ID: {} to {} by user ID: {}",
+                requestDTO.getTaskIds().size(), projectId, requestDTO.getStatus(), userId);
+        List<String> roles = getRoles(authentication);
+        TaskBulkStatusResultDTO response = taskService.updateStatuses(projectId, requestDTO, userId, roles);
+        logger.info("{} tasks of project ID: {} updated to {}", response.getUpdated(), projectId, response.getStatus());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Deletes a task from a project.
      * Requires administrative privileges or specific ownership/project permissions.
      *
      * @param projectId The ID of the project containing the task.
      * @param taskId The ID of the task to be deleted.
-     * @param jwt The JWT object for the authenticated user.
+     * @param authentication The authentication of the user, with its JWT.
      * @return A ResponseEntity with no content and an HTTP status of 204 (No Content).
      */
     @Operation(summary = "Delete a task", description = "Deletes a task from a project. This action is permanent and requires appropriate permissions.")
@@ -260,11 +606,11 @@ public class TaskController {
     @DeleteMapping("/{projectId}/task/{taskId}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long projectId,
                                            @PathVariable Long taskId,
-                                           @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                           @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Request to DELETE task ID: {} from project ID: {} by user ID: {}", taskId, projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         taskService.deleteTask(projectId, taskId, userId, roles);
         logger.info("Task ID: {} deleted successfully from project ID: {}", taskId, projectId);
         return ResponseEntity.noContent().build();
@@ -276,7 +622,7 @@ public class TaskController {
      * Only administrators or the project creator can perform this action.
      *
      * @param projectId The ID of the project from which all tasks will be deleted.
-     * @param jwt       The JWT object for the authenticated user.
+     * @param authentication The authentication of the user, with its JWT.
      * @return A ResponseEntity with no content and an HTTP status of 204 (No Content).
      */
     @Operation(summary = "Delete all tasks from a project", description = "Deletes all tasks associated with a specific project. This is a bulk, irreversible action.")
@@ -287,42 +633,36 @@ public class TaskController {
     })
     @DeleteMapping("/{projectId}/tasks")
     public ResponseEntity<Void> deleteAllTasksFromProject(@PathVariable Long projectId,
-                                           @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt) {
-        Long userId = getUserIdFromJwt(jwt);
+                                           @Parameter(hidden = true) JwtAuthenticationToken authentication) {
+        Long userId = getUserId(authentication);
         logger.info("Request to DELETE ALL tasks from project ID: {} by user ID: {}", projectId, userId);
-        List<String> roles = getRolesFromJwt(jwt);
-        String token = jwt.getTokenValue();
+        List<String> roles = getRoles(authentication);
+        String token = authentication.getToken().getTokenValue();
         taskService.deleteAllTasksFromProject(projectId, userId, roles);
         logger.info("All tasks from project ID: {} deleted successfully by user ID: {}", projectId, userId);
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * Extracts the user ID from the 'userId' claim of a JWT.
-     * Handles cases where the ID might be an Integer or Long.
+     * Returns the user ID from the 'userId' claim of the request's JWT.
+     * The claims are extracted once per request, when the token is authenticated.
      *
-     * @param jwt The JWT to extract the claim from.
+     * @param authentication The authentication of the request.
      * @return The user ID as a Long.
      * @throws IllegalArgumentException if the 'userId' claim is missing or not a number.
      */
-    private Long getUserIdFromJwt(Jwt jwt) {
-        Object userIdClaim = jwt.getClaim("userId");
-        if (userIdClaim instanceof Long) {
-            return (Long) userIdClaim;
-        } else if (userIdClaim instanceof Integer) {
-            return ((Integer) userIdClaim).longValue();
-        }
-        throw new IllegalArgumentException("User ID claim ('userId') is missing or not a number in JWT.");
+    private Long getUserId(JwtAuthenticationToken authentication) {
+        return TokenClaimsAuthenticationToken.claimsOf(authentication).userId();
     }
 
     /**
-     * Extracts the user's roles from the 'scope' or 'roles' claim of a JWT.
+     * Returns the user's roles from the 'scope' claim of the request's JWT.
      * In standard OAuth2/OIDC, roles/permissions are often in the 'scope' claim.
      *
-     * @param jwt The JWT to extract the claims from.
+     * @param authentication The authentication of the request.
      * @return A list of strings representing the user's roles.
      */
-    private List<String> getRolesFromJwt(Jwt jwt) {
-        return jwt.getClaimAsStringList("scope");
+    private List<String> getRoles(JwtAuthenticationToken authentication) {
+        return TokenClaimsAuthenticationToken.claimsOf(authentication).roles();
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.security.TokenClaimsAuthenticationToken;
+
+/**
+ * Remembers which users changed tasks recently, so their reads can be kept on the primary until the replica
+ * has caught up. The user is taken from the JWT of the current request; writes without an authenticated user
+ * (background imports) are not tracked.
+ *
+ * The window is kept per instance: behind a load balancer without sticky sessions a user may still be
+ * served by another instance that did not see the write.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Records that the current user wrote.
+     *
+     * @param event The task changes of the current transaction.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        currentUserId().ifPresent(this::recordWrite);
+    }
+
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * @return Whether the current user wrote within the window.
+     */
+    public boolean currentUserWroteRecently() {
+        return currentUserId().map(userId -> recentWriters.getIfPresent(userId) != null).orElse(false);
+    }
+
+    private static Optional<Long> currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken token) {
+            try {
+                return Optional.of(TokenClaimsAuthenticationToken.claimsOf(token).userId());
+            } catch (IllegalArgumentException ex) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource sending read-only transactions to the replica and everything else to the primary.
+ *
+ * The physical connection is only fetched when the first statement runs (LazyConnectionDataSourceProxy),
+ * after the transaction manager has published the read-only flag of the transaction, so the route can be
+ * decided from it. Users who wrote within the read-your-writes window stay on the primary.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.replica = replica;
+
+        Router router = new Router(readYourWrites);
+        router.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+
+        setTargetDataSource(router);
+        // evita abrir uma conexão só para descobrir os valores padrão
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeIfPossible(replica);
+        closeIfPossible(primary);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        private final ReadYourWritesTracker readYourWrites;
+
+        private Router(ReadYourWritesTracker readYourWrites) {
+            this.readYourWrites = readYourWrites;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.currentUserWroteRecently()) {
+                return Route.REPLICA;
+            }
+            return Route.PRIMARY;
+        }
+    }
+}
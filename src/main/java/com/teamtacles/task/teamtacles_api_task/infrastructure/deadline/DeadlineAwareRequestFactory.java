@@ -0,0 +1,51 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.deadline;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * Request factory that caps the connect and read timeouts of each outgoing call
+ * with the time left in the current RequestDeadline.
+ * The configured timeouts are still used as upper bounds, and as the only bounds
+ * when the call is made outside of a request (no deadline bound to the thread).
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public DeadlineAwareRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        this.connectTimeoutMillis = (int) connectTimeout.toMillis();
+        this.readTimeoutMillis = (int) readTimeout.toMillis();
+        setConnectTimeout(this.connectTimeoutMillis);
+        setReadTimeout(this.readTimeoutMillis);
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return;
+        }
+
+        // arredonda para cima: o timeout nunca pode disparar antes do prazo
+        long remaining = deadline.remainingMillisRoundedUp();
+        if (remaining <= 0) {
+            throw new IOException("Request deadline of " + deadline.getBudget().toMillis() + "ms exceeded");
+        }
+
+        // a timeout of 0 means "infinite" for HttpURLConnection, so never go below 1ms
+        int remainingTimeout = (int) Math.max(1, Math.min(remaining, Integer.MAX_VALUE));
+        connection.setConnectTimeout(Math.min(connectTimeoutMillis, remainingTimeout));
+        connection.setReadTimeout(Math.min(readTimeoutMillis, remainingTimeout));
+    }
+}
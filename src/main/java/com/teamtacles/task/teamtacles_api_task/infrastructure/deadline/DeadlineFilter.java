@@ -0,0 +1,103 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.deadline;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.teamtacles.task.teamtacles_api_task.config.DeadlineProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter that opens a RequestDeadline for every inbound request.
+ *
+ * The budget is the one configured for the first endpoint pattern matching the request path,
+ * falling back to the default budget. When the caller sends the X-Request-Timeout header
+ * (in milliseconds), the smaller of the two values is used, so we never work longer than the caller waits.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineFilter(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration budget = resolveBudget(request);
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestDeadline.start(budget);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    /**
+     * Resolves the time budget for the request from the endpoint configuration and the inbound header.
+     *
+     * @param request The inbound request.
+     * @return The budget to apply, or null if the request should run without a deadline.
+     */
+    private Duration resolveBudget(HttpServletRequest request) {
+        Duration configured = properties.getDefaultBudget();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Duration> endpoint : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                configured = endpoint.getValue();
+                break;
+            }
+        }
+
+        Duration requested = properties.isHonorHeader() ? parseHeader(request.getHeader(TIMEOUT_HEADER)) : null;
+        if (requested == null) {
+            return configured;
+        }
+        if (configured == null) {
+            return requested;
+        }
+        return requested.compareTo(configured) < 0 ? requested : configured;
+    }
+
+    private Duration parseHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            return millis > 0 ? Duration.ofMillis(millis) : null;
+        } catch (NumberFormatException ex) {
+            logger.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, value);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.deadline;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+
+/**
+ * Holds the time budget of the request being served by the current thread.
+ * The budget is opened by the DeadlineFilter when the request arrives and is read by the
+ * downstream clients, so every remote call only gets the time the caller is still waiting for.
+ *
+ * When no deadline was opened (e.g. background jobs), every method behaves as if the budget were unlimited.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration budget;
+    private final long deadlineNanos;
+
+    private RequestDeadline(Duration budget) {
+        this.budget = budget;
+        this.deadlineNanos = System.nanoTime() + budget.toNanos();
+    }
+
+    /**
+     * Opens a new deadline for the current thread, replacing any previous one.
+     *
+     * @param budget The total time the request is allowed to take.
+     * @return The deadline bound to the current thread.
+     */
+    public static RequestDeadline start(Duration budget) {
+        RequestDeadline deadline = new RequestDeadline(budget);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Returns the deadline bound to the current thread, or null when the request has no budget.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Removes the deadline from the current thread. Must be called when the request completes.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Checks that the current request still has time left before starting a downstream operation.
+     *
+     * @param operation A short description of the operation, used in the error message.
+     * @throws ServiceUnavailableException if the request budget has already been spent.
+     */
+    public static void ensureTimeRemaining(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new ServiceUnavailableException("The request time budget of " + deadline.budget.toMillis()
+                    + "ms was exhausted before calling the " + operation + ".");
+        }
+    }
+
+    /**
+     * Tells whether a failed downstream call must be reported as an exhausted request budget.
+     * Besides an expired deadline, this covers a call that timed out while a deadline was bound: its timeouts
+     * were capped by the deadline, and the timeout can fire just before the deadline is seen as expired.
+     *
+     * @param ex The failure of the downstream call.
+     * @return True if there is a deadline and it has expired or the call timed out, false otherwise.
+     */
+    public static boolean isCurrentExhaustedBy(RestClientException ex) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return false;
+        }
+        return deadline.isExpired()
+                || (ex instanceof ResourceAccessException && ex.getCause() instanceof SocketTimeoutException);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return The time left in milliseconds, never negative.
+     */
+    public long remainingMillis() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : Duration.ofNanos(remainingNanos).toMillis();
+    }
+
+    /**
+     * Time left rounded up to whole milliseconds, for timeouts that must not fire before the deadline.
+     *
+     * @return The time left in milliseconds, never negative.
+     */
+    public long remainingMillisRoundedUp() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : (remainingNanos + 999_999) / 1_000_000;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
@@ -1,7 +1,6 @@
 package com.teamtacles.task.teamtacles_api_task.infrastructure.mapper;
 
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.PagedResponse;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -11,30 +10,8 @@ import java.util.stream.Collectors;
 
 @Component
 public class PagedResponseMapper {
-    private final ModelMapper modelMapper;
 
-    public PagedResponseMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
-    // Método original, para conversões simples
-    public <S, T> PagedResponse<T> toPagedResponse(Page<S> sourcePage, Class<T> targetClass) {
-        List<T> mappedContent = sourcePage.getContent()
-                .stream()
-                .map(source -> modelMapper.map(source, targetClass))
-                .collect(Collectors.toList());
-
-        return new PagedResponse<>(
-                mappedContent,
-                sourcePage.getNumber(),
-                sourcePage.getSize(),
-                sourcePage.getTotalElements(),
-                sourcePage.getTotalPages(),
-                sourcePage.isLast()
-        );
-    }
-
-    // Sobrecarga que aceita uma função de mapeamento customizada
+    // Converte uma página de entidades usando a função de mapeamento informada
     public <S, T> PagedResponse<T> toPagedResponse(Page<S> sourcePage, Function<S, T> converter) {
         List<T> mappedContent = sourcePage.getContent()
                 .stream()
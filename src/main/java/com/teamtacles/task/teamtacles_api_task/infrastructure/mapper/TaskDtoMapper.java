@@ -0,0 +1,74 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.mapper;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.task.teamtacles_api_task.domain.model.Task;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Explicit mappings between task entities and the API DTOs.
+ * Only the plain fields are copied here; owner, responsible users and project
+ * details are enriched by the TaskService from the external services.
+ */
+public class TaskDtoMapper {
+
+    public static TaskResponseDTO toResponseDto(TaskEntity entity) {
+        if (entity == null) return null;
+
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(entity.getId());
+        dto.setTitle(entity.getTitle());
+        dto.setDescription(entity.getDescription());
+        dto.setDueDate(entity.getDueDate());
+        dto.setStatus(entity.getStatus());
+        return dto;
+    }
+
+    public static TaskResponseDTO toResponseDto(Task task) {
+        if (task == null) return null;
+
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(task.getId().value());
+        dto.setTitle(task.getTitle().value());
+        dto.setDescription(task.getDescription().value());
+        dto.setDueDate(task.getDueDate().value());
+        dto.setStatus(task.getStatus());
+        return dto;
+    }
+
+    public static TaskResponseFilteredDTO toFilteredDto(TaskEntity entity) {
+        if (entity == null) return null;
+
+        TaskResponseFilteredDTO dto = new TaskResponseFilteredDTO();
+        dto.setId(entity.getId());
+        dto.setTitle(entity.getTitle());
+        dto.setDescription(entity.getDescription());
+        dto.setDueDate(entity.getDueDate());
+        dto.setStatus(entity.getStatus());
+        return dto;
+    }
+
+    public static ProjectResponseFilteredDTO toProjectFilteredDto(ProjectResponseDTO project) {
+        if (project == null) return null;
+
+        return new ProjectResponseFilteredDTO(project.getId(), project.getTitle(), project.getDescription());
+    }
+
+    public static TaskEntity toEntity(TaskRequestDTO request) {
+        if (request == null) return null;
+
+        TaskEntity entity = new TaskEntity();
+        updateEntity(request, entity);
+        return entity;
+    }
+
+    // Full update (PUT semantics): every mapped field is overwritten, including nulls.
+    public static void updateEntity(TaskRequestDTO request, TaskEntity entity) {
+        entity.setTitle(request.getTitle());
+        entity.setDescription(request.getDescription());
+        entity.setDueDate(request.getDueDate());
+    }
+}
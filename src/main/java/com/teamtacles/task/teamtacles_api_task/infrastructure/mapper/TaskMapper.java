@@ -4,10 +4,9 @@ import com.teamtacles.task.teamtacles_api_task.domain.model.Task;
 import com.teamtacles.task.teamtacles_api_task.domain.valueObject.*;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
 
-import java.util.stream.Collectors;
-
 public class TaskMapper {
 
+    // Os responsáveis vão direto da lista da entidade para o array ordenado, sem cópias nem streams intermediários
     public static Task toDomain(TaskEntity entity) {
         if (entity == null) return null;
 
@@ -18,7 +17,7 @@ public class TaskMapper {
             new DueDate(entity.getDueDate()),
             entity.getStatus(),
             new OwnerUserId(entity.getOwnerUserId()),
-            new ResponsiblesList(entity.getResponsibleUserIds()),
+            ResponsibleUserIds.of(entity.getResponsibleUserIds()),
             new ProjectId(entity.getProjectId())
         );
     }
@@ -33,7 +32,7 @@ public class TaskMapper {
             domain.getDueDate().value(),
             domain.getStatus(),
             domain.getOwnerUserId().value(),
-            domain.getResponsibleUserIds().getIds(),
+            domain.getResponsibleUserIds().toList(),
             domain.getProjectId().value()
         );
     }
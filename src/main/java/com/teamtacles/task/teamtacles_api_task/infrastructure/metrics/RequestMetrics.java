@@ -0,0 +1,95 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.metrics;
+
+/**
+ * Per-request counters of the work a single inbound request causes: calls to the user and project services,
+ * cache hits and SQL statements sent to the database.
+ *
+ * The counters of the request being handled are bound to the current thread by the RequestMetricsFilter.
+ * Outside of a request (tests, startup, scheduled jobs) the record methods are no-ops.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private int userServiceCalls;
+    private int projectServiceCalls;
+    private int cacheHits;
+    private int sqlStatements;
+
+    private RequestMetrics() {
+    }
+
+    /**
+     * Binds a fresh set of counters to the current thread.
+     *
+     * @return The counters bound to the current thread.
+     */
+    public static RequestMetrics start() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * @return The counters of the request handled by the current thread, or null if none is active.
+     */
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void recordUserServiceCall() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.userServiceCalls++;
+        }
+    }
+
+    public static void recordProjectServiceCall() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.projectServiceCalls++;
+        }
+    }
+
+    public static void recordCacheHit() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.cacheHits++;
+        }
+    }
+
+    public static void recordSqlStatement() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.sqlStatements++;
+        }
+    }
+
+    public int getUserServiceCalls() {
+        return userServiceCalls;
+    }
+
+    public int getProjectServiceCalls() {
+        return projectServiceCalls;
+    }
+
+    public int getDownstreamCalls() {
+        return userServiceCalls + projectServiceCalls;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+}
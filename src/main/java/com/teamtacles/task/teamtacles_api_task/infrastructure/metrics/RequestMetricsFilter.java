@@ -0,0 +1,86 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet filter that collects the RequestMetrics of every inbound request.
+ *
+ * When the request completes the counters are published as distribution summaries tagged by endpoint
+ * (task.request.downstream.calls, task.request.cache.hits, task.request.sql.statements) and written to
+ * a single completion log line.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetrics.clear();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            String endpoint = resolveEndpoint(request);
+            publish(metrics, request.getMethod(), endpoint);
+            logger.info("Completed {} {} status={} durationMs={} userServiceCalls={} projectServiceCalls={} cacheHits={} sqlStatements={}",
+                    request.getMethod(), endpoint, response.getStatus(), elapsedMillis, metrics.getUserServiceCalls(),
+                    metrics.getProjectServiceCalls(), metrics.getCacheHits(), metrics.getSqlStatements());
+        }
+    }
+
+    private void publish(RequestMetrics metrics, String method, String endpoint) {
+        summary("task.request.downstream.calls", method, endpoint, "user").record(metrics.getUserServiceCalls());
+        summary("task.request.downstream.calls", method, endpoint, "project").record(metrics.getProjectServiceCalls());
+        summary("task.request.cache.hits", method, endpoint, null).record(metrics.getCacheHits());
+        summary("task.request.sql.statements", method, endpoint, null).record(metrics.getSqlStatements());
+    }
+
+    private DistributionSummary summary(String name, String method, String endpoint, String service) {
+        DistributionSummary.Builder builder = DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", endpoint);
+        if (service != null) {
+            builder.tag("service", service);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    /**
+     * Uses the matched handler pattern (e.g. /api/project/{projectId}/task/{taskId}) so the metrics are not
+     * split per task ID; requests that never reached a handler are grouped under UNKNOWN.
+     */
+    private String resolveEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
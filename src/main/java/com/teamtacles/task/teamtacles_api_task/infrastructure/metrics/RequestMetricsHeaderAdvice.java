@@ -0,0 +1,55 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the RequestMetrics of the current request as X-Debug-* response headers when
+ * request-metrics.debug-headers is enabled. The headers are written right before the body,
+ * which is the last point at which they can still be added.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ControllerAdvice
+public class RequestMetricsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String USER_SERVICE_CALLS_HEADER = "X-Debug-User-Service-Calls";
+    public static final String PROJECT_SERVICE_CALLS_HEADER = "X-Debug-Project-Service-Calls";
+    public static final String CACHE_HITS_HEADER = "X-Debug-Cache-Hits";
+    public static final String SQL_STATEMENTS_HEADER = "X-Debug-Sql-Statements";
+
+    private final boolean debugHeaders;
+
+    public RequestMetricsHeaderAdvice(@Value("${request-metrics.debug-headers:false}") boolean debugHeaders) {
+        this.debugHeaders = debugHeaders;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return debugHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(USER_SERVICE_CALLS_HEADER, String.valueOf(metrics.getUserServiceCalls()));
+            headers.set(PROJECT_SERVICE_CALLS_HEADER, String.valueOf(metrics.getProjectServiceCalls()));
+            headers.set(CACHE_HITS_HEADER, String.valueOf(metrics.getCacheHits()));
+            headers.set(SQL_STATEMENTS_HEADER, String.valueOf(metrics.getSqlStatements()));
+        }
+        return body;
+    }
+}
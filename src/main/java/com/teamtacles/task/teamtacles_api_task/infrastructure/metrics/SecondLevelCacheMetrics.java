@@ -0,0 +1,77 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.metrics;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes the hits, misses and puts of the Hibernate second-level cache regions, and their hit ratio.
+ *
+ * Meters: task.cache.l2.requests (tags region and result=hit|miss), task.cache.l2.puts and
+ * task.cache.l2.hit.ratio (tag region), read from the Hibernate statistics.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<String> regions;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, List<String> regions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : regions) {
+            FunctionCounter.builder("task.cache.l2.requests", statistics, stats -> hits(stats, region))
+                    .tags("region", region, "result", "hit")
+                    .description("Second-level cache lookups that found the entry")
+                    .register(registry);
+            FunctionCounter.builder("task.cache.l2.requests", statistics, stats -> misses(stats, region))
+                    .tags("region", region, "result", "miss")
+                    .description("Second-level cache lookups that went to the database")
+                    .register(registry);
+            FunctionCounter.builder("task.cache.l2.puts", statistics, stats -> puts(stats, region))
+                    .tags("region", region)
+                    .register(registry);
+            Gauge.builder("task.cache.l2.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                    .tags("region", region)
+                    .description("Share of second-level cache lookups served from the cache")
+                    .register(registry);
+        }
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        double hits = hits(statistics, region);
+        double total = hits + misses(statistics, region);
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static double hits(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getHitCount() : 0;
+    }
+
+    private static double misses(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getMissCount() : 0;
+    }
+
+    private static double puts(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getPutCount() : 0;
+    }
+}
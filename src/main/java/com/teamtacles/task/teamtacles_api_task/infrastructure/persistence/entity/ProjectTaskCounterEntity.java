@@ -0,0 +1,42 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "project_task_counters")
+@IdClass(ProjectTaskCounterId.class)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ProjectTaskCounterEntity {
+
+    // user_id of the rows counting all tasks of the project, regardless of the responsible users
+    public static final long ALL_USERS = 0L;
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Status status;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+}
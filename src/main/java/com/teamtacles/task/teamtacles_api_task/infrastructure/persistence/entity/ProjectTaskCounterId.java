@@ -0,0 +1,18 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity;
+
+import java.io.Serializable;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectTaskCounterId implements Serializable {
+    private Long projectId;
+    private Long userId;
+    private Status status;
+}
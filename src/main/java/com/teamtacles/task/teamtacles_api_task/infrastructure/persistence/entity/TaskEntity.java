@@ -3,8 +3,12 @@ package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entit
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -16,16 +20,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TaskEntity.CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class TaskEntity {
+    // Regiões do cache de segundo nível (só usadas com task-cache.second-level.enabled=true)
+    public static final String CACHE_REGION = "tasks";
+    public static final String RESPONSIBLES_CACHE_REGION = "tasks.responsibles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,10 +58,21 @@ public class TaskEntity {
     private Long ownerUserId;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TaskEntity.RESPONSIBLES_CACHE_REGION)
     @CollectionTable(name = "task_responsibles", joinColumns = @JoinColumn(name = "task_id"))
     @Column(name = "responsible_user_id")
     private List<Long> responsibleUserIds;
 
     @Column(name = "project_id", nullable = false)
     private Long projectId;
+
+    // Incrementada pelo Hibernate a cada alteração (inclusive dos responsáveis); null em tarefas ainda não salvas
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public TaskEntity(Long id, String title, String description, LocalDateTime dueDate, Status status,
+                      Long ownerUserId, List<Long> responsibleUserIds, Long projectId) {
+        this(id, title, description, dueDate, status, ownerUserId, responsibleUserIds, projectId, null);
+    }
 }
@@ -0,0 +1,40 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The database engine behind the application's DataSource, for the JDBC repositories that need engine-specific SQL.
+ *
+ * PostgreSQL runs in production; H2 runs in the tests and local runs. The engine is read once from the
+ * connection metadata.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class DatabaseVendor {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public DatabaseVendor(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return true when the database is PostgreSQL.
+     */
+    public boolean isPostgres() {
+        Boolean value = postgres;
+        if (value == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            value = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = value;
+        }
+        return value;
+    }
+}
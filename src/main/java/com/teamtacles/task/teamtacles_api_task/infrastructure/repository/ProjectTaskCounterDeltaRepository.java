@@ -0,0 +1,40 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.util.List;
+
+/**
+ * Fragment of ProjectTaskCounterRepository that writes counter deltas with JDBC, so all the counters touched
+ * by a task write are changed in a single batch.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface ProjectTaskCounterDeltaRepository {
+
+    /**
+     * A value to add to one counter.
+     *
+     * @param projectId The project of the counter.
+     * @param userId The responsible user of the counter, or ALL_USERS for the project total.
+     * @param status The status name of the counter.
+     * @param delta The value to add; negative to decrement.
+     */
+    record CounterDelta(Long projectId, Long userId, String status, long delta) {
+    }
+
+    /**
+     * Adds the deltas to their counters in one JDBC batch, creating the counters that do not exist yet.
+     * Must run inside the writing transaction.
+     *
+     * @param deltas The deltas, at most one per counter, in the order the counter rows should be locked.
+     */
+    void applyDeltas(List<CounterDelta> deltas);
+
+    /**
+     * Blocks counter writes of other transactions until the current one ends, and waits for those in flight,
+     * so a repair recomputes the counters from a state no concurrent delta is missing from or added to twice.
+     * Must run inside the repairing transaction, before its first statement.
+     */
+    void lockCountersForRepair();
+}
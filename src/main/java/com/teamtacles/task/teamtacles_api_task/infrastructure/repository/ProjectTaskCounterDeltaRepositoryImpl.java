@@ -0,0 +1,69 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * JDBC implementation of ProjectTaskCounterDeltaRepository, picked up by Spring Data by its name.
+ *
+ * Counters are changed with atomic increments so concurrent writes to the same project never lose updates:
+ * INSERT ... ON CONFLICT on PostgreSQL, whose MERGE fails with a unique violation when two transactions create
+ * the same counter, and MERGE on H2. Plain JDBC does not go through Hibernate, so it never evicts the task
+ * second-level cache regions.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ProjectTaskCounterDeltaRepositoryImpl implements ProjectTaskCounterDeltaRepository {
+
+    private static final String POSTGRES_APPLY_DELTA = """
+        INSERT INTO project_task_counters (project_id, user_id, status, task_count)
+        VALUES (:projectId, :userId, :status, :delta)
+        ON CONFLICT (project_id, user_id, status) DO UPDATE SET task_count = project_task_counters.task_count + EXCLUDED.task_count
+        """;
+
+    private static final String H2_APPLY_DELTA = """
+        MERGE INTO project_task_counters c
+        USING (VALUES (CAST(:projectId AS BIGINT), CAST(:userId AS BIGINT), CAST(:status AS VARCHAR(20)), CAST(:delta AS BIGINT)))
+            AS d (project_id, user_id, status, delta)
+        ON c.project_id = d.project_id AND c.user_id = d.user_id AND c.status = d.status
+        WHEN MATCHED THEN UPDATE SET task_count = c.task_count + d.delta
+        WHEN NOT MATCHED THEN INSERT (project_id, user_id, status, task_count) VALUES (d.project_id, d.user_id, d.status, d.delta)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    public ProjectTaskCounterDeltaRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+    }
+
+    @Override
+    public void applyDeltas(List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] rows = deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("projectId", delta.projectId())
+                        .addValue("userId", delta.userId())
+                        .addValue("status", delta.status())
+                        .addValue("delta", delta.delta()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(databaseVendor.isPostgres() ? POSTGRES_APPLY_DELTA : H2_APPLY_DELTA, rows);
+    }
+
+    @Override
+    public void lockCountersForRepair() {
+        if (databaseVendor.isPostgres()) {
+            // conflita com o ROW EXCLUSIVE dos escritores e consigo mesmo, mas não bloqueia as leituras
+            jdbcTemplate.getJdbcTemplate().execute("LOCK TABLE project_task_counters IN SHARE ROW EXCLUSIVE MODE");
+        }
+        // o H2 não tem LOCK TABLE; só roda em testes e execuções locais
+    }
+}
@@ -0,0 +1,77 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.ProjectTaskCounterEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.ProjectTaskCounterId;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for the per-project task status counters.
+ *
+ * Counters are changed in batches through ProjectTaskCounterDeltaRepository. The native repair statements
+ * declare project_task_counters as their only query space, so Hibernate does not evict the task second-level
+ * cache regions when they run.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounterEntity, ProjectTaskCounterId>, ProjectTaskCounterDeltaRepository {
+
+    List<ProjectTaskCounterEntity> findByProjectIdAndUserId(Long projectId, Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = "DELETE FROM project_task_counters", nativeQuery = true)
+    void deleteAllCounters();
+
+    /**
+     * Recomputes the project totals (user_id = 0) from the tasks and tasks_archive tables.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = """
+        INSERT INTO project_task_counters (project_id, user_id, status, task_count)
+        SELECT project_id, 0, status, COUNT(*)
+        FROM (
+            SELECT project_id, status FROM tasks
+            UNION ALL
+            SELECT project_id, status FROM tasks_archive
+        ) t
+        GROUP BY project_id, status
+    """, nativeQuery = true)
+    int insertProjectCountsFromTasks();
+
+    /**
+     * Recomputes the per-user counters from the tasks and task_responsibles tables and their archives.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = """
+        INSERT INTO project_task_counters (project_id, user_id, status, task_count)
+        SELECT t.project_id, r.responsible_user_id, t.status, COUNT(DISTINCT t.id)
+        FROM (
+            SELECT id, project_id, status FROM tasks
+            UNION ALL
+            SELECT id, project_id, status FROM tasks_archive
+        ) t
+        JOIN (
+            SELECT task_id, responsible_user_id FROM task_responsibles
+            UNION ALL
+            SELECT task_id, responsible_user_id FROM task_responsibles_archive
+        ) r ON r.task_id = t.id
+        WHERE r.responsible_user_id IS NOT NULL
+        GROUP BY t.project_id, r.responsible_user_id, t.status
+    """, nativeQuery = true)
+    int insertUserCountsFromTasks();
+}
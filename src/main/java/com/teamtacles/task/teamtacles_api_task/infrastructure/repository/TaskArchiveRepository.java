@@ -0,0 +1,270 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Repository for the archive of DONE tasks (tasks_archive and task_responsibles_archive, created by V8).
+ *
+ * Tasks are moved in batches by TaskArchiver: each batch is locked in the hot table, copied and deleted in the
+ * caller's transaction. Archived tasks are returned as detached TaskEntity instances, which are not managed by
+ * JPA and must not be saved. Searches that include the archive run over the union of both tables.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskArchiveRepository {
+
+    private static final String ARCHIVABLE_QUERY = """
+        SELECT t.id
+        FROM tasks t
+        JOIN task_change_log l ON l.project_id = t.project_id AND l.task_id = t.id
+        WHERE t.status = 'DONE' AND t.id > :afterId AND l.changed_at < :cutoff
+        ORDER BY t.id
+        LIMIT :limit
+        """;
+
+    // Revalida o status sob o lock: a tarefa pode ter sido reaberta depois da seleção
+    private static final String LOCK_TASKS = "SELECT id FROM tasks WHERE id IN (:ids) AND status = 'DONE' ORDER BY id FOR UPDATE";
+
+    private static final String COPY_TASKS = """
+        INSERT INTO tasks_archive (id, title, description, due_date, status, owner_user_id, project_id, version, archived_at)
+        SELECT id, title, description, due_date, status, owner_user_id, project_id, version, :archivedAt
+        FROM tasks
+        WHERE id IN (:ids)
+        """;
+
+    private static final String COPY_RESPONSIBLES = """
+        INSERT INTO task_responsibles_archive (task_id, responsible_user_id)
+        SELECT task_id, responsible_user_id FROM task_responsibles WHERE task_id IN (:ids)
+        """;
+
+    private static final String LOAD_QUERY = """
+        SELECT t.id, t.title, t.description, t.due_date, t.status, t.owner_user_id, t.project_id, t.version, r.responsible_user_id
+        FROM tasks_archive t
+        LEFT JOIN task_responsibles_archive r ON r.task_id = t.id
+        WHERE %s
+        ORDER BY t.id, r.responsible_user_id
+        """;
+
+    private static final String SEARCH_FILTERS = """
+        WHERE (CAST(:status AS VARCHAR) IS NULL OR t.status = :status)
+        AND (CAST(:dueFrom AS TIMESTAMP) IS NULL OR t.due_date >= :dueFrom)
+        AND (CAST(:dueTo AS TIMESTAMP) IS NULL OR t.due_date <= :dueTo)
+        AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId)
+        AND (CAST(:userId AS BIGINT) IS NULL
+             OR t.owner_user_id = :userId
+             OR EXISTS (SELECT 1 FROM task_responsibles x WHERE x.task_id = t.id AND x.responsible_user_id = :userId)
+             OR EXISTS (SELECT 1 FROM task_responsibles_archive x WHERE x.task_id = t.id AND x.responsible_user_id = :userId))
+        """;
+
+    private static final String ALL_TASKS = """
+        (
+            SELECT id, title, description, due_date, status, owner_user_id, project_id FROM tasks
+            UNION ALL
+            SELECT id, title, description, due_date, status, owner_user_id, project_id FROM tasks_archive
+        ) t
+        """;
+
+    private static final String SEARCH_QUERY = """
+        SELECT t.id, COUNT(*) OVER () AS total
+        FROM %s
+        %s
+        ORDER BY %s
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) FROM %s %s".formatted(ALL_TASKS, SEARCH_FILTERS);
+
+    // Propriedades ordenáveis da TaskEntity e as suas colunas
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "description", "t.description",
+            "dueDate", "t.due_date",
+            "status", "t.status",
+            "ownerUserId", "t.owner_user_id",
+            "projectId", "t.project_id");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds the DONE tasks of the hot table whose latest change happened before a cutoff.
+     *
+     * @param cutoff Only tasks last changed before it are returned.
+     * @param afterId Only tasks with a greater ID are returned, to walk the table in batches.
+     * @param limit The maximum number of IDs.
+     * @return The IDs, in ascending order.
+     */
+    public List<Long> findArchivable(LocalDateTime cutoff, long afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(ARCHIVABLE_QUERY, parameters, Long.class);
+    }
+
+    /**
+     * Moves tasks to the archive. Must run inside a transaction: the tasks stay locked until it ends.
+     *
+     * @param ids The tasks to move; those no longer DONE (or no longer existing) are skipped.
+     * @param archivedAt The archiving time to record.
+     * @return The moved tasks, as archived.
+     */
+    public List<TaskEntity> move(List<Long> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_TASKS, new MapSqlParameterSource("ids", ids), Long.class);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", locked)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        jdbcTemplate.update(COPY_TASKS, parameters);
+        jdbcTemplate.update(COPY_RESPONSIBLES, parameters);
+        jdbcTemplate.update("DELETE FROM task_responsibles WHERE task_id IN (:ids)", parameters);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (:ids)", parameters);
+        return findAllById(locked);
+    }
+
+    /**
+     * @param id The ID of a task.
+     * @return The task, if it is archived.
+     */
+    public Optional<TaskEntity> findById(Long id) {
+        return findAllById(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * @param ids IDs of tasks, archived or not.
+     * @return The archived ones among them, in ID order.
+     */
+    public List<TaskEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return load("t.id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * @param projectId The ID of a project.
+     * @return The archived tasks of the project, in ID order.
+     */
+    public List<TaskEntity> findProjectTasks(Long projectId) {
+        return load("t.project_id = :projectId", new MapSqlParameterSource("projectId", projectId));
+    }
+
+    /**
+     * Deletes the archived tasks of a project.
+     *
+     * @param projectId The ID of the project.
+     * @return The number of tasks deleted.
+     */
+    public int deleteProjectTasks(Long projectId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("projectId", projectId);
+        jdbcTemplate.update("""
+            DELETE FROM task_responsibles_archive
+            WHERE task_id IN (SELECT id FROM tasks_archive WHERE project_id = :projectId)
+            """, parameters);
+        return jdbcTemplate.update("DELETE FROM tasks_archive WHERE project_id = :projectId", parameters);
+    }
+
+    /**
+     * Searches the hot and the archived tasks together, with the filters and the user scoping of
+     * TaskRepository.findTasksFiltered and findTasksFilteredByUser.
+     *
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional due date; only tasks due on or after it match.
+     * @param dueTo Optional due date; only tasks due on or before it match.
+     * @param projectId Optional project to filter by.
+     * @param userId Restricts the search to tasks the user owns or is responsible for; null for all tasks.
+     * @param pageable The page; sorted by ID when it has no sort.
+     * @return The page of matching task IDs, in the order of the pageable.
+     * @throws IllegalArgumentException if the pageable sorts by a property that is not a column of the task.
+     */
+    public Page<Long> searchIncludingArchive(Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, Long userId, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+                .addValue("dueFrom", dueFrom, Types.TIMESTAMP)
+                .addValue("dueTo", dueTo, Types.TIMESTAMP)
+                .addValue("projectId", projectId, Types.BIGINT)
+                .addValue("userId", userId, Types.BIGINT)
+                .addValue("limit", pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE)
+                .addValue("offset", pageable.isPaged() ? pageable.getOffset() : 0L);
+
+        long[] total = new long[1];
+        List<Long> ids = new ArrayList<>();
+        jdbcTemplate.query(SEARCH_QUERY.formatted(ALL_TASKS, SEARCH_FILTERS, orderBy(pageable.getSort())), parameters, rs -> {
+            ids.add(rs.getLong("id"));
+            total[0] = rs.getLong("total");
+        });
+        if (ids.isEmpty() && pageable.isPaged() && pageable.getOffset() > 0) {
+            // página além do fim: sem linhas, o total vem de uma contagem
+            total[0] = jdbcTemplate.queryForObject(COUNT_QUERY, parameters, Long.class);
+        }
+        return new PageImpl<>(ids, pageable, total[0]);
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Tasks including archived ones can not be sorted by " + order.getProperty() + ".");
+            }
+            columns.add(column + (order.isDescending() ? " DESC" : ""));
+            byId |= column.equals("t.id");
+        }
+        if (!byId) {
+            // desempate estável entre as páginas
+            columns.add("t.id");
+        }
+        return String.join(", ", columns);
+    }
+
+    private List<TaskEntity> load(String condition, MapSqlParameterSource parameters) {
+        Map<Long, TaskEntity> tasks = new LinkedHashMap<>();
+        jdbcTemplate.query(LOAD_QUERY.formatted(condition), parameters, rs -> {
+            long id = rs.getLong("id");
+            TaskEntity task = tasks.get(id);
+            if (task == null) {
+                task = new TaskEntity(id, rs.getString("title"), rs.getString("description"),
+                        rs.getTimestamp("due_date").toLocalDateTime(), Status.valueOf(rs.getString("status")),
+                        rs.getLong("owner_user_id"), new ArrayList<>(), rs.getLong("project_id"), rs.getLong("version"));
+                tasks.put(id, task);
+            }
+            long responsibleId = rs.getLong("responsible_user_id");
+            if (!rs.wasNull()) {
+                task.getResponsibleUserIds().add(responsibleId);
+            }
+        });
+        return new ArrayList<>(tasks.values());
+    }
+}
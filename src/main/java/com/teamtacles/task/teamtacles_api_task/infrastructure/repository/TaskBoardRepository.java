@@ -0,0 +1,103 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Repository loading a project's Kanban board in a single SQL statement.
+ *
+ * The top N tasks of every status column are selected with ROW_NUMBER() OVER (PARTITION BY status), the
+ * column totals with COUNT(*) OVER (PARTITION BY status), and the responsible users are joined in the same
+ * statement, so a board costs one database round trip regardless of the number of columns.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskBoardRepository {
+
+    private static final String BOARD_QUERY = """
+        SELECT ranked.id, ranked.title, ranked.description, ranked.due_date, ranked.status, ranked.owner_user_id,
+               ranked.project_id, ranked.row_number_in_column, ranked.column_total, r.responsible_user_id
+        FROM (
+            SELECT t.id, t.title, t.description, t.due_date, t.status, t.owner_user_id, t.project_id,
+                   ROW_NUMBER() OVER (PARTITION BY t.status ORDER BY t.due_date, t.id) AS row_number_in_column,
+                   COUNT(*) OVER (PARTITION BY t.status) AS column_total
+            FROM tasks t
+            WHERE t.project_id = :projectId
+            AND (CAST(:userId AS BIGINT) IS NULL
+                 OR t.owner_user_id = :userId
+                 OR EXISTS (SELECT 1 FROM task_responsibles x WHERE x.task_id = t.id AND x.responsible_user_id = :userId))
+        ) ranked
+        LEFT JOIN task_responsibles r ON r.task_id = ranked.id
+        WHERE ranked.row_number_in_column <= :limit
+        ORDER BY ranked.status, ranked.row_number_in_column, r.responsible_user_id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskBoardRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A board column: the total number of tasks with its status and the first tasks by due date.
+     */
+    public record Column(long total, List<TaskEntity> tasks) {
+    }
+
+    /**
+     * Loads the board of a project.
+     *
+     * @param projectId The project of the board.
+     * @param limit The maximum number of tasks per column.
+     * @param userId Restricts the board to tasks the user owns or is responsible for; null for all tasks.
+     * @return One column per status, in Status order; columns without tasks are empty.
+     */
+    public Map<Status, Column> findBoard(Long projectId, int limit, Long userId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("userId", userId, Types.BIGINT)
+                .addValue("limit", limit);
+
+        Map<Long, TaskEntity> tasks = new LinkedHashMap<>();
+        Map<Status, Long> totals = new EnumMap<>(Status.class);
+        jdbcTemplate.query(BOARD_QUERY, parameters, rs -> {
+            long id = rs.getLong("id");
+            TaskEntity task = tasks.get(id);
+            if (task == null) {
+                Status status = Status.valueOf(rs.getString("status"));
+                task = new TaskEntity(id, rs.getString("title"), rs.getString("description"),
+                        rs.getTimestamp("due_date").toLocalDateTime(), status, rs.getLong("owner_user_id"),
+                        new ArrayList<>(), rs.getLong("project_id"));
+                tasks.put(id, task);
+                totals.put(status, rs.getLong("column_total"));
+            }
+            long responsibleId = rs.getLong("responsible_user_id");
+            if (!rs.wasNull()) {
+                task.getResponsibleUserIds().add(responsibleId);
+            }
+        });
+
+        Map<Status, Column> board = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            board.put(status, new Column(totals.getOrDefault(status, 0L), new ArrayList<>()));
+        }
+        for (TaskEntity task : tasks.values()) {
+            board.get(task.getStatus()).tasks().add(task);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,134 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Repository for status changes of many tasks at once, with set-based SQL instead of one load and one save
+ * per task through the persistence context.
+ *
+ * The tasks are locked and checked against the requesting user in one query, then updated in one statement
+ * that also bumps their versions, so concurrent updates of the same tasks through JPA fail their version check.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskBulkStatusRepository {
+
+    private static final String LOCK_TASKS = """
+        SELECT t.id, t.title, t.description, t.due_date, t.status, t.owner_user_id, t.project_id, t.version,
+               CASE WHEN CAST(:userId AS BIGINT) IS NULL
+                         OR t.owner_user_id = :userId
+                         OR EXISTS (SELECT 1 FROM task_responsibles r WHERE r.task_id = t.id AND r.responsible_user_id = :userId)
+                    THEN 1 ELSE 0 END AS allowed
+        FROM tasks t
+        WHERE t.project_id = :projectId AND t.id IN (:ids)
+        ORDER BY t.id
+        FOR UPDATE
+        """;
+
+    private static final String LOAD_RESPONSIBLES = """
+        SELECT task_id, responsible_user_id FROM task_responsibles
+        WHERE task_id IN (:ids)
+        ORDER BY task_id, responsible_user_id
+        """;
+
+    private static final String UPDATE_STATUS = "UPDATE tasks SET status = :status, version = version + 1 WHERE id IN (:ids)";
+
+    /**
+     * A locked task and whether the requesting user may change it.
+     */
+    public record LockedTask(TaskEntity task, boolean allowed) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public TaskBulkStatusRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Locks the tasks of a project until the end of the current transaction and checks the user against their
+     * owner and responsibles.
+     *
+     * @param projectId The project the tasks must belong to.
+     * @param ids The IDs of the tasks; those not in the project (or not existing) are not returned.
+     * @param userId The user changing the tasks, or null for an admin, who may change any of them.
+     * @return The locked tasks, as detached entities, in ID order.
+     */
+    public List<LockedTask> lockTasks(Long projectId, Collection<Long> ids, Long userId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("ids", ids)
+                .addValue("userId", userId, Types.BIGINT);
+        Map<Long, LockedTask> locked = new LinkedHashMap<>();
+        jdbcTemplate.query(LOCK_TASKS, parameters, rs -> {
+            long id = rs.getLong("id");
+            TaskEntity task = new TaskEntity(id, rs.getString("title"), rs.getString("description"),
+                    rs.getTimestamp("due_date").toLocalDateTime(), Status.valueOf(rs.getString("status")),
+                    rs.getLong("owner_user_id"), new ArrayList<>(), rs.getLong("project_id"), rs.getLong("version"));
+            locked.put(id, new LockedTask(task, rs.getInt("allowed") == 1));
+        });
+        if (!locked.isEmpty()) {
+            jdbcTemplate.query(LOAD_RESPONSIBLES, new MapSqlParameterSource("ids", locked.keySet()), rs -> {
+                locked.get(rs.getLong("task_id")).task().getResponsibleUserIds().add(rs.getLong("responsible_user_id"));
+            });
+        }
+        return new ArrayList<>(locked.values());
+    }
+
+    /**
+     * Sets the status of tasks and increments their versions, evicting them from the second-level cache.
+     * The tasks should have been locked with lockTasks in the same transaction.
+     *
+     * @param ids The IDs of the tasks.
+     * @param status The new status.
+     * @return The number of tasks updated.
+     */
+    public int updateStatus(Collection<Long> ids, Status status) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = jdbcTemplate.update(UPDATE_STATUS, new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("ids", ids));
+        List<Long> evicted = List.copyOf(ids);
+        evict(evicted);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // despejado de novo após o commit: uma leitura concorrente pode ter recolocado o estado antigo no cache
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evicted);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(List<Long> ids) {
+        ids.forEach(id -> entityManagerFactory.getCache().evict(TaskEntity.class, id));
+    }
+}
@@ -0,0 +1,161 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Repository for the task change feed.
+ *
+ * Sequence numbers are reserved by incrementing the project's row in project_change_sequences. The row stays
+ * locked until the writing transaction ends, so the writers of a project take their numbers in commit order
+ * and a reader never sees a number appear below a cursor it has already returned. The outbox takes its
+ * project_seq from the same rows, so the numbers of the feed have gaps.
+ *
+ * Both upserts are INSERT ... ON CONFLICT on PostgreSQL, whose MERGE fails with a unique violation when two
+ * transactions insert the same new key (the first write of a project or of a task), and MERGE on H2.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskChangeLogRepository {
+
+    private static final String POSTGRES_RESERVE_SEQUENCE = """
+        INSERT INTO project_change_sequences (project_id, last_seq) VALUES (:projectId, :count)
+        ON CONFLICT (project_id) DO UPDATE SET last_seq = project_change_sequences.last_seq + EXCLUDED.last_seq
+        RETURNING last_seq
+        """;
+
+    private static final String H2_RESERVE_SEQUENCE = """
+        MERGE INTO project_change_sequences s
+        USING (VALUES (CAST(:projectId AS BIGINT), CAST(:count AS BIGINT))) AS d (project_id, n)
+        ON s.project_id = d.project_id
+        WHEN MATCHED THEN UPDATE SET last_seq = s.last_seq + d.n
+        WHEN NOT MATCHED THEN INSERT (project_id, last_seq) VALUES (d.project_id, d.n)
+        """;
+
+    private static final String POSTGRES_UPSERT_CHANGE = """
+        INSERT INTO task_change_log (project_id, task_id, change_seq, change_type, changed_at)
+        VALUES (:projectId, :taskId, :changeSeq, :changeType, CURRENT_TIMESTAMP)
+        ON CONFLICT (project_id, task_id) DO UPDATE
+            SET change_seq = EXCLUDED.change_seq, change_type = EXCLUDED.change_type, changed_at = EXCLUDED.changed_at
+        """;
+
+    private static final String H2_UPSERT_CHANGE = """
+        MERGE INTO task_change_log l
+        USING (VALUES (CAST(:projectId AS BIGINT), CAST(:taskId AS BIGINT), CAST(:changeSeq AS BIGINT), CAST(:changeType AS VARCHAR(20))))
+            AS d (project_id, task_id, change_seq, change_type)
+        ON l.project_id = d.project_id AND l.task_id = d.task_id
+        WHEN MATCHED THEN UPDATE SET change_seq = d.change_seq, change_type = d.change_type, changed_at = CURRENT_TIMESTAMP
+        WHEN NOT MATCHED THEN INSERT (project_id, task_id, change_seq, change_type, changed_at)
+            VALUES (d.project_id, d.task_id, d.change_seq, d.change_type, CURRENT_TIMESTAMP)
+        """;
+
+    private static final String CHANGES_QUERY = """
+        SELECT l.task_id, l.change_seq, l.change_type, l.changed_at,
+               t.title, t.description, t.due_date, t.status, t.owner_user_id, r.responsible_user_id
+        FROM (
+            SELECT task_id, change_seq, change_type, changed_at
+            FROM task_change_log
+            WHERE project_id = :projectId AND change_seq > :since
+            ORDER BY change_seq
+            LIMIT :limit
+        ) l
+        LEFT JOIN tasks t ON t.id = l.task_id
+        LEFT JOIN task_responsibles r ON r.task_id = t.id
+        ORDER BY l.change_seq
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    public TaskChangeLogRepository(NamedParameterJdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+    }
+
+    /**
+     * The latest change of a task. task is null when the task no longer exists.
+     */
+    public record Entry(Long taskId, long changeSeq, String changeType, LocalDateTime changedAt, TaskEntity task) {
+    }
+
+    /**
+     * Reserves count consecutive sequence numbers of a project. Must run inside the writing transaction.
+     *
+     * @param projectId The project to reserve numbers of.
+     * @param count The number of sequence numbers to reserve.
+     * @return The last reserved number; the reserved range ends with it.
+     */
+    public long reserve(Long projectId, int count) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("count", count);
+        if (databaseVendor.isPostgres()) {
+            return jdbcTemplate.queryForObject(POSTGRES_RESERVE_SEQUENCE, parameters, Long.class);
+        }
+        jdbcTemplate.update(H2_RESERVE_SEQUENCE, parameters);
+        Long last = jdbcTemplate.queryForObject("SELECT last_seq FROM project_change_sequences WHERE project_id = :projectId",
+                parameters, Long.class);
+        return last;
+    }
+
+    /**
+     * Records the latest change of each task, replacing the previous one.
+     *
+     * @param changes The changes as parameter sources with projectId, taskId, changeSeq and changeType.
+     */
+    public void upsertAll(List<SqlParameterSource> changes) {
+        jdbcTemplate.batchUpdate(databaseVendor.isPostgres() ? POSTGRES_UPSERT_CHANGE : H2_UPSERT_CHANGE, changes.toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Loads the tasks changed after a sequence number, with their current state, in a single statement.
+     *
+     * @param projectId The project of the tasks.
+     * @param since The last sequence number already seen by the client.
+     * @param limit The maximum number of changes.
+     * @return The changes in sequence order.
+     */
+    public List<Entry> findChangesSince(Long projectId, long since, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("since", since)
+                .addValue("limit", limit);
+
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        jdbcTemplate.query(CHANGES_QUERY, parameters, rs -> {
+            long taskId = rs.getLong("task_id");
+            Entry entry = entries.get(taskId);
+            if (entry == null) {
+                TaskEntity task = null;
+                String status = rs.getString("status");
+                if (status != null) {
+                    task = new TaskEntity(taskId, rs.getString("title"), rs.getString("description"),
+                            rs.getTimestamp("due_date").toLocalDateTime(), Status.valueOf(status),
+                            rs.getLong("owner_user_id"), new ArrayList<>(), projectId);
+                }
+                entry = new Entry(taskId, rs.getLong("change_seq"), rs.getString("change_type"),
+                        rs.getTimestamp("changed_at").toLocalDateTime(), task);
+                entries.put(taskId, entry);
+            }
+            long responsibleId = rs.getLong("responsible_user_id");
+            if (!rs.wasNull() && entry.task() != null) {
+                entry.task().getResponsibleUserIds().add(responsibleId);
+            }
+        });
+        return new ArrayList<>(entries.values());
+    }
+}
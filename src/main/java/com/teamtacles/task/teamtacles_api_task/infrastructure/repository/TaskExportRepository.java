@@ -0,0 +1,96 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Repository streaming all tasks of a project with a forward-only JDBC cursor.
+ *
+ * The rows are read with a fixed fetch size inside a read-only transaction (required by the PostgreSQL
+ * driver to use a server-side cursor) and handed to the consumer one task at a time, so the memory used
+ * does not depend on the number of tasks. Tasks are never managed by the persistence context.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskExportRepository {
+
+    public static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_QUERY = """
+        SELECT t.id, t.title, t.description, t.due_date, t.status, t.owner_user_id, t.project_id, t.version, r.responsible_user_id
+        FROM tasks t
+        LEFT JOIN task_responsibles r ON r.task_id = t.id
+        WHERE t.project_id = :projectId
+        AND (CAST(:userId AS BIGINT) IS NULL
+             OR t.owner_user_id = :userId
+             OR EXISTS (SELECT 1 FROM task_responsibles x WHERE x.task_id = t.id AND x.responsible_user_id = :userId))
+        ORDER BY t.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExportRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Streams the tasks of a project in ID order.
+     *
+     * @param projectId The project to export.
+     * @param userId Restricts the export to tasks the user owns or is responsible for; null for all tasks.
+     * @param consumer Receives each task, with its responsible user IDs, exactly once.
+     */
+    public void streamProjectTasks(Long projectId, Long userId, Consumer<TaskEntity> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("userId", userId, Types.BIGINT);
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // as linhas de uma mesma tarefa chegam em sequência (ORDER BY t.id), então só a tarefa atual fica em memória
+            TaskEntity[] current = new TaskEntity[1];
+            jdbcTemplate.query(EXPORT_QUERY, parameters, rs -> {
+                long id = rs.getLong("id");
+                if (current[0] == null || current[0].getId() != id) {
+                    if (current[0] != null) {
+                        consumer.accept(current[0]);
+                    }
+                    current[0] = mapTask(rs, id);
+                }
+                long responsibleId = rs.getLong("responsible_user_id");
+                if (!rs.wasNull()) {
+                    current[0].getResponsibleUserIds().add(responsibleId);
+                }
+            });
+            if (current[0] != null) {
+                consumer.accept(current[0]);
+            }
+        });
+    }
+
+    private TaskEntity mapTask(ResultSet rs, long id) throws SQLException {
+        return new TaskEntity(id, rs.getString("title"), rs.getString("description"),
+                rs.getTimestamp("due_date").toLocalDateTime(), Status.valueOf(rs.getString("status")),
+                rs.getLong("owner_user_id"), new ArrayList<>(), rs.getLong("project_id"), rs.getLong("version"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+/**
+ * Repository writing imported tasks with JDBC batch inserts: one batch for the tasks and one for their
+ * responsible users, instead of one insert per row through the persistence context.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskImportRepository {
+
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (title, description, due_date, status, owner_user_id, project_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESPONSIBLE =
+            "INSERT INTO task_responsibles (task_id, responsible_user_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the tasks and their responsible users, setting the generated ID on each task.
+     * Must run inside a transaction so a chunk is written entirely or not at all.
+     *
+     * @param tasks The tasks to insert, without IDs.
+     */
+    public void insertAll(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_TASK, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TaskEntity task = tasks.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setTimestamp(3, Timestamp.valueOf(task.getDueDate()));
+                        ps.setString(4, task.getStatus().name());
+                        ps.setLong(5, task.getOwnerUserId());
+                        ps.setLong(6, task.getProjectId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        List<long[]> responsibles = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskEntity task = tasks.get(i);
+            task.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            for (Long userId : task.getResponsibleUserIds()) {
+                responsibles.add(new long[] { task.getId(), userId });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESPONSIBLE, responsibles, responsibles.size(), (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.application.outbox.OutboxMessage;
+
+/**
+ * Repository for the task outbox.
+ *
+ * Pending rows are read with SELECT ... FOR UPDATE, so when several instances run the relay only one drains
+ * the outbox at a time and the events keep their order. They are read in project_seq order per project and
+ * not in id order: an id is taken at insert time, so a row can become visible while a lower id of another
+ * transaction is still uncommitted, whereas a project_seq is reserved under the project's row lock.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskOutboxRepository {
+
+    private static final String INSERT = """
+        INSERT INTO task_outbox (task_id, project_id, project_seq, event_type, payload, created_at)
+        VALUES (:taskId, :projectId, :projectSeq, :eventType, :payload, :createdAt)
+        """;
+
+    private static final String LOCK_PENDING = """
+        SELECT id, task_id, project_id, project_seq, event_type, payload, created_at
+        FROM task_outbox
+        WHERE published_at IS NULL
+        ORDER BY project_id, project_seq
+        LIMIT :limit
+        FOR UPDATE
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskOutboxRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Appends events to the outbox in the current transaction.
+     *
+     * @param events Parameter sources with taskId, projectId, projectSeq, eventType, payload and createdAt.
+     */
+    public void insertAll(List<SqlParameterSource> events) {
+        jdbcTemplate.batchUpdate(INSERT, events.toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Reads and locks the oldest unpublished events. Must run inside a transaction.
+     *
+     * @param limit The maximum number of events.
+     * @return The events in project ID and project_seq order.
+     */
+    public List<OutboxMessage> lockPending(int limit) {
+        return jdbcTemplate.query(LOCK_PENDING, new MapSqlParameterSource("limit", limit), (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"), rs.getLong("task_id"), rs.getLong("project_id"), rs.getLong("project_seq"), rs.getString("event_type"),
+                rs.getString("payload"), rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    /**
+     * Marks events as published.
+     *
+     * @param ids The IDs of the events.
+     * @param publishedAt The publication time.
+     */
+    public void markPublished(List<Long> ids, LocalDateTime publishedAt) {
+        jdbcTemplate.update("UPDATE task_outbox SET published_at = :publishedAt WHERE id IN (:ids)",
+                new MapSqlParameterSource()
+                        .addValue("publishedAt", Timestamp.valueOf(publishedAt))
+                        .addValue("ids", ids));
+    }
+
+    /**
+     * Deletes the events published before a given time.
+     *
+     * @param publishedBefore The retention limit.
+     * @return The number of deleted events.
+     */
+    public int deletePublishedBefore(LocalDateTime publishedBefore) {
+        return jdbcTemplate.update("DELETE FROM task_outbox WHERE published_at < :publishedBefore",
+                new MapSqlParameterSource("publishedBefore", Timestamp.valueOf(publishedBefore)));
+    }
+}
@@ -45,11 +45,12 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
     /**
      * Finds a paginated list of tasks using multiple optional filters, including a user-specific filter.
      *
-     * The query filters by status, due date, project, and checks if the given user is either the
+     * The query filters by status, due date range, project, and checks if the given user is either the
      * *owner* or a *member of the responsible users list*.
      *
      * @param status The task status to filter by. Can be null to ignore.
-     * @param dueDate The latest due date. The query will find tasks due on or before this date. Can be null to ignore.
+     * @param dueFrom The earliest due date. The query will find tasks due on or after this date. Can be null to ignore.
+     * @param dueTo The latest due date. The query will find tasks due on or before this date. Can be null to ignore.
      * @param projectId The ID of the project to filter by. Can be null to ignore.
      * @param userId The ID of the user to filter by (as owner or responsible).
      * @param pageable Pagination and sorting information.
@@ -58,19 +59,21 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
      @Query("""
         SELECT t FROM TaskEntity t
         WHERE (:status IS NULL OR t.status = :status)
-        AND (:dueDate IS NULL OR t.dueDate <= :dueDate)
+        AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom)
+        AND (:dueTo IS NULL OR t.dueDate <= :dueTo)
         AND (:projectId IS NULL OR t.projectId = :projectId)
         AND (t.ownerUserId = :userId OR :userId MEMBER OF t.responsibleUserIds)
     """)
-    Page<TaskEntity> findTasksFilteredByUser(@Param("status") Status status, @Param("dueDate") LocalDateTime dueDate, @Param("projectId") Long projectId, @Param("userId") Long userId, Pageable pageable);
+    Page<TaskEntity> findTasksFilteredByUser(@Param("status") Status status, @Param("dueFrom") LocalDateTime dueFrom, @Param("dueTo") LocalDateTime dueTo, @Param("projectId") Long projectId, @Param("userId") Long userId, Pageable pageable);
 
     /**
      * Finds a paginated list of tasks using multiple optional filters, without user-specific criteria.
      *
-     * This query allows filtering by task status, due date, and the project it belongs to.
+     * This query allows filtering by task status, due date range, and the project it belongs to.
      *
      * @param status The task status to filter by. Can be null to ignore.
-     * @param dueDate The latest due date. The query will find tasks due on or before this date. Can be null to ignore.
+     * @param dueFrom The earliest due date. The query will find tasks due on or after this date. Can be null to ignore.
+     * @param dueTo The latest due date. The query will find tasks due on or before this date. Can be null to ignore.
      * @param projectId The ID of the project to filter by. Can be null to ignore.
      * @param pageable Pagination and sorting information.
      * @return A Page of tasks matching the specified filters.
@@ -78,10 +81,11 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
     @Query("""
         SELECT t FROM TaskEntity t
         WHERE (:status IS NULL OR t.status = :status)
-        AND (:dueDate IS NULL OR t.dueDate <= :dueDate)
+        AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom)
+        AND (:dueTo IS NULL OR t.dueDate <= :dueTo)
         AND (:projectId IS NULL OR t.projectId = :projectId)
     """)
-    Page<TaskEntity> findTasksFiltered(@Param("status") Status status, @Param("dueDate") LocalDateTime dueDate, @Param("projectId") Long projectId, Pageable pageable);
+    Page<TaskEntity> findTasksFiltered(@Param("status") Status status, @Param("dueFrom") LocalDateTime dueFrom, @Param("dueTo") LocalDateTime dueTo, @Param("projectId") Long projectId, Pageable pageable);
     
     /**
      * Finds all tasks associated with a specific project ID.
@@ -92,4 +96,53 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
      * Returns an empty list if no tasks are found.
      */
     List<TaskEntity> findTasksByProjectId(Long projectId);
-}
\ No newline at end of file
+
+    /**
+     * Finds a paginated list of the overdue tasks: due before the given instant and not DONE.
+     * Served by the partial index of the open tasks by due date.
+     *
+     * @param now The current instant; tasks due strictly before it are overdue.
+     * @param projectId The ID of the project to filter by. Can be null to ignore.
+     * @param pageable Pagination and sorting information.
+     * @return A Page of the overdue tasks.
+     */
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.dueDate < :now
+        AND t.status <> com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status.DONE
+        AND (:projectId IS NULL OR t.projectId = :projectId)
+    """)
+    Page<TaskEntity> findOverdueTasks(@Param("now") LocalDateTime now, @Param("projectId") Long projectId, Pageable pageable);
+
+    /**
+     * Same as findOverdueTasks, restricted to the tasks the user owns or is responsible for.
+     *
+     * @param now The current instant; tasks due strictly before it are overdue.
+     * @param projectId The ID of the project to filter by. Can be null to ignore.
+     * @param userId The ID of the user to filter by (as owner or responsible).
+     * @param pageable Pagination and sorting information.
+     * @return A Page of the overdue tasks of the user.
+     */
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.dueDate < :now
+        AND t.status <> com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status.DONE
+        AND (:projectId IS NULL OR t.projectId = :projectId)
+        AND (t.ownerUserId = :userId OR :userId MEMBER OF t.responsibleUserIds)
+    """)
+    Page<TaskEntity> findOverdueTasksByUser(@Param("now") LocalDateTime now, @Param("projectId") Long projectId, @Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds the tasks that are not DONE and are due in a time window, with their responsible users fetched in the same query.
+     *
+     * @param from The start of the window, exclusive.
+     * @param to The end of the window, inclusive.
+     * @return The open tasks due after from and on or before to.
+     */
+    @Query("""
+        SELECT DISTINCT t FROM TaskEntity t LEFT JOIN FETCH t.responsibleUserIds
+        WHERE t.dueDate > :from AND t.dueDate <= :to
+        AND t.status <> com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status.DONE
+    """)
+    List<TaskEntity> findOpenTasksDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
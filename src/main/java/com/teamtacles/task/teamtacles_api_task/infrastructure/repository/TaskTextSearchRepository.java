@@ -0,0 +1,166 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+/**
+ * Repository for the full-text search over task titles and descriptions, ranked by relevance.
+ *
+ * On PostgreSQL the search uses the tasks.search_vector tsvector and its GIN index (title weighted above the
+ * description) and ranks with ts_rank; every term must match, as a prefix. On H2 (tests and local runs) it
+ * falls back to LIKE over the tasks.search_text column and ranks by the number of terms found in the title.
+ * Both are created by the V6 migration of db/vendor/{vendor}. The optional filters and the user scoping are
+ * the ones of TaskRepository.findTasksFiltered and findTasksFilteredByUser.
+ *
+ * The page of IDs and the total number of matches come from a single statement.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Repository
+public class TaskTextSearchRepository {
+
+    public static final int MAX_TERMS = 8;
+
+    private static final String FILTERS = """
+        AND (CAST(:status AS VARCHAR) IS NULL OR t.status = :status)
+        AND (CAST(:dueFrom AS TIMESTAMP) IS NULL OR t.due_date >= :dueFrom)
+        AND (CAST(:dueTo AS TIMESTAMP) IS NULL OR t.due_date <= :dueTo)
+        AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId)
+        AND (CAST(:userId AS BIGINT) IS NULL
+             OR t.owner_user_id = :userId
+             OR EXISTS (SELECT 1 FROM task_responsibles x WHERE x.task_id = t.id AND x.responsible_user_id = :userId))
+        """;
+
+    private static final String POSTGRES_MATCH = "t.search_vector @@ to_tsquery('simple', :query)";
+
+    private static final String POSTGRES_QUERY = """
+        SELECT t.id, COUNT(*) OVER () AS total
+        FROM tasks t
+        WHERE %s
+        %s
+        ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :query)) DESC, t.id
+        LIMIT :limit OFFSET :offset
+        """.formatted(POSTGRES_MATCH, FILTERS);
+
+    private static final String COUNT_QUERY = """
+        SELECT COUNT(*)
+        FROM tasks t
+        WHERE %s
+        %s
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    public TaskTextSearchRepository(NamedParameterJdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+    }
+
+    /**
+     * A page of matching task IDs, most relevant first, and the total number of matches.
+     */
+    public record Result(List<Long> ids, long total) {
+    }
+
+    /**
+     * Splits a search text into its terms: lower-cased runs of letters and digits, without repetitions.
+     *
+     * @param text The text typed by the user.
+     * @return At most MAX_TERMS terms; empty if the text has no letters or digits.
+     */
+    public static List<String> terms(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    /**
+     * Searches the tasks whose title or description contain all the terms.
+     *
+     * @param terms The terms, as returned by terms(String); must not be empty.
+     * @param status Optional status to filter by.
+     * @param dueFrom Optional due date; only tasks due on or after it match.
+     * @param dueTo Optional due date; only tasks due on or before it match.
+     * @param projectId Optional project to filter by.
+     * @param userId Restricts the search to tasks the user owns or is responsible for; null for all tasks.
+     * @param pageable The page; its sort is ignored, results are ordered by relevance and then by ID.
+     * @return The page of IDs, most relevant first, and the total.
+     */
+    public Result search(List<String> terms, Status status, LocalDateTime dueFrom, LocalDateTime dueTo, Long projectId, Long userId, Pageable pageable) {
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("The search text must contain at least one letter or digit.");
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+                .addValue("dueFrom", dueFrom, Types.TIMESTAMP)
+                .addValue("dueTo", dueTo, Types.TIMESTAMP)
+                .addValue("projectId", projectId, Types.BIGINT)
+                .addValue("userId", userId, Types.BIGINT)
+                .addValue("limit", pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE)
+                .addValue("offset", pageable.isPaged() ? pageable.getOffset() : 0L);
+
+        String query;
+        String match;
+        if (databaseVendor.isPostgres()) {
+            // termos só com letras e dígitos: não há operadores do tsquery a escapar
+            parameters.addValue("query", String.join(" & ", terms.stream().map(term -> term + ":*").toList()));
+            query = POSTGRES_QUERY;
+            match = POSTGRES_MATCH;
+        } else {
+            match = h2Match(terms, parameters);
+            query = h2Query(terms, match);
+        }
+
+        long[] total = new long[1];
+        List<Long> ids = new ArrayList<>();
+        jdbcTemplate.query(query, parameters, rs -> {
+            ids.add(rs.getLong("id"));
+            total[0] = rs.getLong("total");
+        });
+        if (ids.isEmpty() && pageable.isPaged() && pageable.getOffset() > 0) {
+            // página além do fim: sem linhas, o total vem de uma contagem
+            total[0] = jdbcTemplate.queryForObject(COUNT_QUERY.formatted(match, FILTERS), parameters, Long.class);
+        }
+        return new Result(ids, total[0]);
+    }
+
+    private static String h2Match(List<String> terms, MapSqlParameterSource parameters) {
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            parameters.addValue("term" + i, "%" + terms.get(i) + "%");
+            conditions.add("t.search_text LIKE :term" + i);
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private static String h2Query(List<String> terms, String match) {
+        List<String> titleHits = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            titleHits.add("CASE WHEN LOWER(t.title) LIKE :term" + i + " THEN 1 ELSE 0 END");
+        }
+        return """
+            SELECT t.id, COUNT(*) OVER () AS total
+            FROM tasks t
+            WHERE %s
+            %s
+            ORDER BY %s DESC, t.id
+            LIMIT :limit OFFSET :offset
+            """.formatted(match, FILTERS, String.join(" + ", titleHits));
+    }
+}
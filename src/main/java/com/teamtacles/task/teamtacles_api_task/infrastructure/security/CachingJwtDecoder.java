@@ -0,0 +1,104 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetrics;
+
+/**
+ * JwtDecoder that keeps successfully decoded tokens in a bounded cache, so a token reused across many requests
+ * has its RS256 signature verified only once.
+ *
+ * Entries are keyed by the SHA-256 hash of the raw token and expire at the token's 'exp' claim or after the
+ * configured maximum TTL, whichever comes first. The maximum TTL bounds how long a revoked token keeps being
+ * accepted. Tokens that fail verification are never cached.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl) {
+        this(delegate, maxSize, maxTtl, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl, Clock clock) {
+        this.delegate = delegate;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            RequestMetrics.recordCacheHit();
+            return cached;
+        }
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Expires each entry at min(exp, now + maxTtl); a token without 'exp' lives for maxTtl.
+     */
+    private final class TokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt value, long currentTime) {
+            Instant now = clock.instant();
+            Duration ttl = maxTtl;
+            Instant expiresAt = value.getExpiresAt();
+            if (expiresAt != null) {
+                Duration untilExpiry = Duration.between(now, expiresAt);
+                if (untilExpiry.compareTo(ttl) < 0) {
+                    ttl = untilExpiry.isNegative() ? Duration.ZERO : untilExpiry;
+                }
+            }
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
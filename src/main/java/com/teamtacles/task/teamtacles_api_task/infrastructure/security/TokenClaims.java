@@ -0,0 +1,40 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import java.util.List;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * The claims of a JWT the task endpoints work with: the user ID and the roles.
+ *
+ * @param userId The value of the 'userId' claim.
+ * @param roles The values of the 'scope' claim, or an empty list if absent.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record TokenClaims(Long userId, List<String> roles) {
+
+    /**
+     * Extracts the claims from a JWT.
+     * Handles user IDs serialized either as an Integer or a Long.
+     *
+     * @param jwt The JWT to extract the claims from.
+     * @return The extracted claims.
+     * @throws IllegalArgumentException if the 'userId' claim is missing or not a number.
+     */
+    public static TokenClaims from(Jwt jwt) {
+        Object userIdClaim = jwt.getClaim("userId");
+        Long userId;
+        if (userIdClaim instanceof Long) {
+            userId = (Long) userIdClaim;
+        } else if (userIdClaim instanceof Integer) {
+            userId = ((Integer) userIdClaim).longValue();
+        } else {
+            throw new IllegalArgumentException("User ID claim ('userId') is missing or not a number in JWT.");
+        }
+        List<String> roles = jwt.getClaimAsStringList("scope");
+        return new TokenClaims(userId, roles != null ? List.copyOf(roles) : List.of());
+    }
+}
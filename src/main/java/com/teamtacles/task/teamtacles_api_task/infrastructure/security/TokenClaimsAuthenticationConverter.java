@@ -0,0 +1,38 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import java.util.Collection;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Converts a decoded Jwt to a TokenClaimsAuthenticationToken, so the user ID and roles of a request are read
+ * from the token once, when it is authenticated, and not on every use.
+ *
+ * A token without a valid 'userId' claim is still authenticated; the endpoints then reject it as before.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TokenClaimsAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+
+    public TokenClaimsAuthenticationConverter(Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter) {
+        this.authoritiesConverter = authoritiesConverter;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        TokenClaims claims;
+        try {
+            claims = TokenClaims.from(jwt);
+        } catch (IllegalArgumentException ex) {
+            claims = null;
+        }
+        return new TokenClaimsAuthenticationToken(jwt, authoritiesConverter.convert(jwt), claims);
+    }
+}
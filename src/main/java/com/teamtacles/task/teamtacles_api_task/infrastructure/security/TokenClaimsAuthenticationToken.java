@@ -0,0 +1,44 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * JwtAuthenticationToken carrying the TokenClaims of its token, extracted once when the request is authenticated.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TokenClaimsAuthenticationToken extends JwtAuthenticationToken {
+
+    private final transient TokenClaims tokenClaims;
+
+    /**
+     * @param jwt The authenticated token.
+     * @param authorities The authorities granted by the token.
+     * @param tokenClaims The claims of the token, or null if they could not be extracted.
+     */
+    public TokenClaimsAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, TokenClaims tokenClaims) {
+        super(jwt, authorities);
+        this.tokenClaims = tokenClaims;
+    }
+
+    /**
+     * Returns the claims of an authenticated request: the ones extracted at authentication, or, for tokens
+     * authenticated some other way (e.g. in tests), the ones of its Jwt.
+     *
+     * @param authentication The authentication of the request.
+     * @return The user ID and roles carried by the token.
+     * @throws IllegalArgumentException if the 'userId' claim is missing or not a number.
+     */
+    public static TokenClaims claimsOf(JwtAuthenticationToken authentication) {
+        if (authentication instanceof TokenClaimsAuthenticationToken token && token.tokenClaims != null) {
+            return token.tokenClaims;
+        }
+        return TokenClaims.from(authentication.getToken());
+    }
+}
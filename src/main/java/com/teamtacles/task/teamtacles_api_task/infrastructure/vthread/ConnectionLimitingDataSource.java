@@ -0,0 +1,116 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.vthread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.deadline.RequestDeadline;
+
+/**
+ * DataSource that bounds how many connections are handed out at once and how many threads may queue for one.
+ *
+ * With virtual threads every request gets its own thread, so thousands of requests can reach the pool at the
+ * same time. The limiter lets at most maxConcurrent of them hold a connection, queues at most maxWaiting more
+ * (each for at most the acquire timeout or the remaining request deadline) and rejects the rest right away,
+ * instead of letting them all pile up inside the Hikari pool.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConcurrent, int maxWaiting, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return The number of threads currently waiting for a connection.
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw new SQLTransientConnectionException("Too many requests waiting for a database connection.");
+        }
+        try {
+            if (!permits.tryAcquire(timeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Timed out waiting for a database connection.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection.", ex);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private long timeoutMillis() {
+        long timeout = acquireTimeout.toMillis();
+        RequestDeadline deadline = RequestDeadline.current();
+        return deadline != null ? Math.max(0, Math.min(timeout, deadline.remainingMillis())) : timeout;
+    }
+
+    // Returns the permit exactly once, when the connection goes back to the pool.
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.vthread;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.teamtacles.task.teamtacles_api_task.config.VirtualThreadProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, e.g. because they block inside a
+ * synchronized block or a native frame in the HTTP client or JDBC driver.
+ *
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process; every pinning longer than the configured
+ * threshold increments the task.virtual-threads.pinned counter and is logged with its top stack frames.
+ * Only active when requests run on virtual threads (spring.threads.virtual.enabled=true).
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int REPORTED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.threshold = properties.getPinnedThreshold();
+        this.pinnedCounter = Counter.builder("task.virtual-threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::report);
+        stream.startAsync();
+        logger.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (logger.isWarnEnabled()) {
+            logger.warn("Virtual thread pinned for {} ms at:\n{}", event.getDuration().toMillis(), topFrames(event));
+        }
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t<no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(REPORTED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,18 @@
+-- Task counts per project and status (user_id = 0) and per responsible user and status.
+-- Maintained incrementally by the application in the same transaction as the task writes.
+CREATE TABLE project_task_counters (
+    project_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, user_id, status)
+);
+
+INSERT INTO project_task_counters (project_id, user_id, status, task_count)
+SELECT project_id, 0, status, COUNT(*) FROM tasks GROUP BY project_id, status;
+
+INSERT INTO project_task_counters (project_id, user_id, status, task_count)
+SELECT t.project_id, r.responsible_user_id, t.status, COUNT(DISTINCT t.id)
+FROM tasks t JOIN task_responsibles r ON r.task_id = t.id
+WHERE r.responsible_user_id IS NOT NULL
+GROUP BY t.project_id, r.responsible_user_id, t.status;
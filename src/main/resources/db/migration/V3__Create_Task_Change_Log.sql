@@ -0,0 +1,25 @@
+-- Change feed: the latest change of every task, numbered with a per-project monotonic sequence.
+-- One row per task (updated in place), so the feed grows with the number of tasks and not with the writes;
+-- deleted tasks keep their row as a tombstone.
+CREATE TABLE project_change_sequences (
+    project_id BIGINT PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+
+CREATE TABLE task_change_log (
+    project_id BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (project_id, task_id)
+);
+
+CREATE UNIQUE INDEX idx_task_change_log_project_seq ON task_change_log (project_id, change_seq);
+
+INSERT INTO task_change_log (project_id, task_id, change_seq, change_type, changed_at)
+SELECT project_id, id, ROW_NUMBER() OVER (PARTITION BY project_id ORDER BY id), 'CREATED', CURRENT_TIMESTAMP
+FROM tasks;
+
+INSERT INTO project_change_sequences (project_id, last_seq)
+SELECT project_id, COUNT(*) FROM tasks GROUP BY project_id;
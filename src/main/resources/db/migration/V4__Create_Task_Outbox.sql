@@ -0,0 +1,13 @@
+-- Transactional outbox: one row per task change, written in the transaction of the change and
+-- relayed to the configured sink in id order. Published rows are pruned after a retention period.
+CREATE TABLE task_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+CREATE INDEX idx_task_outbox_published_id ON task_outbox (published_at, id);
@@ -0,0 +1,2 @@
+-- Version of each task, incremented on every update: optimistic locking and the key of the JSON fragment cache.
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,28 @@
+-- Cold storage of DONE tasks, filled by TaskArchiver: the same columns as tasks (without the generated search
+-- columns), plus the moment each task was archived. Archived tasks are read-only and keep their IDs.
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(60) NOT NULL,
+    description VARCHAR(250),
+    due_date TIMESTAMP NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    owner_user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tasks_archive_project ON tasks_archive (project_id, id);
+
+CREATE TABLE task_responsibles_archive (
+    task_id BIGINT NOT NULL,
+    responsible_user_id BIGINT,
+    FOREIGN KEY (task_id) REFERENCES tasks_archive(id)
+);
+
+CREATE INDEX idx_task_responsibles_archive_task ON task_responsibles_archive (task_id);
+
+CREATE INDEX idx_task_responsibles_archive_user ON task_responsibles_archive (responsible_user_id, task_id);
+
+-- The archiver walks the DONE tasks of the hot table in ID order.
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
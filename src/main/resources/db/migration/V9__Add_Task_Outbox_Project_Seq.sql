@@ -0,0 +1,12 @@
+-- Commit-ordered key of the outbox: a number from the project's project_change_sequences row, reserved while the
+-- row is locked by the writing transaction, so within a project a higher number is never visible before a lower
+-- one (unlike id). Events still pending keep their id order, ahead of the new ones.
+ALTER TABLE task_outbox ADD COLUMN project_seq BIGINT;
+
+UPDATE task_outbox SET project_seq = id - (SELECT MAX(id) FROM task_outbox) - 1;
+
+ALTER TABLE task_outbox ALTER COLUMN project_seq SET NOT NULL;
+
+DROP INDEX idx_task_outbox_published_id;
+
+CREATE INDEX idx_task_outbox_pending ON task_outbox (published_at, project_id, project_seq);
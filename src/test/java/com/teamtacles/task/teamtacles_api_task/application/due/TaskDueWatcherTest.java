@@ -0,0 +1,146 @@
+package com.teamtacles.task.teamtacles_api_task.application.due;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskDueEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.TaskDueProperties;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskDueWatcherTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private final MutableClock clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+    private final List<Object> published = new ArrayList<>();
+    private TaskRepository taskRepository;
+    private TaskDueWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        TaskDueProperties properties = new TaskDueProperties();
+        properties.setEnabled(true);
+        taskRepository = mock(TaskRepository.class);
+        watcher = new TaskDueWatcher(properties, taskRepository, mock(PlatformTransactionManager.class),
+                published::add, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    @DisplayName("Should load the tasks due within the horizon and announce them due soon and then overdue")
+    void shouldAnnounceLoadedTasks() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any()))
+                .thenReturn(List.of(entity(1L, START.plusMinutes(100)), entity(2L, START.plusMinutes(30))));
+
+        watcher.tick();
+        moveTo(START.plusMinutes(30));
+        watcher.tick();
+
+        // a tarefa 2 já estava dentro do aviso na carga: só o atraso é anunciado
+        assertEquals(List.of("OVERDUE 2"), events());
+        moveTo(START.plusMinutes(100));
+        watcher.tick();
+
+        assertEquals(List.of("OVERDUE 2", "DUE_SOON 1", "OVERDUE 1"), events());
+        assertEquals(0, watcher.trackedCount());
+        verify(taskRepository).findOpenTasksDueBetween(START, START.plusHours(24));
+    }
+
+    @Test
+    @DisplayName("Should follow committed changes: reschedule moved tasks, forget completed ones and track new ones")
+    void shouldFollowChanges() {
+        TaskSnapshot moved = snapshot(1L, START.plusHours(3), Status.TODO, 1L);
+        TaskSnapshot completed = snapshot(2L, START.plusHours(2), Status.TODO, 1L);
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of());
+        watcher.tick();
+        watcher.onTaskChanged(new TaskChangedEvent(List.of(TaskChange.created(moved), TaskChange.created(completed))));
+
+        watcher.onTaskChanged(new TaskChangedEvent(List.of(
+                TaskChange.updated(moved, snapshot(1L, START.plusMinutes(10), Status.INPROGRESS, 2L)),
+                TaskChange.statusChanged(completed, snapshot(2L, START.plusHours(2), Status.DONE, 2L)))));
+        moveTo(START.plusSeconds(1));
+        watcher.tick();
+        moveTo(START.plusHours(4));
+        watcher.tick();
+
+        assertEquals(List.of("DUE_SOON 1", "OVERDUE 1"), events());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes older than the tracked version")
+    void shouldIgnoreOlderChanges() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of());
+        watcher.tick();
+
+        watcher.onTaskChanged(TaskChangedEvent.of(TaskChange.created(snapshot(1L, START.plusHours(2), Status.DONE, 3L))));
+        watcher.onTaskChanged(TaskChangedEvent.of(TaskChange.created(snapshot(1L, START.plusHours(2), Status.TODO, 5L))));
+        watcher.onTaskChanged(TaskChangedEvent.of(TaskChange.created(snapshot(1L, START.plusHours(2), Status.DONE, 4L))));
+
+        assertEquals(1, watcher.trackedCount());
+    }
+
+    private void moveTo(LocalDateTime dateTime) {
+        clock.instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    private List<String> events() {
+        return published.stream()
+                .map(event -> (TaskDueEvent) event)
+                .map(event -> event.type() + " " + event.task().id())
+                .toList();
+    }
+
+    private static TaskEntity entity(Long id, LocalDateTime dueDate) {
+        return new TaskEntity(id, "Task " + id, null, dueDate, Status.TODO, 1L, List.of(2L), 10L);
+    }
+
+    private static TaskSnapshot snapshot(Long id, LocalDateTime dueDate, Status status, Long version) {
+        return new TaskSnapshot(id, 10L, "Task " + id, null, dueDate, status, 1L, List.of(2L), version);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.teamtacles.task.teamtacles_api_task.application.due;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    @DisplayName("Should hand over each item at its deadline tick, in tick order")
+    void shouldExpireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000L);
+        wheel.schedule("c", 1_003L);
+        wheel.schedule("a", 1_001L);
+        wheel.schedule("b", 1_002L);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(1_002L, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(1_010L, expired::add);
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should cascade far deadlines down the levels and re-place the ones beyond the top level")
+    void shouldCascadeAcrossLevels() {
+        long start = 123_456L;
+        long[] deadlines = {start + 63, start + 64, start + 4_095, start + 4_097, start + 300_000, start + 20_000_000};
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        for (int i = deadlines.length - 1; i >= 0; i--) {
+            wheel.schedule(deadlines[i], deadlines[i]);
+        }
+        List<Long> expiredAt = new ArrayList<>();
+
+        // avança em passos irregulares, registrando o tick em que cada item sai
+        for (long tick = start; tick < start + 20_000_001; tick += 997) {
+            long to = Math.min(tick + 997, start + 20_000_001);
+            TimingWheel<Long> current = wheel;
+            current.advance(to, deadline -> {
+                assertEquals(deadline.longValue(), current.currentTick());
+                expiredAt.add(deadline);
+            });
+        }
+
+        assertEquals(List.of(deadlines[0], deadlines[1], deadlines[2], deadlines[3], deadlines[4], deadlines[5]), expiredAt);
+    }
+
+    @Test
+    @DisplayName("Should refuse deadlines that are not in the future")
+    void shouldRefusePastDeadlines() {
+        TimingWheel<String> wheel = new TimingWheel<>(50L);
+
+        assertFalse(wheel.schedule("now", 50L));
+        assertFalse(wheel.schedule("past", 10L));
+        assertEquals(0, wheel.size());
+    }
+}
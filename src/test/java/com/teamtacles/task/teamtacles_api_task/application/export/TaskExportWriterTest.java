@@ -0,0 +1,63 @@
+package com.teamtacles.task.teamtacles_api_task.application.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+public class TaskExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should write a header and quote CSV fields containing separators or quotes")
+    void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = new TaskExportWriter(ExportFormat.CSV, objectMapper.writerFor(TaskResponseDTO.class), output)) {
+            writer.write(task("Fix \"login\", again"));
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TaskExportWriter.CSV_HEADER, lines[0]);
+        assertEquals("7,\"Fix \"\"login\"\", again\",,2026-01-02T10:00,TODO,1,ana,1;2,ana;bruno", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = new TaskExportWriter(ExportFormat.NDJSON, objectMapper.writerFor(TaskResponseDTO.class), output)) {
+            writer.write(task("First"));
+            writer.write(task("Second"));
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("title").asText());
+    }
+
+    private static TaskResponseDTO task(String title) {
+        UserResponseDTO ana = user(1L, "ana");
+        UserResponseDTO bruno = user(2L, "bruno");
+        return new TaskResponseDTO(7L, title, null, LocalDateTime.of(2026, 1, 2, 10, 0), Status.TODO, ana, List.of(ana, bruno));
+    }
+
+    private static UserResponseDTO user(Long id, String userName) {
+        UserResponseDTO user = new UserResponseDTO();
+        user.setUserId(id);
+        user.setUserName(userName);
+        user.setEmail(userName + "@teamtacles.com");
+        return user;
+    }
+}
@@ -0,0 +1,72 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+public class TaskImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read CSV records with quoted multi-line fields and report bad rows without stopping")
+    void shouldReadCsv() throws Exception {
+        String csv = "id,title,description,dueDate,status,ownerId,ownerUserName,responsibleIds,responsibleUserNames\n"
+                + "7,\"Fix \"\"login\"\"\",\"line one\nline two\",2026-01-02T10:00,DONE,1,ana,1;2,ana;bruno\n"
+                + "8,Broken,,not-a-date,TODO,1,ana,1,ana\n"
+                + "9,Next,,02/01/2026 10:00,,1,ana,,\n";
+
+        try (TaskImportReader reader = new TaskImportReader(ExportFormat.CSV, new StringReader(csv), objectMapper)) {
+            TaskImportReader.Result first = reader.next();
+            assertNull(first.error());
+            assertEquals("Fix \"login\"", first.row().title());
+            assertEquals("line one\nline two", first.row().description());
+            assertEquals(LocalDateTime.of(2026, 1, 2, 10, 0), first.row().dueDate());
+            assertEquals(Status.DONE, first.row().status());
+            assertEquals(List.of(1L, 2L), first.row().responsibleIds());
+
+            TaskImportReader.Result second = reader.next();
+            assertNotNull(second.error());
+            assertEquals(4, second.line());
+
+            TaskImportReader.Result third = reader.next();
+            assertNull(third.error());
+            assertEquals(Status.TODO, third.row().status());
+            assertEquals(List.of(), third.row().responsibleIds());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON records with responsible users given as IDs or objects")
+    void shouldReadNdjson() throws Exception {
+        String ndjson = "{\"title\":\"A\",\"dueDate\":\"2026-01-02T10:00:00\",\"usersResponsability\":[3,{\"userId\":4}]}\n"
+                + "\n"
+                + "{not json\n";
+
+        try (TaskImportReader reader = new TaskImportReader(ExportFormat.NDJSON, new StringReader(ndjson), objectMapper)) {
+            TaskImportReader.Result first = reader.next();
+            assertNull(first.error());
+            assertEquals("A", first.row().title());
+            assertEquals(List.of(3L, 4L), first.row().responsibleIds());
+
+            TaskImportReader.Result second = reader.next();
+            assertNotNull(second.error());
+            assertEquals(3, second.line());
+
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.teamtacles.task.teamtacles_api_task.application.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskImportStatusDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.export.ExportFormat;
+import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskImportRepository;
+
+public class TaskImportServiceTest {
+
+    private TaskImportRepository taskImportRepository;
+    private UserServiceClient userServiceClient;
+    private TaskImportService service;
+
+    @BeforeEach
+    void setUp() {
+        taskImportRepository = mock(TaskImportRepository.class);
+        userServiceClient = mock(UserServiceClient.class);
+        service = new TaskImportService(taskImportRepository, userServiceClient, mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class), null, new ObjectMapper(), 2, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should fail only the rows of users that cannot be checked, and check them again in the next chunk")
+    void shouldReportUserLookupFailuresAsRowErrors() throws Exception {
+        // o token expira no meio da importação: a primeira consulta do usuário 4 falha, a seguinte funciona
+        when(userServiceClient.getUserById(eq(4L), anyString()))
+                .thenThrow(new RuntimeException("A network communication error occurred."))
+                .thenReturn(new UserResponseDTO());
+        doThrow(new ResourceNotFoundException("User with ID 5 not found in the monolith."))
+                .when(userServiceClient).getUserById(eq(5L), anyString());
+        Path file = Files.createTempFile("task-import-test-", ".ndjson");
+        Files.writeString(file, String.join("\n",
+                row("A", 3), row("B", 4),
+                row("C", 4), row("D", 5),
+                row("E", 3)));
+        TaskImportJob job = new TaskImportJob("job", 100L, 2L, 100);
+
+        service.run(job, file, ExportFormat.NDJSON, 2L, 1L, "token");
+
+        TaskImportStatusDTO status = job.toStatus();
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(5, status.getRowsRead());
+        assertEquals(3, status.getImported());
+        assertEquals(2, status.getFailed());
+        assertTrue(status.getErrors().get(0).startsWith("Line 2: User with ID 4 could not be checked"));
+        assertEquals("Line 4: User with ID 5 not found", status.getErrors().get(1));
+        verify(userServiceClient, times(2)).getUserById(eq(4L), anyString());
+        verify(userServiceClient, times(1)).getUserById(eq(3L), anyString());
+        verify(taskImportRepository, times(3)).insertAll(anyList());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    @DisplayName("Should store each responsible once, in ID order, with the owner and the project creator")
+    @SuppressWarnings("unchecked")
+    void shouldStoreResponsiblesAsSortedSet() throws Exception {
+        Path file = Files.createTempFile("task-import-test-", ".ndjson");
+        Files.writeString(file, String.join("\n",
+                "{\"title\":\"A\",\"dueDate\":\"2026-01-02T10:00:00\",\"usersResponsability\":[7,3,7,2]}",
+                "{\"title\":\"B\",\"dueDate\":\"2026-01-02T10:00:00\",\"usersResponsability\":[0]}"));
+        TaskImportJob job = new TaskImportJob("job", 100L, 2L, 100);
+
+        service.run(job, file, ExportFormat.NDJSON, 2L, 1L, "token");
+
+        ArgumentCaptor<List<TaskEntity>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(taskImportRepository).insertAll(tasks.capture());
+        assertEquals(List.of(1L, 2L, 3L, 7L), tasks.getValue().get(0).getResponsibleUserIds());
+        verify(userServiceClient, times(1)).getUserById(eq(7L), anyString());
+        assertEquals("Line 2: Invalid responsible user ID: 0", job.toStatus().getErrors().get(0));
+    }
+
+    private static String row(String title, long responsibleId) {
+        return "{\"title\":\"" + title + "\",\"dueDate\":\"2026-01-02T10:00:00\",\"usersResponsability\":[" + responsibleId + "]}";
+    }
+}
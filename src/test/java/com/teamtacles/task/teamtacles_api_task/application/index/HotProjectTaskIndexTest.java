@@ -0,0 +1,140 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.config.HotProjectIndexProperties;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskExportRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class HotProjectTaskIndexTest {
+
+    private static final Long PROJECT_ID = 10L;
+
+    private HotProjectIndexProperties properties;
+    private TaskExportRepository exportRepository;
+    private HotProjectTaskIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HotProjectIndexProperties();
+        properties.setEnabled(true);
+        properties.setMinSearches(1);
+        exportRepository = mock(TaskExportRepository.class);
+        index = new HotProjectTaskIndex(properties, exportRepository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    @DisplayName("Should index a searched project on refresh and then answer its searches from memory")
+    void shouldIndexSearchedProject() {
+        loads(task(1L), task(2L));
+
+        Optional<Page<TaskEntity>> beforeRefresh = search();
+        index.refresh();
+        Optional<Page<TaskEntity>> afterRefresh = search();
+
+        assertTrue(beforeRefresh.isEmpty());
+        assertEquals(List.of(1L, 2L), ids(afterRefresh.orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Should never answer from columns older than a committed change")
+    void shouldFollowCommittedChanges() throws InterruptedException {
+        loads(task(1L), task(2L));
+        search();
+        index.refresh();
+
+        index.onTaskChanged(TaskChangedEvent.of(TaskChange.created(TaskSnapshot.of(task(3L)))));
+
+        // as colunas são reconstruídas em segundo plano; até lá a busca vai ao banco
+        Optional<Page<TaskEntity>> result = search();
+        for (int attempt = 0; result.isEmpty() && attempt < 500; attempt++) {
+            Thread.sleep(10);
+            result = search();
+        }
+        assertEquals(List.of(1L, 2L, 3L), ids(result.orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Should apply the changes committed while a project is being loaded")
+    void shouldApplyChangesDuringLoad() {
+        doAnswer(invocation -> {
+            Consumer<TaskEntity> consumer = invocation.getArgument(2);
+            consumer.accept(task(1L));
+            consumer.accept(task(2L));
+            index.onTaskChanged(TaskChangedEvent.of(TaskChange.deleted(TaskSnapshot.of(task(2L)))));
+            return null;
+        }).when(exportRepository).streamProjectTasks(eq(PROJECT_ID), isNull(), any());
+        search();
+
+        index.refresh();
+
+        assertEquals(List.of(1L), ids(search().orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Should leave out projects that do not fit in the memory cap")
+    void shouldRespectMemoryCap() {
+        properties.setMaxMemory(DataSize.ofBytes(100));
+        loads(task(1L), task(2L));
+        search();
+
+        index.refresh();
+
+        assertTrue(search().isEmpty());
+    }
+
+    private Optional<Page<TaskEntity>> search() {
+        return index.find(PROJECT_ID, null, null, null, null, Pageable.unpaged());
+    }
+
+    private void loads(TaskEntity... tasks) {
+        doAnswer(invocation -> {
+            Consumer<TaskEntity> consumer = invocation.getArgument(2);
+            for (TaskEntity task : tasks) {
+                consumer.accept(task);
+            }
+            return null;
+        }).when(exportRepository).streamProjectTasks(eq(PROJECT_ID), isNull(), any());
+    }
+
+    private static TaskEntity task(Long id) {
+        return new TaskEntity(id, "Task " + id, null, LocalDateTime.of(2026, 10, 19, 12, 0), Status.TODO, 1L,
+                new ArrayList<>(List.of(1L)), PROJECT_ID);
+    }
+
+    private static List<Long> ids(Page<TaskEntity> page) {
+        return page.getContent().stream().map(TaskEntity::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+
+public class ProjectTaskColumnsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final ProjectTaskColumns columns = ProjectTaskColumns.build(List.of(
+            task(4L, Status.DONE, BASE.plusDays(1), 1L, List.of(2L)),
+            task(1L, Status.TODO, BASE.plusDays(3), 1L, List.of(1L)),
+            task(3L, Status.INPROGRESS, BASE.plusDays(2), 2L, List.of(2L, 3L)),
+            task(2L, Status.TODO, BASE, 3L, List.of(3L))));
+
+    @Test
+    @DisplayName("Should filter by status and due date like the repository queries")
+    void shouldFilterByStatusAndDueDate() {
+        assertEquals(List.of(1L, 2L), ids(columns.query(Status.TODO, null, null, null, Pageable.unpaged())));
+        assertEquals(List.of(2L, 3L, 4L), ids(columns.query(null, null, BASE.plusDays(2), null, Pageable.unpaged())));
+        assertEquals(List.of(2L), ids(columns.query(Status.TODO, null, BASE.plusDays(2), null, Pageable.unpaged())));
+    }
+
+    @Test
+    @DisplayName("Should match a user as owner or as responsible")
+    void shouldMatchOwnerOrResponsible() {
+        assertEquals(List.of(3L, 4L), ids(columns.query(null, null, null, 2L, Pageable.unpaged())));
+        assertEquals(List.of(2L, 3L), ids(columns.query(null, null, null, 3L, Pageable.unpaged())));
+        assertEquals(List.of(), ids(columns.query(null, null, null, 99L, Pageable.unpaged())));
+    }
+
+    @Test
+    @DisplayName("Should sort by the precomputed orders and page over the matches")
+    void shouldSortAndPage() {
+        Page<TaskEntity> byDueDate = columns.query(null, null, null, null, PageRequest.of(1, 2, Sort.by("dueDate")));
+        assertEquals(List.of(3L, 1L), ids(byDueDate));
+        assertEquals(4, byDueDate.getTotalElements());
+
+        assertEquals(List.of(1L, 3L, 4L, 2L), ids(columns.query(null, null, null, null, PageRequest.of(0, 10, Sort.by("dueDate").descending()))));
+        // como no banco, o status é ordenado pelo nome: DONE, INPROGRESS, TODO
+        assertEquals(List.of(4L, 3L, 1L, 2L), ids(columns.query(null, null, null, null, PageRequest.of(0, 10, Sort.by("status")))));
+    }
+
+    @Test
+    @DisplayName("Should not answer sorts it has no order for")
+    void shouldRejectUnsupportedSorts() {
+        assertNull(columns.query(null, null, null, null, PageRequest.of(0, 10, Sort.by("title"))));
+        assertNull(columns.query(null, null, null, null, PageRequest.of(0, 10, Sort.by("status", "dueDate"))));
+    }
+
+    private static TaskSnapshot task(Long id, Status status, LocalDateTime dueDate, Long ownerId, List<Long> responsibles) {
+        return new TaskSnapshot(id, 1L, "Task " + id, null, dueDate, status, ownerId, responsibles);
+    }
+
+    private static List<Long> ids(Page<TaskEntity> page) {
+        return page.getContent().stream().map(TaskEntity::getId).toList();
+    }
+}
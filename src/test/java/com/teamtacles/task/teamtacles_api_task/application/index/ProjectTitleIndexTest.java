@@ -0,0 +1,67 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+public class ProjectTitleIndexTest {
+
+    private final ProjectTitleIndex index = ProjectTitleIndex.build(List.of(
+            task(1L, "Quarterly report", 1L, 5L),
+            task(2L, "Fix the Reporting job", 2L, 5L),
+            task(3L, "Relatório de Março", 3L, 6L),
+            task(4L, "quarterly review", 4L, 6L)));
+
+    @Test
+    @DisplayName("Should suggest whole-title matches before word matches, ignoring case, accents and punctuation")
+    void shouldRankTitleMatchesFirst() {
+        assertEquals(List.of(1L, 4L), ids(index.suggest("quarterly", 10, null)));
+        assertEquals(List.of(3L, 1L, 2L, 4L), ids(index.suggest(ProjectTitleIndex.normalize("RE"), 10, null)));
+        assertEquals(List.of(3L), ids(index.suggest(ProjectTitleIndex.normalize("relatorio de mar"), 10, null)));
+        assertEquals(List.of(2L), ids(index.suggest(ProjectTitleIndex.normalize("reporting-job"), 10, null)));
+        assertEquals(List.of(), ids(index.suggest("zzz", 10, null)));
+    }
+
+    @Test
+    @DisplayName("Should stop at the limit and only suggest tasks the user owns or is responsible for")
+    void shouldLimitAndScope() {
+        assertEquals(List.of(3L), ids(index.suggest("re", 1, null)));
+        assertEquals(List.of(3L, 4L), ids(index.suggest("r", 10, 6L)));
+        assertEquals(List.of(2L), ids(index.suggest("r", 10, 2L)));
+    }
+
+    @Test
+    @DisplayName("Should apply renames and removals, ignoring older versions")
+    void shouldApplyChanges() {
+        ProjectTitleIndex renamed = index.with(new TaskSnapshot(1L, 1L, "Annual report", null, LocalDateTime.now(),
+                Status.TODO, 1L, List.of(5L), 2L));
+
+        assertEquals(List.of(4L), ids(renamed.suggest("quarterly", 10, null)));
+        assertEquals(List.of(1L), ids(renamed.suggest("annual", 10, null)));
+        assertEquals(List.of(1L), ids(index.suggest("quarterly rep", 10, null)));
+
+        ProjectTitleIndex stale = renamed.with(new TaskSnapshot(1L, 1L, "Quarterly report", null, LocalDateTime.now(),
+                Status.TODO, 1L, List.of(5L), 1L));
+        assertSame(renamed, stale);
+
+        ProjectTitleIndex removed = renamed.without(1L);
+        assertEquals(List.of(), ids(removed.suggest("annual", 10, null)));
+        assertEquals(3, removed.size());
+    }
+
+    private static TaskSnapshot task(Long id, String title, Long ownerId, Long responsibleId) {
+        return new TaskSnapshot(id, 1L, title, null, LocalDateTime.now(), Status.TODO, ownerId, List.of(responsibleId));
+    }
+
+    private static List<Long> ids(List<ProjectTitleIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(ProjectTitleIndex.Suggestion::id).toList();
+    }
+}
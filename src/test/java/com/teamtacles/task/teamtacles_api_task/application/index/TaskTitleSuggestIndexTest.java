@@ -0,0 +1,89 @@
+package com.teamtacles.task.teamtacles_api_task.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskSuggestionDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskExportRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskTitleSuggestIndexTest {
+
+    private TaskExportRepository taskExportRepository;
+    private TaskTitleSuggestIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        taskExportRepository = mock(TaskExportRepository.class);
+        doAnswer(invocation -> {
+            Consumer<TaskEntity> consumer = invocation.getArgument(2);
+            consumer.accept(entity(1L, 1L, "Quarterly report"));
+            consumer.accept(entity(2L, 1L, "Release notes"));
+            consumer.accept(entity(3L, 1L, "Review budget"));
+            return null;
+        }).when(taskExportRepository).streamProjectTasks(eq(1L), isNull(), any(Consumer.class));
+        index = new TaskTitleSuggestIndex(taskExportRepository, mock(PlatformTransactionManager.class),
+                DataSize.ofMegabytes(1), Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should apply every change of a multi-change event to the loaded project")
+    @SuppressWarnings("unchecked")
+    void shouldApplyMultiChangeEvent() {
+        assertEquals(List.of(2L, 3L, 1L), ids(index.suggest(1L, "re", 10, null)));
+
+        List<TaskChange> changes = new ArrayList<>();
+        for (long id = 10; id < 15; id++) {
+            changes.add(TaskChange.created(snapshot(id, 1L, "Retro " + id, 0L)));
+        }
+        changes.add(TaskChange.updated(snapshot(1L, 1L, "Quarterly report", 0L), snapshot(1L, 1L, "Annual report", 1L)));
+        changes.add(TaskChange.deleted(snapshot(2L, 1L, "Release notes", 0L)));
+        changes.add(TaskChange.updated(snapshot(3L, 1L, "Review budget", 0L), snapshot(3L, 2L, "Review budget", 1L)));
+        // a mesma tarefa duas vezes no evento: vale o último estado
+        changes.add(TaskChange.updated(snapshot(10L, 1L, "Retro 10", 0L), snapshot(10L, 1L, "Planning", 1L)));
+        index.onTaskChanged(new TaskChangedEvent(changes));
+
+        assertEquals(List.of(11L, 12L, 13L, 14L, 1L), ids(index.suggest(1L, "re", 10, null)));
+        assertEquals(List.of(1L), ids(index.suggest(1L, "rep", 10, null)));
+        assertEquals(List.of(10L), ids(index.suggest(1L, "plan", 10, null)));
+        assertEquals(List.of(), ids(index.suggest(1L, "quarterly", 10, null)));
+        verify(taskExportRepository, times(1)).streamProjectTasks(eq(1L), isNull(), any(Consumer.class));
+    }
+
+    private static TaskEntity entity(Long id, Long projectId, String title) {
+        return new TaskEntity(id, title, null, LocalDateTime.now(), Status.TODO, 1L, new ArrayList<>(List.of(1L)), projectId);
+    }
+
+    private static TaskSnapshot snapshot(Long id, Long projectId, String title, Long version) {
+        return new TaskSnapshot(id, projectId, title, null, LocalDateTime.now(), Status.TODO, 1L, List.of(1L), version);
+    }
+
+    private static List<Long> ids(List<TaskSuggestionDTO> suggestions) {
+        return suggestions.stream().map(TaskSuggestionDTO::getId).toList();
+    }
+}
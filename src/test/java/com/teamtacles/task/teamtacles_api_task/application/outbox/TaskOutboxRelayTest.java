@@ -0,0 +1,96 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskOutboxRepository;
+
+public class TaskOutboxRelayTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private TaskOutboxRepository outboxRepository;
+    private TaskEventSink sink;
+    private TaskOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(TaskOutboxRepository.class);
+        sink = mock(TaskEventSink.class);
+        relay = new TaskOutboxRelay(outboxRepository, sink, mock(PlatformTransactionManager.class), 2, 10, Duration.ofHours(1), clock);
+    }
+
+    @Test
+    @DisplayName("Should publish full batches until the outbox is drained and mark them as published")
+    void shouldDrainInBatches() throws Exception {
+        List<OutboxMessage> first = List.of(message(1), message(2));
+        List<OutboxMessage> second = List.of(message(3));
+        when(outboxRepository.lockPending(2)).thenReturn(first, second);
+
+        int published = relay.relay();
+
+        assertEquals(3, published);
+        verify(sink).publish(first);
+        verify(sink).publish(second);
+        verify(outboxRepository).markPublished(List.of(1L, 2L), now);
+        verify(outboxRepository).markPublished(List.of(3L), now);
+    }
+
+    @Test
+    @DisplayName("Should leave the batch pending when the sink fails, so it is delivered again")
+    void shouldKeepBatchWhenSinkFails() throws Exception {
+        List<OutboxMessage> batch = List.of(message(1), message(2));
+        when(outboxRepository.lockPending(2)).thenReturn(batch);
+        doThrow(new IOException("disk full")).when(sink).publish(batch);
+
+        int published = relay.relay();
+
+        assertEquals(0, published);
+        verify(outboxRepository, never()).markPublished(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should prune the events published before the retention period")
+    void shouldPruneOldEvents() {
+        relay.prune();
+
+        verify(outboxRepository).deletePublishedBefore(now.minusHours(1));
+    }
+
+    @Test
+    @DisplayName("In-memory sink should keep only the latest events")
+    void inMemorySinkShouldBeBounded() {
+        InMemoryTaskEventSink memory = new InMemoryTaskEventSink(2);
+
+        memory.publish(List.of(message(1), message(2), message(3)));
+
+        assertEquals(List.of(2L, 3L), memory.getMessages().stream().map(OutboxMessage::id).toList());
+        memory.clear();
+        assertTrue(memory.getMessages().isEmpty());
+    }
+
+    private OutboxMessage message(long id) {
+        return new OutboxMessage(id, 10L, 100L, id, "UPDATED", "{}", now);
+    }
+}
@@ -0,0 +1,65 @@
+package com.teamtacles.task.teamtacles_api_task.application.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskOutboxRepository;
+
+public class TaskOutboxWriterTest {
+
+    private TaskOutboxRepository outboxRepository;
+    private TaskChangeLogRepository changeLogRepository;
+    private TaskOutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(TaskOutboxRepository.class);
+        changeLogRepository = mock(TaskChangeLogRepository.class);
+        writer = new TaskOutboxWriter(outboxRepository, changeLogRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should number the events of each project from its sequence row, projects in ID order")
+    @SuppressWarnings("unchecked")
+    void shouldReserveProjectSequencesInProjectOrder() {
+        when(changeLogRepository.reserve(100L, 2)).thenReturn(12L);
+        when(changeLogRepository.reserve(200L, 1)).thenReturn(5L);
+        TaskChangedEvent event = new TaskChangedEvent(List.of(
+                TaskChange.deleted(snapshot(1L, 200L)),
+                TaskChange.deleted(snapshot(2L, 100L)),
+                TaskChange.deleted(snapshot(3L, 100L))));
+
+        writer.onTaskChanged(event);
+
+        InOrder order = inOrder(changeLogRepository);
+        order.verify(changeLogRepository).reserve(100L, 2);
+        order.verify(changeLogRepository).reserve(200L, 1);
+        ArgumentCaptor<List<SqlParameterSource>> rows = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(rows.capture());
+        assertEquals(List.of(2L, 3L, 1L), rows.getValue().stream().map(row -> row.getValue("taskId")).toList());
+        assertEquals(List.of(11L, 12L, 5L), rows.getValue().stream().map(row -> row.getValue("projectSeq")).toList());
+    }
+
+    private static TaskSnapshot snapshot(Long id, Long projectId) {
+        return new TaskSnapshot(id, projectId, "Task", null, LocalDateTime.now(), Status.TODO, 2L, List.of(2L));
+    }
+}
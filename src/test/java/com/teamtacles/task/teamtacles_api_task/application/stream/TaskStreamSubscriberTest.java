@@ -0,0 +1,53 @@
+package com.teamtacles.task.teamtacles_api_task.application.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+
+public class TaskStreamSubscriberTest {
+
+    private final List<Runnable> pendingSends = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full instead of blocking the dispatcher")
+    void shouldDropSlowSubscriber() {
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(1L, null, new SseEmitter(), 2, pendingSends::add);
+        TaskStreamSubscriber.StreamEvent event = new TaskStreamSubscriber.StreamEvent("UPDATED", "{}");
+
+        assertTrue(subscriber.offer(event));
+        assertTrue(subscriber.offer(event));
+        assertFalse(subscriber.offer(event));
+
+        assertTrue(subscriber.isClosed());
+        assertEquals(1, pendingSends.size());
+    }
+
+    @Test
+    @DisplayName("Should only let regular users see tasks they own or are responsible for, before or after the change")
+    void shouldScopeRegularUsers() {
+        TaskStreamSubscriber regular = new TaskStreamSubscriber(1L, 2L, new SseEmitter(), 2, pendingSends::add);
+        TaskStreamSubscriber admin = new TaskStreamSubscriber(1L, null, new SseEmitter(), 2, pendingSends::add);
+        TaskSnapshot mine = snapshot(3L, List.of(3L, 2L));
+        TaskSnapshot foreign = snapshot(3L, List.of(3L));
+
+        assertTrue(regular.canSee(mine, foreign));
+        assertTrue(regular.canSee(null, mine));
+        assertFalse(regular.canSee(foreign, null));
+        assertTrue(admin.canSee(foreign, null));
+    }
+
+    private static TaskSnapshot snapshot(Long ownerId, List<Long> responsibles) {
+        return new TaskSnapshot(10L, 1L, "Task", null, LocalDateTime.now(), Status.TODO, ownerId, responsibles);
+    }
+}
@@ -0,0 +1,48 @@
+package com.teamtacles.task.teamtacles_api_task.domain.valueObject;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ResponsibleUserIdsTest {
+
+    @Test
+    @DisplayName("Should keep the IDs sorted and without repetitions")
+    void shouldSortAndDeduplicate() {
+        ResponsibleUserIds ids = ResponsibleUserIds.of(List.of(7L, 3L, 7L, 1L, 3L));
+
+        assertArrayEquals(new long[] { 1L, 3L, 7L }, ids.ids());
+        assertEquals(List.of(1L, 3L, 7L), ids.toList());
+        assertEquals(ResponsibleUserIds.of(List.of(1L, 3L, 7L)), ids);
+    }
+
+    @Test
+    @DisplayName("Should answer membership and add IDs in order")
+    void shouldCheckMembershipAndAdd() {
+        ResponsibleUserIds ids = ResponsibleUserIds.of(List.of(5L, 2L));
+
+        ResponsibleUserIds added = ids.with(3L).with(9L);
+
+        assertTrue(ids.contains(5L));
+        assertFalse(ids.contains(3L));
+        assertArrayEquals(new long[] { 2L, 3L, 5L, 9L }, added.ids());
+        assertSame(added, added.with(2L));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid IDs and unsorted arrays")
+    void shouldRejectInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> ResponsibleUserIds.of(Arrays.asList(1L, null)));
+        assertThrows(IllegalArgumentException.class, () -> ResponsibleUserIds.of(List.of(0L)));
+        assertThrows(IllegalArgumentException.class, () -> new ResponsibleUserIds(new long[] { 4L, 2L }));
+    }
+}
@@ -0,0 +1,94 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.datasource;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        dataSource = new ReplicaRoutingDataSource(primary, replica, tracker);
+        authenticate(7L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica")
+    void shouldRouteReadOnlyToReplica() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary")
+    void shouldRouteWritesToPrimary() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should keep the reads of a user who just wrote on the primary")
+    void shouldReadYourWrites() throws Exception {
+        tracker.recordWrite(7L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private static void authenticate(Long userId) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("userId", userId)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
@@ -0,0 +1,88 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.service.ProjectServiceClient;
+import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+
+public class DeadlineAwareRequestFactoryTest {
+
+    private static final Duration ONE_HOUR = Duration.ofHours(1);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should round the time left up, so the timeouts never fire before the deadline")
+    void shouldRoundRemainingTimeUp() throws Exception {
+        DeadlineAwareRequestFactory factory = new DeadlineAwareRequestFactory(ONE_HOUR, ONE_HOUR);
+        HttpURLConnection connection = (HttpURLConnection) URI.create("http://localhost:1/").toURL().openConnection();
+
+        RequestDeadline.start(ONE_HOUR);
+        factory.prepareConnection(connection, "GET");
+
+        // truncado, o tempo restante seria 3599999ms
+        assertEquals(ONE_HOUR.toMillis(), connection.getConnectTimeout());
+        assertEquals(ONE_HOUR.toMillis(), connection.getReadTimeout());
+    }
+
+    @Test
+    @DisplayName("Should report a timed out user lookup as service unavailable when a deadline is bound")
+    void shouldMapUserServiceTimeoutToServiceUnavailable() {
+        UserServiceClient client = new UserServiceClient(timingOutRestTemplate(UserResponseDTO.class));
+
+        RequestDeadline.start(ONE_HOUR);
+
+        assertThrows(ServiceUnavailableException.class, () -> client.getUserById(1L, "token"));
+    }
+
+    @Test
+    @DisplayName("Should report a timed out project lookup as service unavailable when a deadline is bound")
+    void shouldMapProjectServiceTimeoutToServiceUnavailable() {
+        ProjectServiceClient client = new ProjectServiceClient(timingOutRestTemplate(ProjectResponseDTO.class));
+
+        RequestDeadline.start(ONE_HOUR);
+
+        assertThrows(ServiceUnavailableException.class, () -> client.getProjectById(1L, "token"));
+    }
+
+    @Test
+    @DisplayName("Should keep reporting a timeout as a network error when no deadline is bound")
+    void shouldKeepNetworkErrorWithoutDeadline() {
+        UserServiceClient client = new UserServiceClient(timingOutRestTemplate(UserResponseDTO.class));
+
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> client.getUserById(1L, "token"));
+        assertEquals(RuntimeException.class, ex.getClass());
+    }
+
+    private static <T> RestTemplate timingOutRestTemplate(Class<T> responseType) {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(responseType)))
+                .thenThrow(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+        return restTemplate;
+    }
+}
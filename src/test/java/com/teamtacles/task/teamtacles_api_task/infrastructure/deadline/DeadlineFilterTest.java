@@ -0,0 +1,96 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.teamtacles.task.teamtacles_api_task.config.DeadlineProperties;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ServiceUnavailableException;
+
+import jakarta.servlet.FilterChain;
+
+public class DeadlineFilterTest {
+
+    private DeadlineProperties properties;
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeadlineProperties();
+        properties.setDefaultBudget(Duration.ofSeconds(20));
+        properties.getEndpoints().put("/api/project/task/search", Duration.ofSeconds(5));
+        filter = new DeadlineFilter(properties);
+    }
+
+    @Test
+    @DisplayName("Should apply the endpoint budget when the path matches a configured pattern")
+    void shouldApplyEndpointBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/project/task/search");
+
+        assertEquals(Duration.ofSeconds(5), budgetSeenByChain(request));
+    }
+
+    @Test
+    @DisplayName("Should use the header budget when it is shorter than the configured one")
+    void shouldUseShorterHeaderBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/project/1/task/1");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "1500");
+
+        assertEquals(Duration.ofMillis(1500), budgetSeenByChain(request));
+    }
+
+    @Test
+    @DisplayName("Should never extend the configured budget through the header")
+    void shouldIgnoreLongerHeaderBudget() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/project/task/search");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "60000");
+
+        assertEquals(Duration.ofSeconds(5), budgetSeenByChain(request));
+    }
+
+    @Test
+    @DisplayName("Should clear the deadline once the request completes")
+    void shouldClearDeadlineAfterRequest() throws Exception {
+        budgetSeenByChain(new MockHttpServletRequest("GET", "/api/project/1/task/1"));
+
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    @DisplayName("Should fail fast with ServiceUnavailableException once the budget is spent")
+    void shouldFailFastWhenBudgetIsSpent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/project/1/task/1");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "1");
+
+        FilterChain chain = (req, res) -> {
+            sleep(5);
+            RequestDeadline.ensureTimeRemaining("user service");
+        };
+
+        assertThrows(ServiceUnavailableException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+    }
+
+    private Duration budgetSeenByChain(MockHttpServletRequest request) throws Exception {
+        AtomicReference<Duration> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(RequestDeadline.current().getBudget());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return seen.get();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
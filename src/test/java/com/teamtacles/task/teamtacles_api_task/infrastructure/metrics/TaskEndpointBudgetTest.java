@@ -0,0 +1,132 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.metrics;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.teamtacles.task.teamtacles_api_task.support.RequestBudget.budget;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+/**
+ * Guards the number of downstream calls and SQL statements per endpoint, so N+1 regressions fail the build.
+ * When an optimisation lowers the cost of an endpoint, tighten its budget here.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:budgettest;DB_CLOSE_DELAY=-1",
+        "user-service.url=http://localhost:${wiremock.server.port}",
+        "project-service.url=http://localhost:${wiremock.server.port}",
+        "request-metrics.debug-headers=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureWireMock(port = 0)
+public class TaskEndpointBudgetTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final long OWNER_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WireMockServer wireMock;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private TaskEntity task;
+
+    @BeforeEach
+    void setUp() {
+        String team = "";
+        for (long id = 1; id <= 3; id++) {
+            String user = "{\"userId\":" + id + ",\"userName\":\"user" + id + "\",\"email\":\"user" + id + "@teamtacles.com\"}";
+            team += (id > 1 ? "," : "") + user;
+            wireMock.stubFor(get(urlEqualTo("/api/user/" + id)).willReturn(json(user)));
+        }
+        wireMock.stubFor(get(urlEqualTo("/api/project/" + PROJECT_ID)).willReturn(json(
+                "{\"id\":1,\"title\":\"Project\",\"description\":\"Budget test\",\"creator\":{\"userId\":1,\"userName\":\"user1\",\"email\":\"user1@teamtacles.com\"},\"team\":[" + team + "]}")));
+
+        for (int i = 0; i < 3; i++) {
+            task = taskRepository.save(new TaskEntity(null, "Task " + i, "Budget test task", LocalDateTime.now().plusDays(7),
+                    Status.TODO, OWNER_ID, new ArrayList<>(List.of(OWNER_ID, 3L)), PROJECT_ID));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET task stays within one user lookup per participant and two statements")
+    void getTaskBudget() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/project/{projectId}/task/{taskId}", PROJECT_ID, task.getId()).with(user(OWNER_ID)))
+                .andExpect(status().isOk())
+                .andExpect(budget().maxUserServiceCalls(3).maxProjectServiceCalls(0).maxSqlStatements(2));
+    }
+
+    @Test
+    @DisplayName("Task search stays within its downstream and SQL budget")
+    void searchBudget() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/project/task/search").param("projectId", String.valueOf(PROJECT_ID)).with(user(OWNER_ID)))
+                .andExpect(status().isOk())
+                .andExpect(budget().maxUserServiceCalls(10).maxProjectServiceCalls(4).maxSqlStatements(5));
+    }
+
+    @Test
+    @DisplayName("A repeated task search is served from the caches and reports its hits")
+    void repeatedSearchReportsCacheHits() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/project/task/search").param("projectId", String.valueOf(PROJECT_ID)).with(user(OWNER_ID)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/project/task/search").param("projectId", String.valueOf(PROJECT_ID)).with(user(OWNER_ID)))
+                .andExpect(status().isOk())
+                .andExpect(budget().minCacheHits(1));
+    }
+
+    // 3 for the task (select, responsibles, update), 1 batch for the status counters, 3 for the change feed
+    // (sequence reservation, its read-back and the upsert) and 3 for the outbox (its own reservation and read-back,
+    // and the insert); on PostgreSQL each reservation is a single INSERT ... RETURNING
+    @Test
+    @DisplayName("Status update stays within its downstream and SQL budget")
+    void updateStatusBudget() throws Exception {
+        mockMvc.perform(patch("/api/project/{projectId}/task/{taskId}/updateStatus", PROJECT_ID, task.getId())
+                        .with(user(OWNER_ID))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(budget().maxUserServiceCalls(3).maxProjectServiceCalls(0).maxSqlStatements(10));
+    }
+
+    private static RequestPostProcessor user(long userId) {
+        return jwt().jwt(token -> token.claim("userId", userId).claim("scope", List.of("ROLE_USER")));
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(body);
+    }
+}
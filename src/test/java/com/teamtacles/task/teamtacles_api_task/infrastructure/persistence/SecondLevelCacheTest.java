@@ -0,0 +1,98 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.ProjectTaskCounterRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cachetest;DB_CLOSE_DELAY=-1",
+        "task-cache.second-level.enabled=true"
+})
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should serve hot tasks from the cache and refresh them on every write")
+    void shouldCacheTasksAndRefreshOnWrite() {
+        Long taskId = transaction.execute(status -> taskRepository.save(new TaskEntity(null, "Cached", null,
+                LocalDateTime.now().plusDays(1), Status.TODO, 1L, new ArrayList<>(List.of(1L, 2L)), 900L)).getId());
+
+        long hitsBefore = region(TaskEntity.CACHE_REGION).getHitCount();
+        assertEquals(List.of(1L, 2L), readResponsibles(taskId));
+        assertEquals(List.of(1L, 2L), readResponsibles(taskId));
+        assertTrue(region(TaskEntity.CACHE_REGION).getHitCount() > hitsBefore);
+        assertTrue(region(TaskEntity.RESPONSIBLES_CACHE_REGION).getHitCount() > 0);
+
+        transaction.executeWithoutResult(status -> {
+            TaskEntity task = taskRepository.findById(taskId).orElseThrow();
+            task.setStatus(Status.DONE);
+            task.getResponsibleUserIds().add(3L);
+        });
+        // counter writes go through JDBC and must not evict the task regions
+        transaction.executeWithoutResult(status -> counterRepository.applyDeltas(
+                List.of(new ProjectTaskCounterRepository.CounterDelta(900L, 0L, "DONE", 1L))));
+
+        long hitsAfterWrite = region(TaskEntity.CACHE_REGION).getHitCount();
+        TaskEntity reloaded = transaction.execute(status -> {
+            TaskEntity task = taskRepository.findById(taskId).orElseThrow();
+            task.getResponsibleUserIds().size();
+            return task;
+        });
+        assertEquals(Status.DONE, reloaded.getStatus());
+        assertEquals(List.of(1L, 2L, 3L), reloaded.getResponsibleUserIds());
+        assertTrue(region(TaskEntity.CACHE_REGION).getHitCount() > hitsAfterWrite);
+
+        transaction.executeWithoutResult(status -> taskRepository.deleteById(taskId));
+        assertFalse(Boolean.TRUE.equals(transaction.execute(status -> taskRepository.findById(taskId).isPresent())));
+    }
+
+    private List<Long> readResponsibles(Long taskId) {
+        return transaction.execute(status -> new ArrayList<>(taskRepository.findById(taskId).orElseThrow().getResponsibleUserIds()));
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+}
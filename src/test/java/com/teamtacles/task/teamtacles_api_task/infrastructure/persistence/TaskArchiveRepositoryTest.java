@@ -0,0 +1,110 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskArchiveRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:archivetest;DB_CLOSE_DELAY=-1")
+public class TaskArchiveRepositoryTest {
+
+    private static final long PROJECT_ID = 920L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Long oldDone;
+    private Long recentDone;
+    private Long oldOpen;
+
+    @BeforeEach
+    void setUp() {
+        archiveRepository.deleteProjectTasks(PROJECT_ID);
+        taskRepository.deleteAll(taskRepository.findAll().stream().filter(task -> task.getProjectId() == PROJECT_ID).toList());
+        jdbcTemplate.update("DELETE FROM task_change_log WHERE project_id = ?", PROJECT_ID);
+        oldDone = save("Old done", Status.DONE, now.minusDays(100), 2L);
+        recentDone = save("Recent done", Status.DONE, now.minusDays(10), 3L);
+        oldOpen = save("Old open", Status.TODO, now.minusDays(100), 2L);
+    }
+
+    @Test
+    @DisplayName("Should only find DONE tasks last changed before the cutoff")
+    void shouldFindArchivableTasks() {
+        List<Long> archivable = archiveRepository.findArchivable(now.minusDays(90), 0, 100);
+
+        assertTrue(archivable.contains(oldDone));
+        assertTrue(!archivable.contains(recentDone) && !archivable.contains(oldOpen));
+        assertTrue(archiveRepository.findArchivable(now.minusDays(90), oldDone, 100).stream().allMatch(id -> id > oldDone));
+    }
+
+    @Test
+    @DisplayName("Should move DONE tasks with their responsibles and skip the others")
+    void shouldMoveTasks() {
+        List<TaskEntity> moved = new TransactionTemplate(transactionManager)
+                .execute(status -> archiveRepository.move(List.of(oldDone, oldOpen), now));
+
+        assertEquals(List.of(oldDone), moved.stream().map(TaskEntity::getId).toList());
+        assertEquals(List.of(2L), moved.get(0).getResponsibleUserIds());
+        assertTrue(taskRepository.findById(oldDone).isEmpty());
+        assertTrue(taskRepository.findById(oldOpen).isPresent());
+        assertEquals("Old done", archiveRepository.findById(oldDone).orElseThrow().getTitle());
+        assertEquals(List.of(oldDone), archiveRepository.findProjectTasks(PROJECT_ID).stream().map(TaskEntity::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should search the hot and the archived tasks together, with the user scope and paging")
+    void shouldSearchIncludingArchive() {
+        new TransactionTemplate(transactionManager).execute(status -> archiveRepository.move(List.of(oldDone), now));
+
+        Page<Long> all = archiveRepository.searchIncludingArchive(null, null, null, PROJECT_ID, null, PageRequest.of(0, 10));
+        Page<Long> done = archiveRepository.searchIncludingArchive(Status.DONE, null, null, PROJECT_ID, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title")));
+        Page<Long> ofUser = archiveRepository.searchIncludingArchive(null, null, null, PROJECT_ID, 2L, PageRequest.of(0, 1));
+        Page<Long> beyond = archiveRepository.searchIncludingArchive(null, null, null, PROJECT_ID, null, PageRequest.of(5, 2));
+
+        assertEquals(List.of(oldDone, recentDone, oldOpen), all.getContent());
+        assertEquals(List.of(recentDone, oldDone), done.getContent());
+        assertEquals(List.of(oldDone), ofUser.getContent());
+        assertEquals(2, ofUser.getTotalElements());
+        assertEquals(3, beyond.getTotalElements());
+    }
+
+    private Long save(String title, Status status, LocalDateTime changedAt, Long responsibleUserId) {
+        Long id = taskRepository.save(new TaskEntity(null, title, null, now.plusDays(1), status,
+                responsibleUserId, new ArrayList<>(List.of(responsibleUserId)), PROJECT_ID)).getId();
+        jdbcTemplate.update("INSERT INTO task_change_log (project_id, task_id, change_seq, change_type, changed_at) VALUES (?, ?, ?, 'UPDATED', ?)",
+                PROJECT_ID, id, id, Timestamp.valueOf(changedAt));
+        return id;
+    }
+}
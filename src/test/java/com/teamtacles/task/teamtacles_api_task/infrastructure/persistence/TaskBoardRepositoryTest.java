@@ -0,0 +1,99 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBoardRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:boardtest;DB_CLOSE_DELAY=-1")
+public class TaskBoardRepositoryTest {
+
+    private static final long PROJECT_ID = 920L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskBoardRepository boardRepository;
+
+    private Long firstTodo;
+    private Long secondTodo;
+    private Long inProgress;
+    private Long lastTodo;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll(taskRepository.findAll().stream().filter(task -> task.getProjectId() == PROJECT_ID).toList());
+        // salvas fora da ordem de vencimento: a coluna ordena por data
+        lastTodo = save("Last", Status.TODO, 4, 1L, List.of(5L));
+        secondTodo = save("Second", Status.TODO, 2, 1L, List.of(2L));
+        firstTodo = save("First", Status.TODO, 1, 1L, List.of(2L, 3L, 4L));
+        save("Third", Status.TODO, 3, 1L, List.of(2L));
+        inProgress = save("Doing", Status.INPROGRESS, 1, 9L, List.of(9L));
+        save("Other project", Status.TODO, 1, 1L, List.of(2L), PROJECT_ID + 1);
+    }
+
+    @Test
+    @DisplayName("Should return the first tasks of each column by due date, with the column totals")
+    void shouldLimitEachColumn() {
+        Map<Status, TaskBoardRepository.Column> board = boardRepository.findBoard(PROJECT_ID, 2, null);
+
+        assertEquals(List.of(firstTodo, secondTodo), ids(board.get(Status.TODO)));
+        assertEquals(4, board.get(Status.TODO).total());
+        assertEquals(List.of(inProgress), ids(board.get(Status.INPROGRESS)));
+        assertEquals(1, board.get(Status.INPROGRESS).total());
+        assertEquals(List.of(), ids(board.get(Status.DONE)));
+        assertEquals(0, board.get(Status.DONE).total());
+    }
+
+    @Test
+    @DisplayName("Should join all the responsibles of a task without repeating the task or counting it twice")
+    void shouldNotInflateRowsWithResponsibles() {
+        Map<Status, TaskBoardRepository.Column> board = boardRepository.findBoard(PROJECT_ID, 1, null);
+
+        TaskBoardRepository.Column todo = board.get(Status.TODO);
+        assertEquals(1, todo.tasks().size());
+        assertEquals(List.of(2L, 3L, 4L), todo.tasks().get(0).getResponsibleUserIds());
+        assertEquals(4, todo.total());
+    }
+
+    @Test
+    @DisplayName("Should only show the tasks the user owns or is responsible for, and count only those")
+    void shouldScopeToUser() {
+        Map<Status, TaskBoardRepository.Column> asResponsible = boardRepository.findBoard(PROJECT_ID, 10, 5L);
+        Map<Status, TaskBoardRepository.Column> asOwner = boardRepository.findBoard(PROJECT_ID, 10, 9L);
+
+        assertEquals(List.of(lastTodo), ids(asResponsible.get(Status.TODO)));
+        assertEquals(1, asResponsible.get(Status.TODO).total());
+        assertEquals(0, asResponsible.get(Status.INPROGRESS).total());
+        assertEquals(List.of(), ids(asOwner.get(Status.TODO)));
+        assertEquals(List.of(inProgress), ids(asOwner.get(Status.INPROGRESS)));
+        assertEquals(1, asOwner.get(Status.INPROGRESS).total());
+    }
+
+    private Long save(String title, Status status, int dueInDays, Long ownerUserId, List<Long> responsibles) {
+        return save(title, status, dueInDays, ownerUserId, responsibles, PROJECT_ID);
+    }
+
+    private Long save(String title, Status status, int dueInDays, Long ownerUserId, List<Long> responsibles, long projectId) {
+        return taskRepository.save(new TaskEntity(null, title, null, LocalDateTime.now().plusDays(dueInDays), status,
+                ownerUserId, new ArrayList<>(responsibles), projectId)).getId();
+    }
+
+    private static List<Long> ids(TaskBoardRepository.Column column) {
+        return column.tasks().stream().map(TaskEntity::getId).toList();
+    }
+}
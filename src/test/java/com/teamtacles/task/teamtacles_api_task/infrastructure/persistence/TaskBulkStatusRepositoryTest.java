@@ -0,0 +1,80 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBulkStatusRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulkstatustest;DB_CLOSE_DELAY=-1")
+public class TaskBulkStatusRepositoryTest {
+
+    private static final long PROJECT_ID = 930L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskBulkStatusRepository bulkStatusRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long owned;
+    private Long responsible;
+    private Long ofOther;
+    private Long otherProject;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll(taskRepository.findAll().stream().filter(task -> task.getProjectId() >= PROJECT_ID).toList());
+        owned = save(PROJECT_ID, 2L, 3L);
+        responsible = save(PROJECT_ID, 3L, 2L);
+        ofOther = save(PROJECT_ID, 4L, 4L);
+        otherProject = save(PROJECT_ID + 1, 2L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should lock only the tasks of the project and check the user against owner and responsibles")
+    void shouldLockAndCheckUser() {
+        List<TaskBulkStatusRepository.LockedTask> locked = new TransactionTemplate(transactionManager).execute(status ->
+                bulkStatusRepository.lockTasks(PROJECT_ID, List.of(owned, responsible, ofOther, otherProject), 2L));
+
+        assertEquals(List.of(owned, responsible, ofOther), locked.stream().map(lockedTask -> lockedTask.task().getId()).toList());
+        assertEquals(List.of(true, true, false), locked.stream().map(TaskBulkStatusRepository.LockedTask::allowed).toList());
+        assertEquals(List.of(3L), locked.get(0).task().getResponsibleUserIds());
+    }
+
+    @Test
+    @DisplayName("Should update the status and bump the version, evicting stale cached tasks")
+    void shouldUpdateStatusAndVersion() {
+        Long versionBefore = taskRepository.findById(owned).orElseThrow().getVersion();
+
+        int updated = new TransactionTemplate(transactionManager).execute(status ->
+                bulkStatusRepository.updateStatus(List.of(owned, responsible), Status.DONE));
+
+        TaskEntity task = taskRepository.findById(owned).orElseThrow();
+        assertEquals(2, updated);
+        assertEquals(Status.DONE, task.getStatus());
+        assertEquals(versionBefore + 1, task.getVersion());
+        assertEquals(Status.TODO, taskRepository.findById(ofOther).orElseThrow().getStatus());
+    }
+
+    private Long save(Long projectId, Long ownerUserId, Long responsibleUserId) {
+        return taskRepository.save(new TaskEntity(null, "Task", null, LocalDateTime.now().plusDays(1), Status.TODO,
+                ownerUserId, new ArrayList<>(List.of(responsibleUserId)), projectId)).getId();
+    }
+}
@@ -0,0 +1,68 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskImportRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:importtest;DB_CLOSE_DELAY=-1")
+public class TaskImportRepositoryTest {
+
+    private static final long PROJECT_ID = 930L;
+
+    @Autowired
+    private TaskImportRepository importRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM task_responsibles WHERE task_id IN (SELECT id FROM tasks WHERE project_id = ?)", PROJECT_ID);
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("Should set the generated ID on each task of a chunk and store its own responsibles")
+    void shouldInsertChunkWithGeneratedKeys() {
+        List<TaskEntity> tasks = List.of(
+                task("First", Status.TODO, List.of(1L, 2L)),
+                task("Second", Status.DONE, List.of(3L)),
+                task("Third", Status.INPROGRESS, List.of(1L, 4L, 5L)));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> importRepository.insertAll(tasks));
+
+        for (TaskEntity task : tasks) {
+            assertNotNull(task.getId());
+            assertEquals(task.getTitle(), jdbcTemplate.queryForObject("SELECT title FROM tasks WHERE id = ?", String.class, task.getId()));
+            assertEquals(task.getStatus().name(), jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE id = ?", String.class, task.getId()));
+            assertEquals(task.getResponsibleUserIds(), jdbcTemplate.queryForList(
+                    "SELECT responsible_user_id FROM task_responsibles WHERE task_id = ? ORDER BY responsible_user_id",
+                    Long.class, task.getId()));
+        }
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE project_id = ?", Integer.class, PROJECT_ID));
+    }
+
+    private static TaskEntity task(String title, Status status, List<Long> responsibles) {
+        return new TaskEntity(null, title, "Imported", LocalDateTime.now().plusDays(1), status, 1L,
+                new ArrayList<>(responsibles), PROJECT_ID);
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskTextSearchRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:textsearchtest;DB_CLOSE_DELAY=-1")
+public class TaskTextSearchRepositoryTest {
+
+    private static final long PROJECT_ID = 910L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTextSearchRepository textSearchRepository;
+
+    private Long inTitle;
+    private Long inDescription;
+    private Long ofOtherUser;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll(taskRepository.findAll().stream().filter(task -> task.getProjectId() == PROJECT_ID).toList());
+        inDescription = save("Weekly sync", "Review the quarterly Report", Status.TODO, 1L, 2L);
+        inTitle = save("Quarterly report", "Numbers for the board", Status.TODO, 1L, 3L);
+        ofOtherUser = save("Report archive", "Quarterly backups", Status.DONE, 4L, 4L);
+        save("Unrelated", null, Status.TODO, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should match every term as a prefix and rank title matches first")
+    void shouldRankTitleMatchesFirst() {
+        TaskTextSearchRepository.Result result = textSearchRepository.search(TaskTextSearchRepository.terms("quarter REPORT"),
+                null, null, null, PROJECT_ID, null, PageRequest.of(0, 10));
+
+        assertEquals(List.of(inTitle, ofOtherUser, inDescription), result.ids());
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    @DisplayName("Should apply the filters and the user scope")
+    void shouldApplyFiltersAndUserScope() {
+        List<String> terms = TaskTextSearchRepository.terms("report");
+
+        assertEquals(List.of(inTitle, inDescription),
+                textSearchRepository.search(terms, Status.TODO, null, null, PROJECT_ID, null, PageRequest.of(0, 10)).ids());
+        assertEquals(List.of(inTitle),
+                textSearchRepository.search(terms, null, null, null, PROJECT_ID, 3L, PageRequest.of(0, 10)).ids());
+    }
+
+    @Test
+    @DisplayName("Should page the results and count them past the last page")
+    void shouldPageAndCount() {
+        List<String> terms = TaskTextSearchRepository.terms("report");
+
+        TaskTextSearchRepository.Result second = textSearchRepository.search(terms, null, null, null, PROJECT_ID, null, PageRequest.of(1, 2));
+        TaskTextSearchRepository.Result beyond = textSearchRepository.search(terms, null, null, null, PROJECT_ID, null, PageRequest.of(5, 2));
+
+        assertEquals(List.of(inDescription), second.ids());
+        assertEquals(3, second.total());
+        assertEquals(List.of(), beyond.ids());
+        assertEquals(3, beyond.total());
+    }
+
+    private Long save(String title, String description, Status status, Long ownerUserId, Long responsibleUserId) {
+        return taskRepository.save(new TaskEntity(null, title, description, LocalDateTime.now().plusDays(1), status,
+                ownerUserId, new ArrayList<>(List.of(responsibleUserId)), PROJECT_ID)).getId();
+    }
+}
@@ -0,0 +1,80 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+public class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+    private JwtDecoder delegate;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should verify a reused token only once")
+    void shouldVerifyReusedTokenOnce() {
+        Jwt jwt = jwt("token-a", NOW.plus(Duration.ofHours(1)));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("token-a"));
+        assertSame(jwt, decoder.decode("token-a"));
+
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should not cache a token that is already expired")
+    void shouldNotCacheExpiredToken() {
+        Jwt jwt = jwt("token-b", NOW.minusSeconds(1));
+        when(delegate.decode("token-b")).thenReturn(jwt);
+
+        decoder.decode("token-b");
+        decoder.decode("token-b");
+
+        verify(delegate, times(2)).decode("token-b");
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that fail verification")
+    void shouldNotCacheInvalidToken() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    private static Jwt jwt(String value, Instant expiresAt) {
+        return Jwt.withTokenValue(value)
+                .header("alg", "RS256")
+                .claim("userId", 7)
+                .claim("scope", List.of("ROLE_USER"))
+                .issuedAt(expiresAt.minus(Duration.ofHours(2)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+public class TokenClaimsAuthenticationConverterTest {
+
+    private final TokenClaimsAuthenticationConverter converter;
+
+    public TokenClaimsAuthenticationConverterTest() {
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthorityPrefix("");
+        converter = new TokenClaimsAuthenticationConverter(authorities);
+    }
+
+    @Test
+    @DisplayName("Should keep the user ID and roles of the token on the authentication")
+    void shouldExposeClaims() {
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) converter.convert(jwt(7));
+
+        assertTrue(authentication instanceof TokenClaimsAuthenticationToken);
+        TokenClaims claims = TokenClaimsAuthenticationToken.claimsOf(authentication);
+        assertEquals(7L, claims.userId());
+        assertEquals(List.of("ROLE_USER"), claims.roles());
+        assertEquals(List.of("ROLE_USER"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    @DisplayName("Should authenticate a token without user ID and reject it when its claims are used")
+    void shouldDeferMissingUserId() {
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) converter.convert(jwt("not-a-number"));
+
+        assertThrows(IllegalArgumentException.class, () -> TokenClaimsAuthenticationToken.claimsOf(authentication));
+    }
+
+    private static Jwt jwt(Object userId) {
+        Instant now = Instant.parse("2026-10-19T12:00:00Z");
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("userId", userId)
+                .claim("scope", List.of("ROLE_USER"))
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.teamtacles.task.teamtacles_api_task.infrastructure.vthread;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Should time out when all connections are in use")
+    void shouldTimeOutWhenLimitReached() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    @DisplayName("Should reject right away when the waiting queue is full")
+    void shouldRejectWhenQueueFull() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 0, Duration.ofSeconds(30));
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the connection is closed, only once")
+    void shouldReleasePermitOnClose() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 0, Duration.ofMillis(50));
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+
+        Connection second = dataSource.getConnection();
+        verify(connection, times(2)).close();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        second.close();
+    }
+}
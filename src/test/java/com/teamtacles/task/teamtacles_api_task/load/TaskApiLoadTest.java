@@ -0,0 +1,522 @@
+package com.teamtacles.task.teamtacles_api_task.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.cloud.contract.wiremock.WireMockConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+
+import io.jsonwebtoken.Jwts;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * End-to-end load test of the TaskController endpoints.
+ *
+ * The application is booted on a random port against an in-memory H2 database and WireMock stubs of the
+ * user (/api/user/{id}) and project (/api/project/{id}) services, so it runs fully offline. A mixed workload
+ * is driven over HTTP and a report with throughput, p50/p95/p99 latency per endpoint, downstream calls per request
+ * and SQL statements per request is printed and written to target/load-test/.
+ *
+ * Excluded from the regular build; run it with:
+ * ./mvnw -Pload-test test -Dload.requests=5000 -Dload.concurrency=32 -Dload.latencyMs=20 -Dload.errorRate=0.02
+ *
+ * To compare platform and virtual threads at high concurrency, run it twice, adding
+ * -Dspring.threads.virtual.enabled=true -Dload.concurrency=500 -Dload.latencyMs=50 to the second run.
+ * The stubs answer on load.stubThreads threads; keep it above concurrency times the downstream calls per request
+ * in flight, or the stubs and not the application become the bottleneck.
+ *
+ * Settings (system properties): load.requests, load.warmupRequests, load.concurrency, load.seedTasks,
+ * load.users, load.projects, load.latencyMs, load.latencyJitterMs, load.errorRate, load.seed, load.stubThreads.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "user-service.url=http://localhost:${wiremock.server.port}",
+        "project-service.url=http://localhost:${wiremock.server.port}",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.teamtacles=WARN"
+})
+@AutoConfigureWireMock(port = 0)
+public class TaskApiLoadTest {
+
+    private static final KeyPair KEY_PAIR = generateKeyPair();
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final long ADMIN_USER_ID = 1L;
+
+    private final int totalRequests = Integer.getInteger("load.requests", 2000);
+    private final int warmupRequests = Integer.getInteger("load.warmupRequests", 200);
+    private final int concurrency = Integer.getInteger("load.concurrency", 16);
+    private final int seedTasks = Integer.getInteger("load.seedTasks", 200);
+    private final int users = Integer.getInteger("load.users", 50);
+    private final int projects = Integer.getInteger("load.projects", 5);
+    private final int latencyMs = Integer.getInteger("load.latencyMs", 10);
+    private final int latencyJitterMs = Integer.getInteger("load.latencyJitterMs", 0);
+    private final double errorRate = Double.parseDouble(System.getProperty("load.errorRate", "0.0"));
+    private final long randomSeed = Long.getLong("load.seed", 42L);
+
+    /**
+     * Endpoints of the workload with their share of the traffic.
+     */
+    enum Endpoint {
+        GET_TASK(35),
+        LIST_USER_TASKS(20),
+        SEARCH(20),
+        CREATE(10),
+        UPDATE_STATUS(8),
+        UPDATE(5),
+        DELETE(2),
+        // executed once at the end on a dedicated project, not part of the random mix
+        DELETE_ALL(0);
+
+        final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WireMockServer wireMock;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private HttpClient httpClient;
+    private LiveTasks liveTasks;
+    private List<Long> healthyUsers;
+    private List<Long> allUsers;
+    private Map<Endpoint, EndpointStats> stats;
+
+    @TestConfiguration
+    static class LoadTestJwtConfig {
+        // tokens are signed with a key generated for the run instead of the real issuer's key
+        @Bean
+        @Primary
+        JwtDecoder loadTestJwtDecoder() {
+            return NimbusJwtDecoder.withPublicKey((RSAPublicKey) KEY_PAIR.getPublic()).build();
+        }
+
+        // WireMock's default pool of a dozen threads would cap the throughput of the whole run
+        @Bean
+        WireMockConfigurationCustomizer loadTestStubThreads() {
+            return options -> options.containerThreads(Integer.getInteger("load.stubThreads", 1000));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        liveTasks = new LiveTasks();
+        stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        stubDownstreamServices();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Random random = new Random(randomSeed);
+        long scratchProjectId = projects;
+
+        for (int i = 0; i < seedTasks; i++) {
+            long projectId = 1 + random.nextInt(projects - 1);
+            long ownerId = healthyUsers.get(random.nextInt(healthyUsers.size()));
+            createTask(projectId, ownerId, random, healthyUsers);
+        }
+        for (int i = 0; i < 10; i++) {
+            createTask(scratchProjectId, ADMIN_USER_ID, random, healthyUsers);
+        }
+
+        runPhase(warmupRequests, randomSeed + 1, false);
+
+        wireMock.resetRequests();
+        statistics().clear();
+        for (EndpointStats endpointStats : stats.values()) {
+            endpointStats.reset();
+        }
+
+        long started = System.nanoTime();
+        runPhase(totalRequests, randomSeed + 2, true);
+        long elapsed = System.nanoTime() - started;
+
+        long downstreamCalls = wireMock.countRequestsMatching(RequestPatternBuilder.allRequests().build()).getCount();
+        long sqlStatements = statistics().getPrepareStatementCount();
+
+        long deleteAllStarted = System.nanoTime();
+        int deleteAllStatus = send(HttpRequest.newBuilder(uri("/api/project/" + scratchProjectId + "/tasks"))
+                .header("Authorization", "Bearer " + token(ADMIN_USER_ID, true))
+                .DELETE()
+                .build()).statusCode();
+        stats.get(Endpoint.DELETE_ALL).record(System.nanoTime() - deleteAllStarted, deleteAllStatus);
+
+        writeReport(elapsed, downstreamCalls, sqlStatements);
+    }
+
+    private void runPhase(int requests, long seed, boolean record) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger remaining = new AtomicInteger(requests);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            Random random = new Random(seed + w);
+            workers.submit(() -> {
+                try {
+                    while (remaining.getAndDecrement() > 0) {
+                        Endpoint endpoint = pickEndpoint(random);
+                        long start = System.nanoTime();
+                        int status = execute(endpoint, random);
+                        if (record) {
+                            stats.get(endpoint).record(System.nanoTime() - start, status);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private Endpoint pickEndpoint(Random random) {
+        int totalWeight = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            totalWeight += endpoint.weight;
+        }
+        int roll = random.nextInt(totalWeight);
+        for (Endpoint endpoint : Endpoint.values()) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.GET_TASK;
+    }
+
+    private int execute(Endpoint endpoint, Random random) {
+        try {
+            LoadTask task = liveTasks.pick(random);
+            if (task == null && endpoint != Endpoint.CREATE && endpoint != Endpoint.SEARCH) {
+                endpoint = Endpoint.CREATE;
+            }
+            long actingUser = task != null ? task.anyMember(random) : healthyUsers.get(random.nextInt(healthyUsers.size()));
+            boolean admin = random.nextInt(5) == 0;
+            String bearer = "Bearer " + token(admin ? ADMIN_USER_ID : actingUser, admin);
+
+            return switch (endpoint) {
+                case GET_TASK -> send(HttpRequest.newBuilder(uri("/api/project/" + task.projectId + "/task/" + task.id))
+                        .header("Authorization", bearer).GET().build()).statusCode();
+                case LIST_USER_TASKS -> send(HttpRequest.newBuilder(uri("/api/project/" + task.projectId + "/tasks/user/" + actingUser + "?page=0&size=20"))
+                        .header("Authorization", "Bearer " + token(actingUser, false)).GET().build()).statusCode();
+                case SEARCH -> {
+                    String status = random.nextBoolean() ? "&status=TODO" : "";
+                    String project = random.nextBoolean() ? "&projectId=" + (1 + random.nextInt(projects - 1)) : "";
+                    yield send(HttpRequest.newBuilder(uri("/api/project/task/search?page=0&size=20" + status + project))
+                            .header("Authorization", bearer).GET().build()).statusCode();
+                }
+                case CREATE -> {
+                    long projectId = 1 + random.nextInt(projects - 1);
+                    yield createTask(projectId, actingUser, random, allUsers);
+                }
+                case UPDATE_STATUS -> {
+                    String status = List.of("TODO", "INPROGRESS", "DONE").get(random.nextInt(3));
+                    yield send(HttpRequest.newBuilder(uri("/api/project/" + task.projectId + "/task/" + task.id + "/updateStatus"))
+                            .header("Authorization", bearer).header("Content-Type", "application/json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}")).build()).statusCode();
+                }
+                case UPDATE -> send(HttpRequest.newBuilder(uri("/api/project/" + task.projectId + "/task/" + task.id))
+                        .header("Authorization", bearer).header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(taskBody(task.id, task.responsibles.stream().distinct().toList()))).build()).statusCode();
+                case DELETE -> {
+                    liveTasks.remove(task.id);
+                    yield send(HttpRequest.newBuilder(uri("/api/project/" + task.projectId + "/task/" + task.id))
+                            .header("Authorization", bearer).DELETE().build()).statusCode();
+                }
+                case DELETE_ALL -> throw new IllegalStateException("DELETE_ALL is not part of the random mix");
+            };
+        } catch (IOException ex) {
+            return -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /**
+     * Creates a task with 1 to 3 responsibles drawn from the given pool. Seeding draws from the healthy users only;
+     * the workload draws from all users, so a failing user among the responsibles surfaces as a downstream error.
+     */
+    private int createTask(long projectId, long ownerId, Random random, List<Long> pool) throws IOException, InterruptedException {
+        List<Long> responsibles = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            responsibles.add(pool.get(random.nextInt(pool.size())));
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/project/" + projectId + "/task"))
+                .header("Authorization", "Bearer " + token(ownerId, false))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(taskBody(random.nextInt(100_000), responsibles)))
+                .build();
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() == 201) {
+            JsonNode body = objectMapper.readTree(response.body());
+            List<Long> members = new ArrayList<>(responsibles);
+            members.add(ownerId);
+            members.add(ADMIN_USER_ID);
+            liveTasks.add(new LoadTask(body.get("id").asLong(), projectId, members));
+        }
+        return response.statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String taskBody(long seed, List<Long> responsibles) {
+        String dueDate = LocalDateTime.now().plusDays(30).format(DUE_DATE_FORMAT);
+        return "{\"title\":\"Load task " + seed + "\",\"description\":\"Generated by the load test\",\"dueDate\":\""
+                + dueDate + "\",\"usersResponsability\":" + responsibles + "}";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String token(long userId, boolean admin) {
+        return Jwts.builder()
+                .subject("user" + userId)
+                .claim("userId", userId)
+                .claim("scope", List.of(admin ? "ROLE_ADMIN" : "ROLE_USER"))
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(KEY_PAIR.getPrivate())
+                .compact();
+    }
+
+    /**
+     * Registers one stub per user and project. The first users (by error rate) always answer 503,
+     * which keeps the error injection reproducible between runs.
+     */
+    private void stubDownstreamServices() {
+        int failingUsers = (int) Math.round(users * errorRate);
+        healthyUsers = new ArrayList<>();
+        allUsers = new ArrayList<>();
+        StringBuilder team = new StringBuilder();
+        for (long id = 1; id <= users; id++) {
+            String user = "{\"userId\":" + id + ",\"userName\":\"user" + id + "\",\"email\":\"user" + id + "@teamtacles.com\"}";
+            team.append(id > 1 ? "," : "").append(user);
+            // the admin is never failing, otherwise no request could be authorized
+            boolean failing = id > 1 && id <= failingUsers + 1;
+            allUsers.add(id);
+            if (!failing) {
+                healthyUsers.add(id);
+            }
+            wireMock.stubFor(get(urlEqualTo("/api/user/" + id)).willReturn(failing
+                    ? delayed(aResponse().withStatus(503))
+                    : delayed(json(user))));
+        }
+        String creator = "{\"userId\":1,\"userName\":\"user1\",\"email\":\"user1@teamtacles.com\"}";
+        for (long id = 1; id <= projects; id++) {
+            String project = "{\"id\":" + id + ",\"title\":\"Project " + id + "\",\"description\":\"Load test project\","
+                    + "\"creator\":" + creator + ",\"team\":[" + team + "]}";
+            wireMock.stubFor(get(urlEqualTo("/api/project/" + id)).willReturn(delayed(json(project))));
+        }
+    }
+
+    private ResponseDefinitionBuilder json(String body) {
+        return aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(body);
+    }
+
+    private ResponseDefinitionBuilder delayed(ResponseDefinitionBuilder response) {
+        if (latencyJitterMs > 0) {
+            return response.withUniformRandomDelay(latencyMs, latencyMs + latencyJitterMs);
+        }
+        return latencyMs > 0 ? response.withFixedDelay(latencyMs) : response;
+    }
+
+    private org.hibernate.stat.Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void writeReport(long elapsedNanos, long downstreamCalls, long sqlStatements) throws IOException {
+        long measured = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint != Endpoint.DELETE_ALL) {
+                measured += stats.get(endpoint).count();
+            }
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Load test - %d requests, concurrency %d, latency %d(+%d)ms, error rate %.2f, %s threads%n",
+                measured, concurrency, latencyMs, latencyJitterMs, errorRate, virtualThreads ? "virtual" : "platform"));
+        report.append(String.format("Throughput: %.1f req/s%n", measured / seconds));
+        report.append(String.format("Downstream calls per request: %.2f%n", measured == 0 ? 0 : (double) downstreamCalls / measured));
+        report.append(String.format("SQL statements per request: %.2f%n%n", measured == 0 ? 0 : (double) sqlStatements / measured));
+        report.append(String.format("%-16s %8s %8s %8s %10s %10s %10s%n", "endpoint", "count", "2xx", "errors", "p50(ms)", "p95(ms)", "p99(ms)"));
+
+        StringBuilder csv = new StringBuilder("endpoint,count,ok,errors,p50_ms,p95_ms,p99_ms\n");
+        for (Endpoint endpoint : Endpoint.values()) {
+            EndpointStats endpointStats = stats.get(endpoint);
+            long[] latencies = endpointStats.sortedLatencies();
+            report.append(String.format("%-16s %8d %8d %8d %10.2f %10.2f %10.2f%n", endpoint, latencies.length, endpointStats.ok.get(),
+                    endpointStats.errors.get(), percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99)));
+            csv.append(String.format("%s,%d,%d,%d,%.2f,%.2f,%.2f%n", endpoint, latencies.length, endpointStats.ok.get(),
+                    endpointStats.errors.get(), percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99)));
+        }
+
+        System.out.println(report);
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report.txt"), report, StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("report.csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record LoadTask(long id, long projectId, List<Long> responsibles) {
+        long anyMember(Random random) {
+            return responsibles.get(random.nextInt(responsibles.size()));
+        }
+    }
+
+    /**
+     * Tasks known to exist, picked at random by the workers.
+     */
+    private static final class LiveTasks {
+        private final List<LoadTask> tasks = new ArrayList<>();
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        synchronized void add(LoadTask task) {
+            positions.put(task.id(), tasks.size());
+            tasks.add(task);
+        }
+
+        synchronized LoadTask pick(Random random) {
+            return tasks.isEmpty() ? null : tasks.get(random.nextInt(tasks.size()));
+        }
+
+        synchronized void remove(long id) {
+            Integer position = positions.remove(id);
+            if (position == null) {
+                return;
+            }
+            LoadTask last = tasks.remove(tasks.size() - 1);
+            if (position < tasks.size()) {
+                tasks.set(position, last);
+                positions.put(last.id(), position);
+            }
+        }
+    }
+
+    private static final class EndpointStats {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong ok = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, int status) {
+            latencies.add(nanos);
+            if (status >= 200 && status < 300) {
+                ok.incrementAndGet();
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        long count() {
+            return ok.get() + errors.get();
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        void reset() {
+            latencies.clear();
+            ok.set(0);
+            errors.set(0);
+        }
+    }
+}
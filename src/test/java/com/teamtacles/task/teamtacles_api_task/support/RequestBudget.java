@@ -0,0 +1,83 @@
+package com.teamtacles.task.teamtacles_api_task.support;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.teamtacles.task.teamtacles_api_task.infrastructure.metrics.RequestMetricsHeaderAdvice;
+
+/**
+ * MockMvc ResultMatcher asserting the maximum work a request may cause, read from the X-Debug-* headers
+ * written when request-metrics.debug-headers=true.
+ *
+ * Usage: mockMvc.perform(get(...)).andExpect(RequestBudget.budget().maxUserServiceCalls(4).maxSqlStatements(2));
+ * A request expected to be served from a cache can also require a minimum number of cache hits.
+ */
+public final class RequestBudget implements ResultMatcher {
+
+    private int maxUserServiceCalls = Integer.MAX_VALUE;
+    private int maxProjectServiceCalls = Integer.MAX_VALUE;
+    private int maxDownstreamCalls = Integer.MAX_VALUE;
+    private int maxSqlStatements = Integer.MAX_VALUE;
+    private int minCacheHits = 0;
+
+    private RequestBudget() {
+    }
+
+    public static RequestBudget budget() {
+        return new RequestBudget();
+    }
+
+    public RequestBudget maxUserServiceCalls(int max) {
+        this.maxUserServiceCalls = max;
+        return this;
+    }
+
+    public RequestBudget maxProjectServiceCalls(int max) {
+        this.maxProjectServiceCalls = max;
+        return this;
+    }
+
+    public RequestBudget maxDownstreamCalls(int max) {
+        this.maxDownstreamCalls = max;
+        return this;
+    }
+
+    public RequestBudget maxSqlStatements(int max) {
+        this.maxSqlStatements = max;
+        return this;
+    }
+
+    public RequestBudget minCacheHits(int min) {
+        this.minCacheHits = min;
+        return this;
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        int userCalls = header(result, RequestMetricsHeaderAdvice.USER_SERVICE_CALLS_HEADER);
+        int projectCalls = header(result, RequestMetricsHeaderAdvice.PROJECT_SERVICE_CALLS_HEADER);
+        int sqlStatements = header(result, RequestMetricsHeaderAdvice.SQL_STATEMENTS_HEADER);
+        int cacheHits = header(result, RequestMetricsHeaderAdvice.CACHE_HITS_HEADER);
+        String request = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+
+        assertTrue(userCalls <= maxUserServiceCalls,
+                request + " made " + userCalls + " user service calls, budget is " + maxUserServiceCalls);
+        assertTrue(projectCalls <= maxProjectServiceCalls,
+                request + " made " + projectCalls + " project service calls, budget is " + maxProjectServiceCalls);
+        assertTrue(userCalls + projectCalls <= maxDownstreamCalls,
+                request + " made " + (userCalls + projectCalls) + " downstream calls, budget is " + maxDownstreamCalls);
+        assertTrue(sqlStatements <= maxSqlStatements,
+                request + " executed " + sqlStatements + " SQL statements, budget is " + maxSqlStatements);
+        assertTrue(cacheHits >= minCacheHits,
+                request + " had " + cacheHits + " cache hits, expected at least " + minCacheHits);
+    }
+
+    private static int header(MvcResult result, String name) {
+        String value = result.getResponse().getHeader(name);
+        assertNotNull(value, "Missing " + name + " header - is request-metrics.debug-headers enabled?");
+        return Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,70 @@
+package com.teamtacles.task.teamtacles_api_task.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskChangeLogService;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskChangeLogServiceTest {
+
+    @Mock
+    private TaskChangeLogRepository changeLogRepository;
+
+    @InjectMocks
+    private TaskChangeLogService taskChangeLogService;
+
+    @Test
+    @DisplayName("Should number the changes of each project consecutively, projects in ID order, one entry per task")
+    @SuppressWarnings("unchecked")
+    void shouldAssignConsecutiveSequenceNumbers() {
+        TaskChangedEvent event = new TaskChangedEvent(List.of(
+                TaskChange.created(snapshot(1L, 200L)),
+                TaskChange.created(snapshot(2L, 100L)),
+                TaskChange.updated(snapshot(2L, 100L), snapshot(2L, 100L)),
+                TaskChange.deleted(snapshot(3L, 100L))));
+        when(changeLogRepository.reserve(100L, 2)).thenReturn(12L);
+        when(changeLogRepository.reserve(200L, 1)).thenReturn(1L);
+
+        taskChangeLogService.onTaskChanged(event);
+
+        InOrder order = inOrder(changeLogRepository);
+        ArgumentCaptor<List<SqlParameterSource>> rows = ArgumentCaptor.forClass(List.class);
+        order.verify(changeLogRepository).reserve(100L, 2);
+        order.verify(changeLogRepository).upsertAll(rows.capture());
+        order.verify(changeLogRepository).reserve(200L, 1);
+        order.verify(changeLogRepository).upsertAll(rows.capture());
+
+        List<SqlParameterSource> project100 = rows.getAllValues().get(0);
+        assertEquals(2L, project100.get(0).getValue("taskId"));
+        assertEquals(11L, project100.get(0).getValue("changeSeq"));
+        assertEquals("UPDATED", project100.get(0).getValue("changeType"));
+        assertEquals(3L, project100.get(1).getValue("taskId"));
+        assertEquals(12L, project100.get(1).getValue("changeSeq"));
+        assertEquals("DELETED", project100.get(1).getValue("changeType"));
+        assertEquals(1L, rows.getAllValues().get(1).get(0).getValue("changeSeq"));
+    }
+
+    private static TaskSnapshot snapshot(Long taskId, Long projectId) {
+        return new TaskSnapshot(taskId, projectId, "Task", null, LocalDateTime.now(), Status.TODO, 1L, List.of(1L));
+    }
+}
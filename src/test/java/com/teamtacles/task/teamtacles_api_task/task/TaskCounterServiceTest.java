@@ -0,0 +1,116 @@
+package com.teamtacles.task.teamtacles_api_task.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskStatusCountsDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskCounterService;
+import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.ProjectTaskCounterEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.ProjectTaskCounterRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCounterServiceTest {
+
+    @Mock
+    private ProjectTaskCounterRepository counterRepository;
+
+    @InjectMocks
+    private TaskCounterService taskCounterService;
+
+    @Test
+    @DisplayName("Should move the project and responsible counters from the old to the new status")
+    void shouldMoveCountersOnStatusChange() {
+        TaskSnapshot before = snapshot(1L, Status.TODO, List.of(2L, 3L, 2L));
+        TaskSnapshot after = snapshot(1L, Status.DONE, List.of(2L, 3L, 2L));
+
+        taskCounterService.onTaskChanged(TaskChangedEvent.of(TaskChange.statusChanged(before, after)));
+
+        verify(counterRepository).applyDeltas(List.of(
+                delta(0L, "TODO", -1L), delta(0L, "DONE", 1L),
+                delta(2L, "TODO", -1L), delta(2L, "DONE", 1L),
+                delta(3L, "TODO", -1L), delta(3L, "DONE", 1L)));
+    }
+
+    @Test
+    @DisplayName("Should not touch counters when an update keeps status and responsibles")
+    void shouldSkipUnchangedCounters() {
+        TaskSnapshot before = snapshot(1L, Status.TODO, List.of(2L));
+        TaskSnapshot after = snapshot(1L, Status.TODO, List.of(2L));
+
+        taskCounterService.onTaskChanged(TaskChangedEvent.of(TaskChange.updated(before, after)));
+
+        verify(counterRepository, never()).applyDeltas(any());
+    }
+
+    @Test
+    @DisplayName("Should aggregate the deltas of a bulk delete per counter")
+    void shouldAggregateBulkDelete() {
+        TaskChangedEvent event = new TaskChangedEvent(List.of(
+                TaskChange.deleted(snapshot(1L, Status.TODO, List.of(2L))),
+                TaskChange.deleted(snapshot(2L, Status.TODO, List.of(2L)))));
+
+        taskCounterService.onTaskChanged(event);
+
+        verify(counterRepository).applyDeltas(List.of(delta(0L, "TODO", -2L), delta(2L, "TODO", -2L)));
+    }
+
+    @Test
+    @DisplayName("Should keep counting archived tasks")
+    void shouldSkipArchivedTasks() {
+        taskCounterService.onTaskChanged(TaskChangedEvent.of(TaskChange.archived(snapshot(1L, Status.DONE, List.of(2L)))));
+
+        verify(counterRepository, never()).applyDeltas(any());
+    }
+
+    @Test
+    @DisplayName("Should report every status, with zero for statuses without a counter")
+    void shouldFillMissingStatuses() {
+        when(counterRepository.findByProjectIdAndUserId(100L, 0L))
+                .thenReturn(List.of(new ProjectTaskCounterEntity(100L, 0L, Status.TODO, 4L)));
+
+        TaskStatusCountsDTO counts = taskCounterService.getCounts(100L, null);
+
+        assertEquals(4L, counts.getCounts().get(Status.TODO));
+        assertEquals(0L, counts.getCounts().get(Status.DONE));
+        assertEquals(4L, counts.getTotal());
+    }
+
+    @Test
+    @DisplayName("Should lock the counters before recomputing them")
+    void shouldLockCountersBeforeRepair() {
+        taskCounterService.repairCounters();
+
+        InOrder order = inOrder(counterRepository);
+        order.verify(counterRepository).lockCountersForRepair();
+        order.verify(counterRepository).deleteAllCounters();
+        order.verify(counterRepository).insertProjectCountsFromTasks();
+        order.verify(counterRepository).insertUserCountsFromTasks();
+    }
+
+    private static ProjectTaskCounterRepository.CounterDelta delta(Long userId, String status, long delta) {
+        return new ProjectTaskCounterRepository.CounterDelta(100L, userId, status, delta);
+    }
+
+    private static TaskSnapshot snapshot(Long id, Status status, List<Long> responsibles) {
+        return new TaskSnapshot(id, 100L, "Task", null, LocalDateTime.now(), status, 2L, responsibles);
+    }
+}
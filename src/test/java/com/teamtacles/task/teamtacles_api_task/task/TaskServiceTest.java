@@ -1,20 +1,45 @@
 package com.teamtacles.task.teamtacles_api_task.task;
+import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskBulkStatusRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.request.TaskRequestPatchDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.PagedResponse;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskBulkStatusOutcomeDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskBulkStatusResultDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.ProjectResponseFilteredDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskResponseFilteredDTO;
 import com.teamtacles.task.teamtacles_api_task.application.dto.response.UserResponseDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskBoardDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskStatusCountsDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskChangesDTO;
+import com.teamtacles.task.teamtacles_api_task.application.dto.response.TaskSuggestionDTO;
+import com.teamtacles.task.teamtacles_api_task.application.event.ChangeType;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChange;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskChangedEvent;
+import com.teamtacles.task.teamtacles_api_task.application.event.TaskSnapshot;
+import com.teamtacles.task.teamtacles_api_task.application.export.TaskExportService;
+import com.teamtacles.task.teamtacles_api_task.application.imports.TaskImportService;
+import com.teamtacles.task.teamtacles_api_task.application.index.HotProjectTaskIndex;
+import com.teamtacles.task.teamtacles_api_task.application.index.TaskTitleSuggestIndex;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskChangeLogService;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskJsonFragmentCache;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskSearchCache;
+import com.teamtacles.task.teamtacles_api_task.application.stream.TaskStreamService;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskChangeLogRepository;
 import com.teamtacles.task.teamtacles_api_task.application.service.ProjectServiceClient;
+import com.teamtacles.task.teamtacles_api_task.application.service.TaskCounterService;
 import com.teamtacles.task.teamtacles_api_task.application.service.TaskService;
 import com.teamtacles.task.teamtacles_api_task.application.service.UserServiceClient;
 import com.teamtacles.task.teamtacles_api_task.domain.model.enums.Status;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.exception.ResourceNotFoundException;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.mapper.PagedResponseMapper;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.persistence.entity.TaskEntity;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskArchiveRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBoardRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskBulkStatusRepository;
 import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskRepository;
+import com.teamtacles.task.teamtacles_api_task.infrastructure.repository.TaskTextSearchRepository;
 
 import org.checkerframework.checker.units.qual.A;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,19 +48,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,8 +84,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import java.util.function.Function;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,9 +97,6 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
-
     @Mock
     private PagedResponseMapper pagedResponseMapper;    
 
@@ -67,6 +106,52 @@ public class TaskServiceTest {
     @Mock
     ProjectServiceClient projectServiceClient;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    TaskCounterService taskCounterService;
+
+    @Mock
+    TaskBoardRepository taskBoardRepository;
+
+    @Mock
+    TaskExportService taskExportService;
+
+    @Mock
+    TaskImportService taskImportService;
+
+    @Mock
+    TaskChangeLogService taskChangeLogService;
+
+    @Mock
+    TaskStreamService taskStreamService;
+
+    @Spy
+    TaskSearchCache taskSearchCache = new TaskSearchCache(100, Duration.ofMinutes(1), Duration.ZERO, new SimpleMeterRegistry());
+
+    @Mock
+    HotProjectTaskIndex hotProjectTaskIndex;
+
+    @Mock
+    TaskTextSearchRepository taskTextSearchRepository;
+
+    @Mock
+    TaskTitleSuggestIndex taskTitleSuggestIndex;
+
+    @Mock
+    TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    TaskBulkStatusRepository taskBulkStatusRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Spy
+    TaskJsonFragmentCache taskJsonFragmentCache = new TaskJsonFragmentCache(new ObjectMapper().findAndRegisterModules(),
+            DataSize.ofMegabytes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private TaskService taskService;
 
@@ -146,11 +231,9 @@ public class TaskServiceTest {
         when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto); // Simula retorno para o dono
         when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto); // Simula retorno para o responsável
 
-        when(modelMapper.map(any(TaskRequestDTO.class), eq(TaskEntity.class))).thenReturn(new TaskEntity());
         when(taskRepository.save(any(TaskEntity.class))).thenReturn(existingTaskEntity); // Retorna a entidade mockada do setUp
 
         
-        when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
 
         // ACT 
         TaskResponseDTO actualResponseDTO = taskService.createTask(projectId, requestDTO, ownerId, userRoles, fakeToken);
@@ -272,7 +355,6 @@ public class TaskServiceTest {
     
     when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
 
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
@@ -300,7 +382,6 @@ public class TaskServiceTest {
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
 
-        when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
         when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto); // Para o dono
         when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto); // Para o responsável
 
@@ -324,7 +405,6 @@ public class TaskServiceTest {
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
 
-        when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
         when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
         when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
 
@@ -354,7 +434,6 @@ public class TaskServiceTest {
             taskService.getTasksById(projectId, nonexistentTaskId, requesterId, userRoles, fakeToken);
         });
 
-        verify(modelMapper, never()).map(any(), any());
         verify(userServiceClient, never()).getUserById(anyLong(), anyString());
         verify(projectServiceClient, never()).getProjectById(anyLong(), anyString());
     }
@@ -376,7 +455,6 @@ public class TaskServiceTest {
 
         assertTrue(exception.getMessage().contains("does not belong to project with ID"));
 
-        verify(modelMapper, never()).map(any(), any());
         verify(userServiceClient, never()).getUserById(anyLong(), anyString());
     }
 
@@ -397,10 +475,30 @@ public class TaskServiceTest {
 
         assertTrue(exception.getMessage().contains("FORBIDDEN - You do not have permission to access this task."));
 
-        verify(modelMapper, never()).map(any(), any());
         verify(userServiceClient, never()).getUserById(anyLong(), anyString());
     }
 
+    @Test
+    @DisplayName("2.7: Owner should get a task whose responsibles were all removed")
+    void getTasksById_shouldReturnTask_whenTaskHasNoResponsibles() {
+        //  ARRANGE 
+        Long projectId = 100L;
+        Long taskId = 1L;
+        Long ownerId = 2L;
+        existingTaskEntity.setResponsibleUserIds(new ArrayList<>()); // PUT com lista vazia de responsáveis
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
+        when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
+
+        //  ACT 
+        TaskResponseDTO actualResponseDTO = taskService.getTasksById(projectId, taskId, ownerId, userRoles, fakeToken);
+
+        //  ASSERT 
+        assertNotNull(actualResponseDTO);
+        assertTrue(actualResponseDTO.getUsersResponsability().isEmpty());
+        assertThrows(AccessDeniedException.class, () -> taskService.getTasksById(projectId, taskId, 3L, userRoles, fakeToken));
+    }
+
 
     @Test
     @DisplayName("3.1: Admin should get all tasks for a specific user in a specific project")
@@ -563,13 +661,11 @@ void getAllTasksFiltered_shouldReturnAllTasks_whenAdminAndNoFilters() {
     Long adminId = 1L; // ID do adminUserDto
     List<TaskEntity> tasksFromRepo = List.of(existingTaskEntity);
     Page<TaskEntity> taskPageFromRepo = new PageImpl<>(tasksFromRepo, pageable, tasksFromRepo.size());
-    when(taskRepository.findTasksFiltered(null, null, null, pageable))
+    when(taskRepository.findTasksFiltered(null, null, null, null, pageable))
         .thenReturn(taskPageFromRepo);
     when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto); // Dono da tarefa
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto); // Responsável
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseFilteredDTO.class))).thenReturn(new TaskResponseFilteredDTO());
-when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new ProjectResponseFilteredDTO());
 
     // ACT 
     PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
@@ -580,10 +676,10 @@ when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new Proje
     assertNotNull(actualPagedResponse, "PagedResponse should not be null.");
     assertEquals(1, actualPagedResponse.getTotalElements(), "Total elements should match.");
     assertFalse(actualPagedResponse.getContent().isEmpty(), "Content should not be empty.");
-    verify(taskRepository, times(1)).findTasksFiltered(null, null, null, pageable);
+    verify(taskRepository, times(1)).findTasksFiltered(null, null, null, null, pageable);
     verify(projectServiceClient, times(1)).getProjectById(anyLong(), anyString());
     verify(userServiceClient, times(2)).getUserById(anyLong(), anyString()); 
-    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), anyLong(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), anyLong(), any(Pageable.class));
 }
 
 @Test
@@ -598,15 +694,13 @@ void getAllTasksFiltered_shouldReturnFilteredTasks_whenAdminAndAllFiltersApplied
     Long projectIdFilter = 100L;
     List<TaskEntity> tasksFromRepo = List.of(existingTaskEntity);
     Page<TaskEntity> taskPageFromRepo = new PageImpl<>(tasksFromRepo, pageable, tasksFromRepo.size());
-    when(taskRepository.findTasksFiltered(expectedStatusEnum, dueDateFilter, projectIdFilter, pageable))
+    when(taskRepository.findTasksFiltered(expectedStatusEnum, null, dueDateFilter, projectIdFilter, pageable))
         .thenReturn(taskPageFromRepo);
 
     when(projectServiceClient.getProjectById(eq(100L), anyString())).thenReturn(testProjectDto);
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
     
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseFilteredDTO.class))).thenReturn(new TaskResponseFilteredDTO());
-    when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new ProjectResponseFilteredDTO());
 
 
     // ACT 
@@ -618,7 +712,7 @@ void getAllTasksFiltered_shouldReturnFilteredTasks_whenAdminAndAllFiltersApplied
     assertNotNull(actualPagedResponse, "PagedResponse should not be null.");
     assertEquals(1, actualPagedResponse.getTotalElements());
     verify(projectServiceClient, times(2)).getProjectById(projectIdFilter, fakeToken);
-    verify(taskRepository, times(1)).findTasksFiltered(expectedStatusEnum, dueDateFilter, projectIdFilter, pageable);
+    verify(taskRepository, times(1)).findTasksFiltered(expectedStatusEnum, null, dueDateFilter, projectIdFilter, pageable);
     verify(projectServiceClient, times(2)).getProjectById(anyLong(), anyString());
     verify(userServiceClient, times(2)).getUserById(anyLong(), anyString());
 }
@@ -641,8 +735,8 @@ void getAllTasksFiltered_shouldThrowResourceNotFoundException_whenAdminFiltersBy
         );
     });
 
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
-    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), anyLong(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), anyLong(), any(Pageable.class));
     
     verify(projectServiceClient, times(1)).getProjectById(nonExistentProjectId, fakeToken);
 }
@@ -664,8 +758,8 @@ void getAllTasksFiltered_shouldThrowIllegalArgumentException_whenAdminFiltersByI
 
     assertTrue(exception.getMessage().contains("Invalid status value: " + invalidStatusString));
     verify(projectServiceClient, never()).getProjectById(anyLong(), anyString());
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
-    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), anyLong(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), anyLong(), any(Pageable.class));
     verify(pagedResponseMapper, never()).toPagedResponse(any(Page.class), any(java.util.function.Function.class));
 }
 
@@ -678,15 +772,13 @@ void getAllTasksFiltered_shouldReturnUserTasks_whenNormalUserAndNoFilters() {
 
     List<TaskEntity> tasksFromRepo = List.of(existingTaskEntity);
     Page<TaskEntity> taskPageFromRepo = new PageImpl<>(tasksFromRepo, pageable, tasksFromRepo.size());
-    when(taskRepository.findTasksFilteredByUser(null, null, null, normalUserId, pageable))
+    when(taskRepository.findTasksFilteredByUser(null, null, null, null, normalUserId, pageable))
         .thenReturn(taskPageFromRepo);
 
     when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseFilteredDTO.class))).thenReturn(new TaskResponseFilteredDTO());
-    when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new ProjectResponseFilteredDTO());
 
     // ACT 
     PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
@@ -699,9 +791,9 @@ void getAllTasksFiltered_shouldReturnUserTasks_whenNormalUserAndNoFilters() {
 
     verify(projectServiceClient, times(1)).getProjectById(anyLong(), anyString()); // Chamado apenas no enriquecimento
 
-    verify(taskRepository, times(1)).findTasksFilteredByUser(null, null, null, normalUserId, pageable);
+    verify(taskRepository, times(1)).findTasksFilteredByUser(null, null, null, null, normalUserId, pageable);
     
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
 }
 
 
@@ -718,12 +810,10 @@ void getAllTasksFiltered_shouldReturnUserTasksForSpecificProject_whenNormalUserF
 
     List<TaskEntity> tasksFromRepo = List.of(existingTaskEntity);
     Page<TaskEntity> taskPageFromRepo = new PageImpl<>(tasksFromRepo, pageable, tasksFromRepo.size());
-    when(taskRepository.findTasksFilteredByUser(null, null, projectIdFilter, normalUserId, pageable))
+    when(taskRepository.findTasksFilteredByUser(null, null, null, projectIdFilter, normalUserId, pageable))
         .thenReturn(taskPageFromRepo);
 
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseFilteredDTO.class))).thenReturn(new TaskResponseFilteredDTO());
-    when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new ProjectResponseFilteredDTO());
 
     // ACT 
     PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
@@ -737,9 +827,9 @@ void getAllTasksFiltered_shouldReturnUserTasksForSpecificProject_whenNormalUserF
 
     verify(projectServiceClient, times(2)).getProjectById(anyLong(), anyString()); // 1 na validação, 1 no enriquecimento
     
-    verify(taskRepository, times(1)).findTasksFilteredByUser(null, null, projectIdFilter, normalUserId, pageable);
+    verify(taskRepository, times(1)).findTasksFilteredByUser(null, null, null, projectIdFilter, normalUserId, pageable);
     
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
 }
 
 @Test
@@ -761,8 +851,8 @@ void getAllTasksFiltered_shouldThrowAccessDeniedException_whenNormalUserFiltersB
 
     assertEquals("You do not have permission to access this project.", exception.getMessage());
 
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
-    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), anyLong(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), anyLong(), any(Pageable.class));
     
     verify(projectServiceClient, times(1)).getProjectById(projectIdFilter, fakeToken);
     verify(userServiceClient, times(1)).getUserById(unauthorizedUserId, fakeToken);
@@ -779,15 +869,13 @@ void getAllTasksFiltered_shouldReturnUserTasksFilteredByStatus_whenNormalUserFil
 
     List<TaskEntity> tasksFromRepo = List.of(existingTaskEntity);
     Page<TaskEntity> taskPageFromRepo = new PageImpl<>(tasksFromRepo, pageable, tasksFromRepo.size());
-    when(taskRepository.findTasksFilteredByUser(eq(expectedStatusEnum), isNull(), isNull(), eq(normalUserId), eq(pageable)))
+    when(taskRepository.findTasksFilteredByUser(eq(expectedStatusEnum), isNull(), isNull(), isNull(), eq(normalUserId), eq(pageable)))
         .thenReturn(taskPageFromRepo);
 
     when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseFilteredDTO.class))).thenReturn(new TaskResponseFilteredDTO());
-    when(modelMapper.map(any(ProjectResponseDTO.class), any())).thenReturn(new ProjectResponseFilteredDTO());
 
     //  ACT 
     PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
@@ -800,9 +888,9 @@ void getAllTasksFiltered_shouldReturnUserTasksFilteredByStatus_whenNormalUserFil
 
     verify(projectServiceClient, times(1)).getProjectById(anyLong(), anyString());
 
-    verify(taskRepository, times(1)).findTasksFilteredByUser(expectedStatusEnum, null, null, normalUserId, pageable);
+    verify(taskRepository, times(1)).findTasksFilteredByUser(expectedStatusEnum, null, null, null, normalUserId, pageable);
 
-    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
+    verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
 }
 
 @Test
@@ -819,7 +907,6 @@ void updateStatus_shouldUpdateStatus_whenUserIsOwner() {
     when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
     when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
     when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto, responsibleUserDto);
 
 
@@ -854,7 +941,6 @@ void updateStatus_shouldUpdateStatus_whenUserIsResponsible() {
     when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
     when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
     when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto, responsibleUserDto);
 
     // ACT 
@@ -957,17 +1043,16 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
 
     TaskRequestDTO requestDTO = new TaskRequestDTO();
     requestDTO.setTitle("Updated Title by Owner");
+    requestDTO.setDueDate(LocalDateTime.now().plusDays(10));
     requestDTO.setUsersResponsability(List.of(newResponsibleId));
 
     when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
 
     when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
 
-    doNothing().when(modelMapper).map(any(TaskRequestDTO.class), any(TaskEntity.class));
 
     when(taskRepository.save(any(TaskEntity.class))).thenReturn(existingTaskEntity);
 
-    when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
     when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
 
     //  Act
@@ -993,13 +1078,12 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
 
         TaskRequestDTO requestDTO = new TaskRequestDTO();
         requestDTO.setTitle("Updated by Responsible");
+        requestDTO.setDueDate(LocalDateTime.now().plusDays(10));
         requestDTO.setUsersResponsability(List.of(newResponsibleId));
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
         when(userServiceClient.getUserById(eq(newResponsibleId), anyString())).thenReturn(otherUserDto);
         when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(modelMapper).map(any(TaskRequestDTO.class), any(TaskEntity.class));
-        when(modelMapper.map(any(TaskEntity.class), eq(TaskResponseDTO.class))).thenReturn(new TaskResponseDTO());
         when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
 
         // Act
@@ -1014,6 +1098,35 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
         verify(userServiceClient, times(3)).getUserById(anyLong(), anyString()); 
     }
 
+    @Test
+    @DisplayName("6.9: Repeated responsibles should be looked up and stored once, in ID order")
+    void updateTask_shouldStoreResponsiblesOnce_whenRepeatedInRequest() {
+        // Arrange
+        Long taskId = 1L;
+        Long projectId = 100L;
+        Long ownerId = 2L;
+        TaskRequestDTO requestDTO = new TaskRequestDTO();
+        requestDTO.setTitle("Deduplicated");
+        requestDTO.setDueDate(LocalDateTime.now().plusDays(10));
+        requestDTO.setUsersResponsability(List.of(4L, 3L, 4L));
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
+        when(userServiceClient.getUserById(eq(3L), anyString())).thenReturn(responsibleUserDto);
+        when(userServiceClient.getUserById(eq(4L), anyString())).thenReturn(otherUserDto);
+        when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
+        when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        taskService.updateTask(projectId, taskId, requestDTO, ownerId, userRoles, fakeToken);
+
+        // Assert
+        ArgumentCaptor<TaskEntity> taskCaptor = ArgumentCaptor.forClass(TaskEntity.class);
+        verify(taskRepository).save(taskCaptor.capture());
+        assertEquals(List.of(3L, 4L), taskCaptor.getValue().getResponsibleUserIds());
+        // 1 consulta por responsável distinto antes da gravação, e mais 1 por usuário na resposta
+        verify(userServiceClient, times(2)).getUserById(eq(4L), anyString());
+    }
+
     @Test
     @DisplayName("6.4: Should throw AccessDeniedException when unauthorized user tries to update task")
     void updateTask_shouldThrowAccessDeniedException_whenUserIsUnauthorized() {
@@ -1034,6 +1147,27 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
         verify(taskRepository, never()).save(any(TaskEntity.class));
     }
 
+    @Test
+    @DisplayName("6.8: Should deny an unauthorized update before looking up any responsible user")
+    void updateTask_shouldNotLookUpUsers_whenUserIsUnauthorized() {
+        // Arrange
+        Long taskId = 1L;
+        Long projectId = 100L;
+        Long unauthorizedUserId = 4L;
+        TaskRequestDTO requestDTO = new TaskRequestDTO();
+        requestDTO.setTitle("Probe");
+        requestDTO.setUsersResponsability(List.of(888L, 889L));
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
+
+        // Act & Assert: 403, não 404, mesmo com IDs de usuário inexistentes
+        assertThrows(AccessDeniedException.class, () -> {
+            taskService.updateTask(projectId, taskId, requestDTO, unauthorizedUserId, userRoles, fakeToken);
+        });
+        verify(userServiceClient, never()).getUserById(anyLong(), anyString());
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+    }
+
     @Test
     @DisplayName("6.5: Should throw ResourceNotFoundException when task to update is not found")
     void updateTask_shouldThrowResourceNotFoundException_whenTaskNotFound() {
@@ -1085,6 +1219,8 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
         assertThrows(ResourceNotFoundException.class, () -> {
             taskService.updateTask(projectId, taskId, requestDTO, adminUserDto.getUserId(), adminRoles, fakeToken);
         });
+        // os usuários são validados fora da transação de escrita: a tarefa só foi lida para checar o acesso
+        verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, never()).save(any(TaskEntity.class));
     }
 
@@ -1179,11 +1315,524 @@ void updateTask_shouldUpdateDetails_whenUserIsOwner() {
             taskService.deleteTask(differentProjectId, taskId, adminUserDto.getUserId(), adminRoles);
         });
     }
-}
 
+    @Test
+    @DisplayName("8.1: Should publish a status change event with the state before and after the update")
+    void updateStatus_shouldPublishStatusChangedEvent() {
+        // Arrange
+        Long taskId = 1L;
+        Long projectId = 100L;
+        TaskRequestPatchDTO patchDTO = new TaskRequestPatchDTO();
+        patchDTO.setStatus(Optional.of(Status.DONE));
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTaskEntity));
+        when(taskRepository.save(existingTaskEntity)).thenReturn(existingTaskEntity);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+
+        // Act
+        taskService.updateStatus(projectId, taskId, patchDTO, 2L, userRoles, fakeToken);
+
+        // Assert
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TaskChangedEvent event = eventCaptor.getValue();
+        assertEquals(1, event.changes().size());
+        assertEquals(ChangeType.STATUS_CHANGED, event.changes().get(0).type());
+        assertEquals(Status.INPROGRESS, event.changes().get(0).before().status());
+        assertEquals(Status.DONE, event.changes().get(0).after().status());
+    }
+
+    @Test
+    @DisplayName("8.2: Should publish one event with every task removed by a bulk delete")
+    void deleteAllTasksFromProject_shouldPublishSingleEvent() {
+        // Arrange
+        TaskEntity secondTask = new TaskEntity(2L, "Second", null, LocalDateTime.now(), Status.TODO, 2L, List.of(2L), 100L);
+        when(taskRepository.findTasksByProjectId(100L)).thenReturn(List.of(existingTaskEntity, secondTask));
+
+        // Act
+        taskService.deleteAllTasksFromProject(100L, adminUserDto.getUserId(), adminRoles);
+
+        // Assert
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(2, eventCaptor.getValue().changes().size());
+        assertTrue(eventCaptor.getValue().changes().stream().allMatch(change -> change.type() == ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("8.3: Should deny per-user counts of another user to non-admins")
+    void getTaskStatusCounts_shouldThrowAccessDenied_whenRequestingAnotherUsersCounts() {
+        // Arrange
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> {
+            taskService.getTaskStatusCounts(100L, 3L, 2L, userRoles, fakeToken);
+        });
+        verify(taskCounterService, never()).getCounts(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("8.4: Should return the project counts to a project member")
+    void getTaskStatusCounts_shouldReturnCounts_whenUserIsProjectMember() {
+        // Arrange
+        TaskStatusCountsDTO counts = new TaskStatusCountsDTO(100L, null, Map.of(Status.TODO, 3L), 3L);
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+        when(taskCounterService.getCounts(100L, null)).thenReturn(counts);
+
+        // Act
+        TaskStatusCountsDTO result = taskService.getTaskStatusCounts(100L, null, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals(3L, result.getTotal());
+        verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("9.1: Should fetch every user referenced on the board only once")
+    void getBoard_shouldFetchEachReferencedUserOnce() {
+        // Arrange
+        TaskEntity todo = new TaskEntity(1L, "Todo", null, LocalDateTime.now(), Status.TODO, 2L, List.of(2L, 3L), 100L);
+        TaskEntity done = new TaskEntity(2L, "Done", null, LocalDateTime.now(), Status.DONE, 3L, List.of(2L, 3L), 100L);
+        Map<Status, TaskBoardRepository.Column> board = new EnumMap<>(Status.class);
+        board.put(Status.TODO, new TaskBoardRepository.Column(5L, List.of(todo)));
+        board.put(Status.INPROGRESS, new TaskBoardRepository.Column(0L, List.of()));
+        board.put(Status.DONE, new TaskBoardRepository.Column(1L, List.of(done)));
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(taskBoardRepository.findBoard(100L, 20, null)).thenReturn(board);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+        when(userServiceClient.getUserById(3L, fakeToken)).thenReturn(responsibleUserDto);
+
+        // Act
+        TaskBoardDTO result = taskService.getBoard(100L, 20, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertEquals(3, result.getColumns().size());
+        assertEquals(5L, result.getColumns().get(0).getTotal());
+        assertEquals("responsibleuser", result.getColumns().get(2).getTasks().get(0).getOwner().getUserName());
+        verify(userServiceClient, times(1)).getUserById(2L, fakeToken);
+        verify(userServiceClient, times(1)).getUserById(3L, fakeToken);
+    }
+
+    @Test
+    @DisplayName("9.2: Should restrict the board of a regular user to their tasks and cap the column size")
+    void getBoard_shouldScopeRegularUsersAndCapColumnSize() {
+        // Arrange
+        Map<Status, TaskBoardRepository.Column> board = new EnumMap<>(Status.class);
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+        when(taskBoardRepository.findBoard(100L, TaskService.MAX_BOARD_COLUMN_SIZE, 2L)).thenReturn(board);
+
+        // Act
+        TaskBoardDTO result = taskService.getBoard(100L, 1000, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertTrue(result.getColumns().isEmpty());
+        verify(taskBoardRepository).findBoard(100L, TaskService.MAX_BOARD_COLUMN_SIZE, 2L);
+    }
+
+    @Test
+    @DisplayName("10.1: Should return changed tasks with tombstones and advance the cursor")
+    void getChanges_shouldReturnTombstonesAndNextCursor() {
+        // Arrange
+        TaskEntity updated = new TaskEntity(1L, "Updated", null, LocalDateTime.now(), Status.DONE, 2L, new ArrayList<>(List.of(2L)), 100L);
+        List<TaskChangeLogRepository.Entry> entries = List.of(
+                new TaskChangeLogRepository.Entry(1L, 11L, "UPDATED", LocalDateTime.now(), updated),
+                new TaskChangeLogRepository.Entry(5L, 12L, "DELETED", LocalDateTime.now(), null),
+                new TaskChangeLogRepository.Entry(6L, 13L, "CREATED", LocalDateTime.now(), updated));
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(taskChangeLogService.getChangesSince(100L, 10L, 3)).thenReturn(entries);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+
+        // Act
+        TaskChangesDTO result = taskService.getChanges(100L, 10L, 2, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertEquals(2, result.getChanges().size());
+        assertTrue(result.isHasMore());
+        assertEquals(12L, result.getCursor());
+        assertFalse(result.getChanges().get(0).isDeleted());
+        assertEquals("Updated", result.getChanges().get(0).getTask().getTitle());
+        assertTrue(result.getChanges().get(1).isDeleted());
+        assertNull(result.getChanges().get(1).getTask());
+        verify(userServiceClient, times(1)).getUserById(2L, fakeToken);
+    }
+
+    @Test
+    @DisplayName("10.2: Should report tasks that left a regular user's view as tombstones")
+    void getChanges_shouldHideTasksOutsideTheUsersView() {
+        // Arrange
+        TaskEntity foreign = new TaskEntity(1L, "Foreign", null, LocalDateTime.now(), Status.TODO, 3L, new ArrayList<>(List.of(3L)), 100L);
+        when(projectServiceClient.getProjectById(100L, fakeToken)).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+        when(taskChangeLogService.getChangesSince(100L, 0L, 501)).thenReturn(
+                List.of(new TaskChangeLogRepository.Entry(1L, 4L, "UPDATED", LocalDateTime.now(), foreign)));
+
+        // Act
+        TaskChangesDTO result = taskService.getChanges(100L, 0L, 500, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertFalse(result.isHasMore());
+        assertEquals(4L, result.getCursor());
+        assertTrue(result.getChanges().get(0).isDeleted());
+        assertNull(result.getChanges().get(0).getTask());
+        verify(userServiceClient, never()).getUserById(3L, fakeToken);
+    }
+
+    @Test
+    @DisplayName("11.1: Should answer a repeated search from the cache until a task of the project changes")
+    void getAllTasksFiltered_shouldCacheUntilProjectChanges() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        Page<TaskEntity> page = new PageImpl<>(List.of(existingTaskEntity), pageable, 1);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(taskRepository.findTasksFiltered(Status.TODO, null, null, 100L, pageable)).thenReturn(page);
+
+        // Act
+        taskService.getAllTasksFiltered("todo", null, 100L, pageable, 1L, adminRoles, fakeToken);
+        PagedResponse<TaskResponseFilteredDTO> cached = taskService.getAllTasksFiltered("TODO", null, 100L, pageable, 1L, adminRoles, fakeToken);
+        taskSearchCache.onTaskChanged(TaskChangedEvent.of(TaskChange.deleted(TaskSnapshot.of(
+                new TaskEntity(99L, "Other", null, LocalDateTime.now(), Status.TODO, 2L, List.of(2L), 100L)))));
+        taskService.getAllTasksFiltered("TODO", null, 100L, pageable, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertEquals(1, cached.getTotalElements());
+        assertEquals(existingTaskEntity.getTitle(), cached.getContent().get(0).getTitle());
+        verify(taskRepository, times(2)).findTasksFiltered(Status.TODO, null, null, 100L, pageable);
+    }
+
+    @Test
+    @DisplayName("11.2: Should keep cached searches of other projects and user scopes apart")
+    void getAllTasksFiltered_shouldKeyByProjectAndUserScope() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        Page<TaskEntity> empty = new PageImpl<>(List.of(), pageable, 0);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(2L, fakeToken)).thenReturn(normalUserDto);
+        when(taskRepository.findTasksFiltered(null, null, null, 100L, pageable)).thenReturn(empty);
+        when(taskRepository.findTasksFilteredByUser(null, null, null, 100L, 2L, pageable)).thenReturn(empty);
+
+        // Act
+        taskService.getAllTasksFiltered(null, null, 100L, pageable, 1L, adminRoles, fakeToken);
+        taskService.getAllTasksFiltered(null, null, 100L, pageable, 2L, userRoles, fakeToken);
+        taskSearchCache.onTaskChanged(TaskChangedEvent.of(TaskChange.deleted(TaskSnapshot.of(
+                new TaskEntity(99L, "Other", null, LocalDateTime.now(), Status.TODO, 2L, List.of(2L), 200L)))));
+        taskService.getAllTasksFiltered(null, null, 100L, pageable, 2L, userRoles, fakeToken);
+
+        // Assert
+        verify(taskRepository, times(1)).findTasksFiltered(null, null, null, 100L, pageable);
+        verify(taskRepository, times(1)).findTasksFilteredByUser(null, null, null, 100L, 2L, pageable);
+    }
+
+    @Test
+    @DisplayName("12.1: Should reuse the JSON fragment of a task while its version is unchanged")
+    void getAllTasksFilteredAsJson_shouldReuseFragmentOfSameVersion() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        existingTaskEntity.setVersion(0L);
+        when(taskRepository.findTasksFiltered(null, null, null, null, pageable)).thenReturn(new PageImpl<>(List.of(existingTaskEntity), pageable, 1));
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+
+        // Act
+        PagedResponse<RawValue> first = taskService.getAllTasksFilteredAsJson(null, null, null, pageable, 1L, adminRoles, fakeToken);
+        PagedResponse<RawValue> second = taskService.getAllTasksFilteredAsJson(null, null, null, pageable, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertEquals(1, second.getTotalElements());
+        assertEquals(first.getContent().get(0).rawValue().toString(), second.getContent().get(0).rawValue().toString());
+        assertTrue(second.getContent().get(0).rawValue().toString().contains("\"Existing Task\""));
+        verify(projectServiceClient, times(1)).getProjectById(anyLong(), anyString());
+        verify(userServiceClient, times(2)).getUserById(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("12.2: Should serialize a task again when its version changes")
+    void getAllTasksFromUserInProjectAsJson_shouldReserializeNewVersion() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        existingTaskEntity.setVersion(0L);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(taskRepository.findByProjectIdAndResponsibleUser(100L, 2L, pageable)).thenReturn(new PageImpl<>(List.of(existingTaskEntity), pageable, 1));
+        when(pagedResponseMapper.toPagedResponse(any(Page.class), any(Function.class))).thenAnswer(invocation ->
+                new PagedResponseMapper().toPagedResponse(invocation.getArgument(0), invocation.getArgument(1)));
+
+        // Act
+        taskService.getAllTasksFromUserInProjectAsJson(pageable, 100L, 2L, 1L, adminRoles, fakeToken);
+        existingTaskEntity.setTitle("Renamed Task");
+        existingTaskEntity.setVersion(1L);
+        taskSearchCache.onTaskChanged(TaskChangedEvent.of(TaskChange.updated(TaskSnapshot.of(existingTaskEntity), TaskSnapshot.of(existingTaskEntity))));
+        PagedResponse<RawValue> renamed = taskService.getAllTasksFromUserInProjectAsJson(pageable, 100L, 2L, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertTrue(renamed.getContent().get(0).rawValue().toString().contains("\"Renamed Task\""));
+        verify(taskJsonFragmentCache, times(2)).get(any(TaskEntity.class), eq(TaskJsonFragmentCache.Expansion.TASK), any());
+    }
+
+    @Test
+    @DisplayName("13.1: Should answer a project search from the hot project index without querying the database")
+    void getAllTasksFiltered_shouldUseHotProjectIndex() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(hotProjectTaskIndex.find(100L, Status.INPROGRESS, null, null, 2L, pageable))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(existingTaskEntity), pageable, 1)));
+
+        // Act
+        PagedResponse<TaskResponseFilteredDTO> response = taskService.getAllTasksFiltered("INPROGRESS", null, 100L, pageable, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals(1, response.getTotalElements());
+        assertEquals(existingTaskEntity.getTitle(), response.getContent().get(0).getTitle());
+        verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), anyLong(), any(Pageable.class));
+        verify(taskSearchCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("14.1: Should answer a text search in relevance order, scoped to the user, bypassing the index and the cache")
+    void getAllTasksFiltered_shouldSearchTextInRelevanceOrder() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        TaskEntity otherTask = new TaskEntity(2L, "Other Task", "Description", LocalDateTime.now().plusDays(2), Status.TODO, 2L, List.of(2L), 100L);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(taskTextSearchRepository.search(List.of("report", "draft"), null, null, null, 100L, 2L, pageable))
+                .thenReturn(new TaskTextSearchRepository.Result(List.of(2L, existingTaskEntity.getId()), 7));
+        when(taskRepository.findAllById(List.of(2L, existingTaskEntity.getId()))).thenReturn(List.of(existingTaskEntity, otherTask));
+
+        // Act
+        PagedResponse<TaskResponseFilteredDTO> response = taskService.getAllTasksFiltered(null, null, null, 100L, "  Report, DRAFT report! ", false, pageable, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals(7, response.getTotalElements());
+        assertEquals(List.of("Other Task", existingTaskEntity.getTitle()),
+                response.getContent().stream().map(TaskResponseFilteredDTO::getTitle).toList());
+        verify(hotProjectTaskIndex, never()).find(any(), any(), any(), any(), any(), any());
+        verify(taskSearchCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("14.2: Should reject a search text without letters or digits")
+    void getAllTasksFiltered_shouldThrowIllegalArgumentException_whenSearchTextHasNoTerms() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getAllTasksFiltered(null, null, null, null, "&& !!", false, pageable, 1L, adminRoles, fakeToken));
+        verify(taskTextSearchRepository, never()).search(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("15.1: Should suggest only the user's tasks, capping the limit")
+    void suggestTasks_shouldScopeToUserAndCapLimit() {
+        // Arrange
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(taskTitleSuggestIndex.suggest(100L, "exi", TaskService.MAX_SUGGESTIONS, 2L))
+                .thenReturn(List.of(new TaskSuggestionDTO(1L, "Existing Task")));
+
+        // Act
+        List<TaskSuggestionDTO> suggestions = taskService.suggestTasks(100L, "exi", 500, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals(List.of(new TaskSuggestionDTO(1L, "Existing Task")), suggestions);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("15.2: Should reject a non-positive suggestion limit")
+    void suggestTasks_shouldThrowIllegalArgumentException_whenLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.suggestTasks(100L, "exi", 0, 1L, adminRoles, fakeToken));
+        verifyNoInteractions(taskTitleSuggestIndex);
+    }
+
+    @Test
+    @DisplayName("16.1: Should list a user's overdue tasks ordered by due date")
+    void getOverdueTasksAsJson_shouldScopeToUserAndSortByDueDate() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        when(taskRepository.findOverdueTasksByUser(any(LocalDateTime.class), eq(100L), eq(2L), pageableCaptor.capture()))
+                .thenReturn(new PageImpl<>(List.of(existingTaskEntity), pageable, 1));
+
+        // Act
+        PagedResponse<RawValue> response = taskService.getOverdueTasksAsJson(100L, pageable, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals(1, response.getTotalElements());
+        assertEquals(Sort.by("dueDate", "id"), pageableCaptor.getValue().getSort());
+        verify(taskRepository, never()).findOverdueTasks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("16.2: Should reject a due date range whose start is after its end")
+    void getAllTasksFiltered_shouldThrowIllegalArgumentException_whenDueRangeIsInverted() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        LocalDateTime dueTo = LocalDateTime.now();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAllTasksFiltered(
+                null, dueTo.plusDays(1), dueTo, null, null, false, pageable, 1L, adminRoles, fakeToken));
+        verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("17.1: Should find an archived task by ID")
+    void getTasksById_shouldFallBackToArchive() {
+        // Arrange
+        TaskEntity archivedTask = new TaskEntity(7L, "Archived Task", null, LocalDateTime.now().minusDays(200), Status.DONE, 2L, List.of(2L), 100L, 3L);
+        when(taskRepository.findById(7L)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findById(7L)).thenReturn(Optional.of(archivedTask));
+        when(userServiceClient.getUserById(eq(2L), anyString())).thenReturn(normalUserDto);
+
+        // Act
+        TaskResponseDTO response = taskService.getTasksById(100L, 7L, 2L, userRoles, fakeToken);
+
+        // Assert
+        assertEquals("Archived Task", response.getTitle());
+    }
+
+    @Test
+    @DisplayName("17.2: Should search the archive too when asked, in the order of the combined query")
+    void getAllTasksFiltered_shouldIncludeArchivedTasks() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        TaskEntity archivedTask = new TaskEntity(7L, "Archived Task", null, LocalDateTime.now().minusDays(200), Status.DONE, 2L, List.of(2L), 100L, 3L);
+        when(projectServiceClient.getProjectById(anyLong(), anyString())).thenReturn(testProjectDto);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
+        when(taskArchiveRepository.searchIncludingArchive(null, null, null, 100L, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(7L, existingTaskEntity.getId()), pageable, 2));
+        when(taskRepository.findAllById(List.of(7L, existingTaskEntity.getId()))).thenReturn(List.of(existingTaskEntity));
+        when(taskArchiveRepository.findAllById(List.of(7L))).thenReturn(List.of(archivedTask));
+
+        // Act
+        PagedResponse<TaskResponseFilteredDTO> response = taskService.getAllTasksFiltered(null, null, null, 100L, null, true, pageable, 1L, adminRoles, fakeToken);
+
+        // Assert
+        assertEquals(2, response.getTotalElements());
+        assertEquals(List.of("Archived Task", existingTaskEntity.getTitle()),
+                response.getContent().stream().map(TaskResponseFilteredDTO::getTitle).toList());
+        verify(hotProjectTaskIndex, never()).find(any(), any(), any(), any(), any(), any());
+        verify(taskSearchCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("17.3: Should not search the archive for open statuses nor by text")
+    void getAllTasksFiltered_shouldSkipArchive_whenStatusIsOpenOrTextIsGiven() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        when(taskRepository.findTasksFiltered(Status.TODO, null, null, null, pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        // Act & Assert
+        taskService.getAllTasksFiltered("TODO", null, null, null, null, true, pageable, 1L, adminRoles, fakeToken);
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getAllTasksFiltered(null, null, null, null, "report", true, pageable, 1L, adminRoles, fakeToken));
+        verifyNoInteractions(taskArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("18.1: Should update the allowed tasks in bulk and report every requested ID")
+    void updateStatuses_shouldReportOutcomePerTask() {
+        // Arrange
+        TaskEntity todo = new TaskEntity(1L, "Todo", null, LocalDateTime.now().plusDays(1), Status.TODO, 2L, new ArrayList<>(List.of(2L)), 100L, 4L);
+        TaskEntity done = new TaskEntity(2L, "Done", null, LocalDateTime.now().plusDays(1), Status.DONE, 2L, new ArrayList<>(List.of(2L)), 100L, 1L);
+        TaskEntity ofOther = new TaskEntity(3L, "Other", null, LocalDateTime.now().plusDays(1), Status.TODO, 5L, new ArrayList<>(List.of(5L)), 100L, 0L);
+        when(taskBulkStatusRepository.lockTasks(eq(100L), eq(Set.of(1L, 2L, 3L, 9L)), eq(2L))).thenReturn(List.of(
+                new TaskBulkStatusRepository.LockedTask(todo, true),
+                new TaskBulkStatusRepository.LockedTask(done, true),
+                new TaskBulkStatusRepository.LockedTask(ofOther, false)));
+
+        // Act
+        TaskBulkStatusResultDTO result = taskService.updateStatuses(100L,
+                new TaskBulkStatusRequestDTO(List.of(9L, 1L, 2L, 3L, 1L), Status.DONE), 2L, userRoles);
+
+        // Assert
+        assertEquals(1, result.getUpdated());
+        assertEquals(List.of(
+                new TaskBulkStatusOutcomeDTO(9L, "NOT_FOUND", null),
+                new TaskBulkStatusOutcomeDTO(1L, "UPDATED", 5L),
+                new TaskBulkStatusOutcomeDTO(2L, "UNCHANGED", 1L),
+                new TaskBulkStatusOutcomeDTO(3L, "FORBIDDEN", null)), result.getOutcomes());
+        verify(taskBulkStatusRepository).updateStatus(List.of(1L), Status.DONE);
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TaskChange change = eventCaptor.getValue().changes().get(0);
+        assertEquals(ChangeType.STATUS_CHANGED, change.type());
+        assertEquals(Status.TODO, change.before().status());
+        assertEquals(Status.DONE, change.after().status());
+        assertEquals(5L, change.after().version());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("18.2: Should neither update nor publish when no task changes, and reject empty or oversized requests")
+    void updateStatuses_shouldSkipWrites_whenNothingChanges() {
+        // Arrange
+        when(taskBulkStatusRepository.lockTasks(eq(100L), any(), isNull())).thenReturn(List.of());
+        List<Long> tooMany = LongStream.rangeClosed(1, TaskService.MAX_BULK_STATUS_TASKS + 1).boxed().toList();
+
+        // Act
+        TaskBulkStatusResultDTO result = taskService.updateStatuses(100L, new TaskBulkStatusRequestDTO(List.of(7L), Status.DONE), 1L, adminRoles);
+
+        // Assert
+        assertEquals(0, result.getUpdated());
+        assertEquals("NOT_FOUND", result.getOutcomes().get(0).getOutcome());
+        verify(taskBulkStatusRepository, never()).updateStatus(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.updateStatuses(100L, new TaskBulkStatusRequestDTO(List.of(), Status.DONE), 1L, adminRoles));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.updateStatuses(100L, new TaskBulkStatusRequestDTO(tooMany, Status.DONE), 1L, adminRoles));
+    }
+
+    @Test
+    @DisplayName("19.1: Should call the user service only after the status update commits")
+    void updateStatus_shouldEnrichAfterCommit() {
+        // Arrange
+        TaskRequestPatchDTO patchDTO = new TaskRequestPatchDTO();
+        patchDTO.setStatus(Optional.of(Status.DONE));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTaskEntity));
+        when(taskRepository.save(existingTaskEntity)).thenReturn(existingTaskEntity);
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
 
+        // Act
+        taskService.updateStatus(100L, 1L, patchDTO, 2L, userRoles, fakeToken);
 
+        // Assert
+        InOrder order = inOrder(transactionManager, taskRepository, eventPublisher, userServiceClient);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(taskRepository).save(existingTaskEntity);
+        order.verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+        order.verify(transactionManager).commit(any());
+        order.verify(userServiceClient, atLeastOnce()).getUserById(anyLong(), anyString());
+    }
 
+    @Test
+    @DisplayName("19.2: Should read the task in a read-only transaction and call the user service after it ends")
+    void getTasksById_shouldEnrichAfterReadOnlyTransaction() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTaskEntity));
+        when(userServiceClient.getUserById(anyLong(), anyString())).thenReturn(normalUserDto);
 
+        // Act
+        TaskResponseDTO result = taskService.getTasksById(100L, 1L, 2L, userRoles, fakeToken);
 
-   
\ No newline at end of file
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder order = inOrder(transactionManager, taskRepository, userServiceClient);
+        order.verify(transactionManager).getTransaction(definition.capture());
+        order.verify(taskRepository).findById(1L);
+        order.verify(transactionManager).commit(any());
+        order.verify(userServiceClient, atLeastOnce()).getUserById(anyLong(), anyString());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(existingTaskEntity.getId(), result.getId());
+    }
+}